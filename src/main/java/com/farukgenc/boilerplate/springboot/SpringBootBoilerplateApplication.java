@@ -2,6 +2,7 @@ package com.farukgenc.boilerplate.springboot;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * Spring Boot 애플리케이션 메인 클래스
@@ -14,15 +15,23 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *   <li>@ComponentScan: 컴포넌트 스캔 활성화</li>
  * </ul>
  * 
+ * <p>BufferingApplicationStartup을 등록하여 시작 단계별 소요 시간을 기록합니다.
+ * 기록된 단계는 Actuator의 /actuator/startup 엔드포인트(ADMIN 권한 필요)에서 확인할 수 있습니다.
+ * 
  * @author Faruk
  * @since 2020년 8월
  */
 @SpringBootApplication
 public class SpringBootBoilerplateApplication {
 
+	/** 시작 단계 기록 버퍼 크기 (초과한 단계는 버려짐) */
+	private static final int STARTUP_STEP_CAPACITY = 4096;
+
 	public static void main(String[] args) {
 
-		SpringApplication.run(SpringBootBoilerplateApplication.class, args);
+		final SpringApplication application = new SpringApplication(SpringBootBoilerplateApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
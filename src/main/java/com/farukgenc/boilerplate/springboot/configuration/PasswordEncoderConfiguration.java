@@ -1,5 +1,7 @@
 package com.farukgenc.boilerplate.springboot.configuration;
 
+import com.farukgenc.boilerplate.springboot.deadline.DeadlineAwarePasswordEncoder;
+import com.farukgenc.boilerplate.springboot.deadline.DeadlineProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -54,13 +56,17 @@ public class PasswordEncoderConfiguration {
 	 * return new BCryptPasswordEncoder(12); // 비용 계수 12로 증가 (더 강력하지만 느림)
 	 * }</pre>
 	 * 
+	 * <p>요청 안에서의 해시/검증은 전용 스레드에서 실행하고 요청의 남은 시간까지만 기다립니다
+	 * (DeadlineAwarePasswordEncoder 참고).
+	 * 
+	 * @param deadlineProperties 요청 마감 시간 설정 (해시 스레드 수, 대기열 크기)
 	 * @return BCryptPasswordEncoder 인스턴스
 	 */
 	@Bean
-	public BCryptPasswordEncoder encoder() {
+	public BCryptPasswordEncoder encoder(DeadlineProperties deadlineProperties) {
 		// BCryptPasswordEncoder 생성 (기본 비용 계수 10 사용)
 		// 비용 계수를 높이면 보안성은 증가하지만 해시 생성 시간도 증가함
-		return new BCryptPasswordEncoder();
+		return new DeadlineAwarePasswordEncoder(deadlineProperties.getHashingThreads(), deadlineProperties.getHashingQueueCapacity());
 	}
 
 }
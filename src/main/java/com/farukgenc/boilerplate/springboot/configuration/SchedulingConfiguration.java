@@ -0,0 +1,18 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 
+ * <p>@Scheduled 어노테이션을 사용하는 백그라운드 작업(주기적 갱신, 정리 작업 등)을 활성화합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+
+}
@@ -1,7 +1,10 @@
 package com.farukgenc.boilerplate.springboot.configuration;
 
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
 import com.farukgenc.boilerplate.springboot.security.jwt.JwtAuthenticationEntryPoint;
 import com.farukgenc.boilerplate.springboot.security.jwt.JwtAuthenticationFilter;
+import com.farukgenc.boilerplate.springboot.security.utils.PublicRouteMatcher;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +13,7 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.CorsConfigurer;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
+import org.springframework.security.config.annotation.web.configurers.LogoutConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -28,6 +32,7 @@ public class SecurityConfiguration {
 
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 	private final JwtAuthenticationEntryPoint unauthorizedHandler;
+	private final PublicRouteMatcher publicRouteMatcher;
 
 	/**
 	 * AuthenticationManager Bean 생성
@@ -48,9 +53,11 @@ public class SecurityConfiguration {
 	 * <ul>
 	 *   <li>CSRF, CORS 비활성화 (JWT 사용 시 불필요)</li>
 	 *   <li>JWT 인증 필터 추가</li>
-	 *   <li>공개 엔드포인트: /register, /login, Swagger, Actuator</li>
+	 *   <li>관리자 엔드포인트: SecurityConstants.ADMIN_ROUTES (/admin/**, /actuator/jfr/**, /actuator/startup/**, ADMIN 권한 필요)
+	 *       - 공개 경로 매처가 잘못 판단하더라도 "/actuator/**" permitAll에 가려지지 않도록 가장 먼저 검사</li>
+	 *   <li>공개 엔드포인트: SecurityConstants.PUBLIC_ROUTES (/register, /login, Swagger, Actuator)</li>
 	 *   <li>나머지 요청은 인증 필요</li>
-	 *   <li>세션 사용 안 함 (STATELESS)</li>
+	 *   <li>세션 사용 안 함 (STATELESS), 기본 로그아웃 필터 비활성화 (LogoutController에서 토큰 폐기)</li>
 	 *   <li>인증 실패 시 처리</li>
 	 * </ul>
 	 * 
@@ -66,17 +73,14 @@ public class SecurityConfiguration {
 				.csrf(CsrfConfigurer::disable)  // CSRF 비활성화 (JWT 사용 시 불필요)
 				.cors(CorsConfigurer::disable)   // CORS 비활성화 (필요시 별도 설정)
 				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)  // JWT 필터 추가
-				.authorizeHttpRequests(request -> request.requestMatchers(
-																		  "/register",      // 회원가입
-																	      "/login",         // 로그인
-																	      "/v3/api-docs/**",  // Swagger API 문서
-																          "/swagger-ui/**",   // Swagger UI
-																	      "/swagger-ui.html", // Swagger UI
-																	      "/actuator/**")     // Actuator 엔드포인트
+				.authorizeHttpRequests(request -> request.requestMatchers(SecurityConstants.ADMIN_ROUTES)  // 관리자 API, JFR 녹화, 시작 단계 기록 엔드포인트 (공개 경로보다 먼저 검사)
+													   .hasAuthority(UserRole.ADMIN.name())  // ADMIN 권한 필요
+													   .requestMatchers(publicRouteMatcher)  // 공개 경로 (JWT 필터와 동일한 매처 사용)
 													   .permitAll()        // 위 경로는 인증 없이 접근 가능
 													   .anyRequest()       // 나머지 모든 요청
 													   .authenticated())   // 인증 필요
 				.sessionManagement(manager -> manager.sessionCreationPolicy(SessionCreationPolicy.STATELESS))  // 세션 사용 안 함
+				.logout(LogoutConfigurer::disable)  // 기본 로그아웃 필터 비활성화 (/logout은 LogoutController가 처리)
 				.exceptionHandling(handler -> handler.authenticationEntryPoint(unauthorizedHandler))  // 인증 실패 시 처리
 				.build();
 
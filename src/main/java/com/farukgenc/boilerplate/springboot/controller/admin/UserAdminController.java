@@ -0,0 +1,65 @@
+package com.farukgenc.boilerplate.springboot.controller.admin;
+
+import com.farukgenc.boilerplate.springboot.dto.user.UserPageResponse;
+import com.farukgenc.boilerplate.springboot.service.user.UserAdminService;
+import com.farukgenc.boilerplate.springboot.utils.ProjectConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 관리자용 사용자 컨트롤러
+ * 
+ * <p>관리자(UserRole.ADMIN)만 접근 가능한 사용자 목록 조회 및 내보내기 API를 제공합니다.
+ * 접근 권한은 SecurityConfiguration에서 /admin/** 경로 단위로 검사합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/users")
+public class UserAdminController {
+
+	private final UserAdminService userAdminService;
+
+	/**
+	 * 사용자 목록 조회 (키셋 페이지네이션)
+	 * 
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size 페이지 크기 (기본 50, 최대 500)
+	 * @return 사용자 페이지 응답
+	 */
+	@GetMapping
+	@Operation(tags = "User Admin Service", description = "ID 커서 기반으로 사용자 목록을 페이지 단위로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+	public ResponseEntity<UserPageResponse> getUsers(@RequestParam(required = false) Long cursor,
+													 @RequestParam(defaultValue = "50") int size) {
+
+		final UserPageResponse userPageResponse = userAdminService.getUsers(cursor, size);
+		return ResponseEntity.ok(userPageResponse);
+	}
+
+	/**
+	 * 전체 사용자 내보내기 (NDJSON 스트리밍)
+	 * 
+	 * <p>응답 본문을 메모리에 모으지 않고 DB 커서에서 읽는 즉시 한 줄씩 기록합니다.
+	 * 
+	 * @param response HTTP 응답
+	 * @throws IOException 응답 기록 실패 시
+	 */
+	@GetMapping("/export")
+	@Operation(tags = "User Admin Service", description = "전체 사용자를 한 줄에 한 명씩 NDJSON 형식으로 스트리밍합니다.")
+	public void exportUsers(HttpServletResponse response) throws IOException {
+
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		response.setCharacterEncoding(ProjectConstants.DEFAULT_ENCODING);
+
+		userAdminService.exportUsers(response.getOutputStream());
+	}
+
+}
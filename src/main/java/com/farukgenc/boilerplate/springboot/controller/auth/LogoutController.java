@@ -0,0 +1,49 @@
+package com.farukgenc.boilerplate.springboot.controller.auth;
+
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueSessionStore;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Objects;
+
+/**
+ * 로그아웃 컨트롤러
+ * 
+ * <p>불투명 토큰 모드에서 현재 요청의 토큰 세션을 폐기합니다.
+ * JWT는 서버에 상태가 없어 폐기할 수 없으므로 만료 시간까지 유효합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/logout")
+public class LogoutController {
+
+	private final OpaqueSessionStore opaqueSessionStore;
+
+	/**
+	 * 로그아웃 요청 처리
+	 * 
+	 * @param header Authorization 헤더
+	 * @return HTTP 204 No Content
+	 */
+	@PostMapping
+	@Operation(tags = "Login Service", description = "현재 불투명 토큰을 즉시 폐기합니다.")
+	public ResponseEntity<Void> logoutRequest(@RequestHeader(name = SecurityConstants.HEADER_STRING, required = false) String header) {
+
+		if (Objects.nonNull(header) && header.startsWith(SecurityConstants.TOKEN_PREFIX)) {
+
+			final boolean revoked = opaqueSessionStore.revoke(header.substring(SecurityConstants.TOKEN_PREFIX.length()));
+			log.debug("Logout requested, opaque session revoked : {}", revoked);
+		}
+
+		return ResponseEntity.noContent().build();
+	}
+
+}
@@ -1,8 +1,10 @@
 package com.farukgenc.boilerplate.springboot.controller.auth;
 
 import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.dto.auth.response.AvailabilityResponse;
 import com.farukgenc.boilerplate.springboot.dto.auth.response.RegistrationResponse;
 import com.farukgenc.boilerplate.springboot.service.user.UserService;
+import com.farukgenc.boilerplate.springboot.service.user.UserValidationService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Objects;
+
 /**
  * 회원가입 컨트롤러
  * 
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class RegistrationController {
 
 	private final UserService userService;
+	private final UserValidationService userValidationService;
 
 	/**
 	 * 회원가입 요청 처리
@@ -39,4 +44,25 @@ public class RegistrationController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(registrationResponse);
 	}
 
+	/**
+	 * 사용자명/이메일 사용 가능 여부 조회
+	 * 
+	 * <p>블룸 필터가 "확실히 없음"이라고 답하면 DB를 조회하지 않고 바로 응답합니다.
+	 * 필터에 아직 반영되지 않은 사용자는 "사용 가능"으로 답할 수 있는 참고용 응답이며, 최종 확인은 회원가입 시 이루어집니다.
+	 * 
+	 * @param username 확인할 사용자명 (선택)
+	 * @param email 확인할 이메일 주소 (선택)
+	 * @return 가용성 응답 (요청한 항목만 포함)
+	 */
+	@GetMapping("/availability")
+	@Operation(tags = "Registration Service", description = "회원가입 전 사용자명 또는 이메일의 사용 가능 여부를 확인할 수 있습니다.")
+	public ResponseEntity<AvailabilityResponse> availability(@RequestParam(required = false) String username,
+															 @RequestParam(required = false) String email) {
+
+		final Boolean usernameAvailable = Objects.isNull(username) ? null : userValidationService.isUsernameAvailable(username);
+		final Boolean emailAvailable = Objects.isNull(email) ? null : userValidationService.isEmailAvailable(email);
+
+		return ResponseEntity.ok(new AvailabilityResponse(usernameAvailable, emailAvailable));
+	}
+
 }
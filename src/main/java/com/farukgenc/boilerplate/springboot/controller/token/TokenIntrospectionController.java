@@ -0,0 +1,47 @@
+package com.farukgenc.boilerplate.springboot.controller.token;
+
+import com.farukgenc.boilerplate.springboot.dto.token.TokenIntrospectionBatchRequest;
+import com.farukgenc.boilerplate.springboot.dto.token.TokenIntrospectionBatchResponse;
+import com.farukgenc.boilerplate.springboot.security.jwt.TokenIntrospectionService;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 토큰 검사 컨트롤러
+ * 
+ * <p>API 게이트웨이와 사이드카가 사용자 토큰을 일괄 검사하는 엔드포인트를 제공합니다.
+ * 사용자 JWT가 아닌 게이트웨이 공유 비밀 값(X-Introspection-Secret 헤더)으로 호출자를 확인하며,
+ * 확인은 요청 본문을 읽고 검증하기 전에 TokenIntrospectionClientInterceptor가 수행합니다 (실패 시 401).
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/token")
+public class TokenIntrospectionController {
+
+	private final TokenIntrospectionService tokenIntrospectionService;
+
+	/**
+	 * 토큰 일괄 검사
+	 * 
+	 * @param batchRequest 검사할 토큰 목록
+	 * @return 토큰별 검사 결과 (요청 순서)
+	 */
+	@PostMapping("/introspect:batch")
+	@Operation(tags = "Token Service", description = "여러 토큰의 유효 여부, 사용자명, 역할, 만료 시각, 폐기 여부를 한 번에 확인합니다.")
+	@Parameter(name = SecurityConstants.INTROSPECTION_SECRET_HEADER, in = ParameterIn.HEADER, required = true, description = "게이트웨이 공유 비밀 값")
+	public ResponseEntity<TokenIntrospectionBatchResponse> introspectBatch(@Valid @RequestBody TokenIntrospectionBatchRequest batchRequest) {
+
+		final TokenIntrospectionBatchResponse batchResponse = tokenIntrospectionService.introspect(batchRequest.getTokens());
+		return ResponseEntity.ok(batchResponse);
+	}
+
+}
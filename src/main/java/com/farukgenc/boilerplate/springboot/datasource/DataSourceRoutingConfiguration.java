@@ -0,0 +1,108 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 클래스
+ * 
+ * <p>datasource.routing.enabled=true인 경우에만 활성화되며, 다음 데이터소스를 구성합니다:
+ * <ul>
+ *   <li>primaryDataSource: 기존 spring.datasource 설정으로 만든 HikariCP 풀</li>
+ *   <li>readReplicaRoutingDataSource: 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스</li>
+ *   <li>dataSource (@Primary): 라우팅 데이터소스를 LazyConnectionDataSourceProxy로 감싼 것 (JPA가 사용)</li>
+ * </ul>
+ * 
+ * <p>비활성화 상태에서는 Spring Boot 기본 데이터소스 자동 설정이 그대로 사용됩니다.
+ * 샤딩(datasource.sharding.enabled)이 활성화되어 있으면 이 설정은 건너뛰고,
+ * ShardingConfiguration이 두 설정을 함께 사용할 수 없다는 오류로 기동을 중단합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+@ConditionalOnExpression("${datasource.routing.enabled:false} and !${datasource.sharding.enabled:false}")
+public class DataSourceRoutingConfiguration {
+
+	/** 복제본 연결 풀 이름 접두사 */
+	private static final String REPLICA_POOL_NAME_PREFIX = "SpringBootBoilerplateReplicaPool-";
+
+	/**
+	 * primary 데이터소스 (spring.datasource 설정 사용)
+	 * 
+	 * @param dataSourceProperties spring.datasource 설정
+	 * @return primary HikariDataSource
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+
+		return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * 복제본 라우팅 데이터소스
+	 * 
+	 * @param primaryDataSource primary 데이터소스
+	 * @param dataSourceRoutingProperties 라우팅 설정
+	 * @return 라우팅 데이터소스
+	 */
+	@Bean
+	public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+																	 DataSourceRoutingProperties dataSourceRoutingProperties) {
+
+		final List<DataSource> replicas = new ArrayList<>();
+		final List<DataSourceRoutingProperties.Replica> replicaProperties = dataSourceRoutingProperties.getReplicas();
+
+		for (int i = 0; i < replicaProperties.size(); i++) {
+
+			final DataSourceRoutingProperties.Replica replica = replicaProperties.get(i);
+
+			final HikariDataSource replicaDataSource = new HikariDataSource();
+			replicaDataSource.setPoolName(REPLICA_POOL_NAME_PREFIX + i);
+			replicaDataSource.setJdbcUrl(replica.getUrl());
+			replicaDataSource.setUsername(replica.getUsername());
+			replicaDataSource.setPassword(replica.getPassword());
+			replicaDataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+			replicaDataSource.setReadOnly(true);
+			// 복제본 장애 시 오래 기다리지 않고 primary로 넘어가도록 연결 대기 시간을 짧게 설정
+			replicaDataSource.setConnectionTimeout(1_000);
+			// 복제본이 꺼진 상태에서도 애플리케이션은 시작되어야 함
+			replicaDataSource.setInitializationFailTimeout(-1);
+
+			replicas.add(replicaDataSource);
+		}
+
+		return new ReadReplicaRoutingDataSource(primaryDataSource, replicas,
+				dataSourceRoutingProperties.getHealthCheckIntervalMillis(),
+				dataSourceRoutingProperties.getHealthCheckTimeoutSeconds());
+	}
+
+	/**
+	 * 애플리케이션 기본 데이터소스
+	 * 
+	 * <p>연결을 첫 SQL 실행 시점까지 미뤄서, 라우팅 데이터소스가 트랜잭션의 읽기 전용 여부를 보고
+	 * primary/복제본을 선택할 수 있도록 합니다.
+	 * 
+	 * @param readReplicaRoutingDataSource 라우팅 데이터소스
+	 * @return 지연 연결 데이터소스 프록시
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+
+		return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+	}
+
+}
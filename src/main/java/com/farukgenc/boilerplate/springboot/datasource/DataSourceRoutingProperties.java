@@ -0,0 +1,62 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(Read Replica) 라우팅 설정 프로퍼티
+ * 
+ * <p>application.yml의 datasource.routing 설정을 바인딩하는 클래스입니다.
+ * 기본(primary) 데이터소스는 기존 spring.datasource 설정을 그대로 사용합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+	/** 복제본 라우팅 사용 여부 */
+	private boolean enabled = false;
+
+	/** 복제본 목록 */
+	private List<Replica> replicas = new ArrayList<>();
+
+	/** 복제본 상태 확인 주기 (밀리초) */
+	private long healthCheckIntervalMillis = 5_000;
+
+	/** 복제본 상태 확인 시 연결 유효성 검사 제한 시간 (초) */
+	private int healthCheckTimeoutSeconds = 1;
+
+	/** 쓰기 직후 같은 사용자의 읽기를 primary로 고정하는 시간 (밀리초, 복제 지연보다 길게 설정) */
+	private long readYourWritesWindowMillis = 5_000;
+
+	/**
+	 * 복제본 연결 정보
+	 */
+	@Getter
+	@Setter
+	public static class Replica {
+
+		/** JDBC URL */
+		private String url;
+
+		/** 사용자명 */
+		private String username;
+
+		/** 비밀번호 */
+		private String password;
+
+		/** 복제본 연결 풀 최대 크기 */
+		private int maximumPoolSize = 10;
+
+	}
+
+}
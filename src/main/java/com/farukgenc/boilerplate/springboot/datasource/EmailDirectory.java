@@ -0,0 +1,90 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+/**
+ * 이메일 디렉터리
+ * 
+ * <p>샤딩을 사용할 때 이메일 고유성을 샤드 전체에서 보장하기 위해 0번 샤드의 USER_EMAIL_DIRECTORY 테이블(V3 마이그레이션)에
+ * 이메일(소문자)별 사용자명과 샤드 번호를 기록합니다. 사용자는 사용자명으로 샤드가 정해지므로
+ * 같은 이메일을 가진 사용자가 서로 다른 샤드에 저장되는 것을 각 샤드의 유일 제약 조건만으로는 막을 수 없기 때문입니다.
+ * 
+ * <p>회원가입 순서:
+ * <ul>
+ *   <li>reserve: 이메일 선점 (기본 키 충돌이면 이미 사용 중)</li>
+ *   <li>사용자 샤드에 사용자 저장</li>
+ *   <li>저장에 실패하면 release로 선점 취소</li>
+ * </ul>
+ * 선점 직후 인스턴스가 죽으면 사용자 없이 선점만 남을 수 있으며 이 경우 해당 이메일은 정리 전까지 사용할 수 없습니다 (중복 가입보다 안전한 쪽).
+ * 
+ * <p>JPA 트랜잭션과 섞이지 않도록 라우팅 데이터소스가 아닌 0번 샤드 데이터소스에 직접 자동 커밋으로 실행합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class EmailDirectory {
+
+	private static final String EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM user_email_directory WHERE email = ?)";
+
+	/** 유일 제약 조건이 기본 키(email)뿐이므로 충돌 대상을 생략 (H2 PostgreSQL 호환 모드에서도 실행되는 형태) */
+	private static final String RESERVE_SQL =
+			"INSERT INTO user_email_directory (email, username, shard, created_at) VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+	private static final String RELEASE_SQL = "DELETE FROM user_email_directory WHERE email = ? AND username = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public EmailDirectory(DataSource directoryDataSource) {
+
+		this.jdbcTemplate = new JdbcTemplate(directoryDataSource);
+	}
+
+	/**
+	 * 이메일 사용 여부 확인
+	 * 
+	 * @param email 이메일 주소
+	 * @return 사용 중이면 true
+	 */
+	public boolean exists(String email) {
+
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, normalize(email)));
+	}
+
+	/**
+	 * 이메일 선점
+	 * 
+	 * @param email 이메일 주소
+	 * @param username 가입할 사용자명
+	 * @param shard 사용자를 저장할 샤드 번호
+	 * @return 선점했으면 true, 이미 사용 중이면 false
+	 */
+	public boolean reserve(String email, String username, int shard) {
+
+		final Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC));
+
+		return jdbcTemplate.update(RESERVE_SQL, normalize(email), username, shard, now) == 1;
+	}
+
+	/**
+	 * 이메일 선점 취소 (사용자 저장에 실패한 경우)
+	 * 
+	 * @param email 이메일 주소
+	 * @param username 선점한 사용자명 (다른 사용자의 선점은 취소하지 않음)
+	 */
+	public void release(String email, String username) {
+
+		jdbcTemplate.update(RELEASE_SQL, normalize(email), username);
+	}
+
+	private static String normalize(String email) {
+
+		return email.toLowerCase(Locale.ROOT);
+	}
+
+}
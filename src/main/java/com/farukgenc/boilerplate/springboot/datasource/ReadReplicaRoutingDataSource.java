@@ -0,0 +1,208 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 라우팅 데이터소스
+ * 
+ * <p>읽기 전용 트랜잭션(@Transactional(readOnly = true))의 연결은 정상 상태인 복제본 중 하나에서,
+ * 그 외의 연결은 primary에서 가져옵니다.
+ * 
+ * <p>동작 방식:
+ * <ul>
+ *   <li>정상 복제본 사이에서 라운드 로빈으로 부하 분산</li>
+ *   <li>주기적으로 복제본 연결 유효성을 검사하여 상태(정상/장애) 갱신</li>
+ *   <li>복제본 연결 획득 실패 시 즉시 장애로 표시하고 primary로 대체</li>
+ *   <li>정상 복제본이 없거나 RoutingContext로 primary가 고정된 경우 primary 사용</li>
+ * </ul>
+ * 
+ * <p>주의: 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 후에 설정되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 연결을 가져오도록 해야 합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+	private final DataSource primary;
+
+	private final List<ReplicaNode> replicas;
+
+	private final long healthCheckIntervalMillis;
+
+	private final int healthCheckTimeoutSeconds;
+
+	private final AtomicInteger roundRobinCounter = new AtomicInteger();
+
+	private ScheduledExecutorService healthCheckExecutor;
+
+	public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long healthCheckIntervalMillis, int healthCheckTimeoutSeconds) {
+
+		this.primary = primary;
+		this.replicas = replicas.stream().map(ReplicaNode::new).toList();
+		this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+		this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (replicas.isEmpty()) {
+			log.warn("Read replica routing is enabled but no replica is configured. All connections will use the primary.");
+			return;
+		}
+
+		healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "replica-health-check");
+			thread.setDaemon(true);
+			return thread;
+		});
+		healthCheckExecutor.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+
+		if (healthCheckExecutor != null) {
+			healthCheckExecutor.shutdownNow();
+		}
+
+		for (ReplicaNode replica : replicas) {
+
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+
+		if (!shouldReadFromReplica()) {
+			return primary.getConnection();
+		}
+
+		final ReplicaNode replica = nextHealthyReplica();
+
+		if (replica == null) {
+			return primary.getConnection();
+		}
+
+		try {
+			return replica.dataSource.getConnection();
+		}
+		catch (SQLException e) {
+			replica.markDown(e);
+			return primary.getConnection();
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+
+		return primary.getConnection(username, password);
+	}
+
+	/**
+	 * 현재 정상 상태인 복제본 수
+	 * 
+	 * @return 정상 복제본 수
+	 */
+	public int getHealthyReplicaCount() {
+
+		return (int) replicas.stream().filter(replica -> replica.healthy).count();
+	}
+
+	private boolean shouldReadFromReplica() {
+
+		return !replicas.isEmpty()
+				&& TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				&& !RoutingContext.isPrimaryPinned();
+	}
+
+	private ReplicaNode nextHealthyReplica() {
+
+		final int replicaCount = replicas.size();
+		final int start = Math.floorMod(roundRobinCounter.getAndIncrement(), replicaCount);
+
+		for (int i = 0; i < replicaCount; i++) {
+
+			final ReplicaNode replica = replicas.get((start + i) % replicaCount);
+
+			if (replica.healthy) {
+				return replica;
+			}
+		}
+
+		return null;
+	}
+
+	private void checkReplicas() {
+
+		for (ReplicaNode replica : replicas) {
+
+			try (Connection connection = replica.dataSource.getConnection()) {
+
+				if (connection.isValid(healthCheckTimeoutSeconds)) {
+					replica.markUp();
+				}
+				else {
+					replica.markDown(null);
+				}
+			}
+			catch (SQLException | RuntimeException e) {
+				replica.markDown(e);
+			}
+		}
+	}
+
+	/**
+	 * 복제본 노드 (데이터소스와 상태)
+	 */
+	private static final class ReplicaNode {
+
+		private final DataSource dataSource;
+
+		/** 시작 직후에는 정상으로 가정하고, 첫 상태 확인 또는 연결 실패 시 갱신 */
+		private volatile boolean healthy = true;
+
+		private ReplicaNode(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		private void markUp() {
+
+			if (!healthy) {
+				log.info("Read replica {} is back. Routing read-only transactions to it again.", dataSource);
+			}
+
+			healthy = true;
+		}
+
+		private void markDown(Exception cause) {
+
+			if (healthy) {
+				log.warn("Read replica {} is unavailable. Falling back to other replicas or the primary. Cause : {}", dataSource,
+						cause == null ? "invalid connection" : cause.getMessage());
+			}
+
+			healthy = false;
+		}
+
+	}
+
+}
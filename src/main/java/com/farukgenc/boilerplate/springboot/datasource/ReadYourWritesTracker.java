@@ -0,0 +1,114 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 후 읽기(Read-Your-Writes) 추적기
+ * 
+ * <p>최근에 기록한 키(사용자명, 이메일 등)를 일정 시간 동안 기억하고,
+ * 그 키에 대한 읽기를 primary로 고정합니다.
+ * 회원가입 직후 로그인처럼 복제 지연 때문에 복제본에서 방금 쓴 데이터가 보이지 않는 문제를 방지합니다.
+ * 
+ * <p>기록한 키는 이 인스턴스의 메모리에만 있으므로 같은 인스턴스에서 한 쓰기만 보호합니다.
+ * 다른 인스턴스에서 가입한 직후 이 인스턴스로 들어온 로그인/중복 확인은 복제 지연 동안 복제본에서 읽으므로
+ * 방금 쓴 데이터가 보이지 않을 수 있습니다 (인스턴스 간 보장이 필요하면 로드 밸런서의 고정 세션 등을 함께 사용).
+ * 
+ * <p>복제본 라우팅이 꺼져 있으면 고정해도 항상 primary를 사용하므로 영향이 없습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+	/** 만료 항목 정리를 시작하는 최소 항목 수 */
+	private static final int CLEANUP_THRESHOLD = 10_000;
+
+	private final DataSourceRoutingProperties dataSourceRoutingProperties;
+
+	/** 키 → 고정 만료 시각 (밀리초) */
+	private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+	/**
+	 * 쓰기 기록
+	 * 
+	 * @param keys 방금 기록한 키 목록
+	 */
+	public void markWritten(String... keys) {
+
+		final long now = System.currentTimeMillis();
+		final long pinnedUntil = now + dataSourceRoutingProperties.getReadYourWritesWindowMillis();
+
+		for (String key : keys) {
+
+			if (Objects.nonNull(key)) {
+				recentWrites.put(key, pinnedUntil);
+			}
+		}
+
+		if (recentWrites.size() > CLEANUP_THRESHOLD) {
+			recentWrites.values().removeIf(expiresAt -> expiresAt < now);
+		}
+	}
+
+	/**
+	 * 최근 쓰기 여부 확인
+	 * 
+	 * @param keys 확인할 키 목록
+	 * @return 하나라도 고정 시간 안에 기록되었으면 true
+	 */
+	public boolean isRecentlyWritten(String... keys) {
+
+		if (recentWrites.isEmpty()) {
+			return false;
+		}
+
+		final long now = System.currentTimeMillis();
+
+		for (String key : keys) {
+
+			final Long pinnedUntil = Objects.isNull(key) ? null : recentWrites.get(key);
+
+			if (Objects.nonNull(pinnedUntil) && pinnedUntil >= now) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 최근 쓰기가 있었던 키이면 primary에서, 아니면 기본 라우팅으로 작업 실행
+	 * 
+	 * @param action 실행할 읽기 작업
+	 * @param keys 확인할 키 목록
+	 * @param <T> 결과 타입
+	 * @return 작업 결과
+	 */
+	public <T> T read(Supplier<T> action, String... keys) {
+
+		return isRecentlyWritten(keys) ? RoutingContext.onPrimary(action) : action.get();
+	}
+
+	/**
+	 * 최근 쓰기가 있었던 키이면 primary에서, 아니면 기본 라우팅으로 작업 실행
+	 * 
+	 * @param action 실행할 읽기 작업
+	 * @param keys 확인할 키 목록
+	 */
+	public void run(Runnable action, String... keys) {
+
+		read(() -> {
+			action.run();
+			return null;
+		}, keys);
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 데이터소스 라우팅 컨텍스트
+ * 
+ * <p>현재 스레드의 읽기를 복제본 대신 primary로 강제(고정)할지 여부를 관리합니다.
+ * 라우팅은 첫 SQL 실행 시 연결을 가져오는 시점에 결정되므로,
+ * 트랜잭션 안에서 첫 쿼리를 실행하기 전에 고정하면 해당 트랜잭션 전체가 primary를 사용합니다.
+ * 
+ * <p>유틸리티 클래스이므로 인스턴스 생성을 방지합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class RoutingContext {
+
+	/** primary 고정 여부 (스레드별) */
+	private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+	/** 인스턴스 생성 방지 */
+	private RoutingContext() {
+
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * primary 고정 상태에서 작업 실행
+	 * 
+	 * @param action 실행할 작업
+	 * @param <T> 결과 타입
+	 * @return 작업 결과
+	 */
+	public static <T> T onPrimary(Supplier<T> action) {
+
+		final Boolean previous = PRIMARY_PINNED.get();
+		PRIMARY_PINNED.set(Boolean.TRUE);
+
+		try {
+			return action.get();
+		}
+		finally {
+			if (previous == null) {
+				PRIMARY_PINNED.remove();
+			}
+			else {
+				PRIMARY_PINNED.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * primary 고정 여부 확인
+	 * 
+	 * @return primary로 고정되어 있으면 true
+	 */
+	public static boolean isPrimaryPinned() {
+
+		return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 샤드 라우팅 컨텍스트
+ * 
+ * <p>현재 스레드의 SQL을 실행할 샤드 번호를 관리합니다.
+ * 라우팅은 첫 SQL 실행 시 연결을 가져오는 시점에 결정되므로, 트랜잭션의 첫 쿼리를 실행하기 전에 지정해야 하며
+ * 한 트랜잭션 안에서는 처음 선택된 샤드를 끝까지 사용합니다 (여러 샤드에 걸친 트랜잭션은 지원하지 않음).
+ * 
+ * <p>유틸리티 클래스이므로 인스턴스 생성을 방지합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class ShardContext {
+
+	/** 현재 샤드 번호 (스레드별, 지정하지 않으면 0번 샤드) */
+	private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+	/** 인스턴스 생성 방지 */
+	private ShardContext() {
+
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * 지정한 샤드에서 작업 실행
+	 * 
+	 * @param shard 샤드 번호
+	 * @param action 실행할 작업
+	 * @param <T> 결과 타입
+	 * @return 작업 결과
+	 */
+	public static <T> T onShard(int shard, Supplier<T> action) {
+
+		final Integer previous = CURRENT_SHARD.get();
+		CURRENT_SHARD.set(shard);
+
+		try {
+			return action.get();
+		}
+		finally {
+			if (previous == null) {
+				CURRENT_SHARD.remove();
+			}
+			else {
+				CURRENT_SHARD.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * 현재 샤드 번호 조회
+	 * 
+	 * @return 지정된 샤드 번호 (지정하지 않았으면 0)
+	 */
+	public static int currentShard() {
+
+		final Integer shard = CURRENT_SHARD.get();
+		return shard == null ? 0 : shard;
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * 사용자 샤드 라우터
+ * 
+ * <p>사용자명의 CRC32C 해시를 샤드 개수로 나눈 나머지로 사용자가 저장되는 샤드를 정합니다.
+ * 해시는 JVM/인스턴스와 관계없이 같은 값이므로 모든 인스턴스가 같은 사용자를 같은 샤드로 보냅니다.
+ * 같은 사용자명은 항상 같은 샤드에 저장되므로 사용자명 고유성은 샤드의 유일 제약 조건으로 보장됩니다.
+ * 
+ * <p>샤딩을 사용하지 않으면 샤드는 하나(0번)뿐이고 모든 작업이 기존 데이터소스에서 실행됩니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Component
+public class ShardRouter {
+
+	/** 최대 샤드 수 (관리자 목록 커서에 샤드 번호를 함께 담기 위한 상한) */
+	public static final int MAX_SHARDS = 1024;
+
+	private final boolean enabled;
+
+	private final int shardCount;
+
+	public ShardRouter(ShardingProperties shardingProperties) {
+
+		this.enabled = shardingProperties.isEnabled();
+		this.shardCount = enabled ? shardingProperties.getShards().size() + 1 : 1;
+
+		if (shardCount > MAX_SHARDS) {
+			throw new IllegalStateException("At most " + MAX_SHARDS + " shards are supported, configured: " + shardCount);
+		}
+	}
+
+	/**
+	 * 샤딩 사용 여부
+	 * 
+	 * @return 사용하면 true
+	 */
+	public boolean isEnabled() {
+
+		return enabled;
+	}
+
+	/**
+	 * 샤드 수
+	 * 
+	 * @return 샤드 수 (샤딩을 사용하지 않으면 1)
+	 */
+	public int getShardCount() {
+
+		return shardCount;
+	}
+
+	/**
+	 * 사용자가 저장되는 샤드 번호
+	 * 
+	 * @param username 사용자명
+	 * @return 샤드 번호 (0 ~ 샤드 수 - 1)
+	 */
+	public int shardOf(String username) {
+
+		if (shardCount == 1) {
+			return 0;
+		}
+
+		final CRC32C crc32c = new CRC32C();
+		crc32c.update(username.getBytes(StandardCharsets.UTF_8));
+
+		return (int) (crc32c.getValue() % shardCount);
+	}
+
+	/**
+	 * 지정한 샤드에서 작업 실행
+	 * 
+	 * @param shard 샤드 번호
+	 * @param action 실행할 작업 (트랜잭션을 쓰면 이 안에서 시작하거나 첫 SQL 전에 호출해야 함)
+	 * @param <T> 결과 타입
+	 * @return 작업 결과
+	 */
+	public <T> T onShard(int shard, Supplier<T> action) {
+
+		return ShardContext.onShard(shard, action);
+	}
+
+	/**
+	 * 지정한 샤드에서 결과 없는 작업 실행
+	 * 
+	 * @param shard 샤드 번호
+	 * @param action 실행할 작업
+	 */
+	public void runOnShard(int shard, Runnable action) {
+
+		ShardContext.onShard(shard, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 사용자가 저장된 샤드에서 작업 실행
+	 * 
+	 * @param username 사용자명
+	 * @param action 실행할 작업
+	 * @param <T> 결과 타입
+	 * @return 작업 결과
+	 */
+	public <T> T onUserShard(String username, Supplier<T> action) {
+
+		return ShardContext.onShard(shardOf(username), action);
+	}
+
+}
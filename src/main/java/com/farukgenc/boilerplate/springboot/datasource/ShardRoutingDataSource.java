@@ -0,0 +1,83 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤드 라우팅 데이터소스
+ * 
+ * <p>ShardContext에 지정된 샤드의 데이터소스에서 연결을 가져옵니다.
+ * 샤드를 지정하지 않은 작업(마이그레이션, 스키마 검증, 헬스 체크 등)은 0번 샤드(spring.datasource)를 사용합니다.
+ * 
+ * <p>주의: 트랜잭션 시작 후 첫 SQL 실행 전에 샤드를 지정할 수 있도록
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 연결을 가져오도록 해야 합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class ShardRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+	private final List<DataSource> shards;
+
+	private final List<DataSource> additionalShards;
+
+	public ShardRoutingDataSource(DataSource primaryShard, List<DataSource> additionalShards) {
+
+		this.shards = new ArrayList<>(additionalShards.size() + 1);
+		this.shards.add(primaryShard);
+		this.shards.addAll(additionalShards);
+		this.additionalShards = List.copyOf(additionalShards);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+
+		// 0번 샤드(primary)는 별도 Bean이므로 컨테이너가 닫음
+		for (DataSource shard : additionalShards) {
+
+			if (shard instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+
+		return currentShard().getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+
+		return currentShard().getConnection(username, password);
+	}
+
+	/**
+	 * 샤드 데이터소스 목록
+	 * 
+	 * @return 샤드 번호 순서의 데이터소스 목록
+	 */
+	public List<DataSource> getShards() {
+
+		return List.copyOf(shards);
+	}
+
+	private DataSource currentShard() {
+
+		final int shard = ShardContext.currentShard();
+
+		if (shard < 0 || shard >= shards.size()) {
+			throw new IllegalStateException("Unknown shard " + shard + ", configured shards: " + shards.size());
+		}
+
+		return shards.get(shard);
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 설정 클래스
+ * 
+ * <p>datasource.sharding.enabled=true인 경우에만 활성화되며, 다음 Bean을 구성합니다:
+ * <ul>
+ *   <li>primaryShardDataSource: 0번 샤드, 기존 spring.datasource 설정으로 만든 HikariCP 풀</li>
+ *   <li>shardRoutingDataSource: ShardContext의 샤드로 연결을 보내는 라우팅 데이터소스 (추가 샤드 풀 포함)</li>
+ *   <li>dataSource (@Primary): 라우팅 데이터소스를 LazyConnectionDataSourceProxy로 감싼 것 (JPA가 사용)</li>
+ *   <li>emailDirectory: 샤드 전체의 이메일 고유성을 보장하는 디렉터리 (0번 샤드)</li>
+ *   <li>shardFlywayMigrationStrategy: 모든 샤드에 같은 마이그레이션 적용</li>
+ * </ul>
+ * 
+ * <p>복제본 라우팅(DataSourceRoutingConfiguration)과 함께 활성화할 수 없습니다.
+ * 두 설정이 모두 켜져 있으면 dataSource Bean 충돌 대신 설정 오류로 기동을 중단합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfiguration {
+
+	/** 추가 샤드 연결 풀 이름 접두사 */
+	private static final String SHARD_POOL_NAME_PREFIX = "SpringBootBoilerplateShardPool-";
+
+	public ShardingConfiguration(DataSourceRoutingProperties dataSourceRoutingProperties) {
+
+		// 샤드마다 복제본을 두는 구성은 지원하지 않음 (복제본 라우팅 설정은 이 경우 건너뜀)
+		if (dataSourceRoutingProperties.isEnabled()) {
+			throw new IllegalStateException("datasource.sharding.enabled and datasource.routing.enabled cannot both be true: "
+					+ "read replica routing is not supported together with user sharding");
+		}
+	}
+
+	/**
+	 * 0번 샤드 데이터소스 (spring.datasource 설정 사용)
+	 * 
+	 * @param dataSourceProperties spring.datasource 설정
+	 * @return 0번 샤드 HikariDataSource
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryShardDataSource(DataSourceProperties dataSourceProperties) {
+
+		return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * 샤드 라우팅 데이터소스
+	 * 
+	 * @param primaryShardDataSource 0번 샤드 데이터소스
+	 * @param shardingProperties 샤딩 설정
+	 * @param meterRegistry 메트릭 레지스트리 (추가 샤드 연결 풀 메트릭)
+	 * @return 라우팅 데이터소스
+	 */
+	@Bean
+	public ShardRoutingDataSource shardRoutingDataSource(@Qualifier("primaryShardDataSource") DataSource primaryShardDataSource,
+														 ShardingProperties shardingProperties, MeterRegistry meterRegistry) {
+
+		final List<DataSource> additionalShards = new ArrayList<>();
+		final List<ShardingProperties.Shard> shardProperties = shardingProperties.getShards();
+
+		for (int i = 0; i < shardProperties.size(); i++) {
+
+			final ShardingProperties.Shard shard = shardProperties.get(i);
+
+			final HikariDataSource shardDataSource = new HikariDataSource();
+			shardDataSource.setPoolName(SHARD_POOL_NAME_PREFIX + (i + 1));
+			shardDataSource.setJdbcUrl(shard.getUrl());
+			shardDataSource.setUsername(shard.getUsername());
+			shardDataSource.setPassword(shard.getPassword());
+			shardDataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+			// 0번 샤드 풀과 같은 hikaricp.* 메트릭 (pool 태그로 구분)
+			shardDataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+			additionalShards.add(shardDataSource);
+		}
+
+		return new ShardRoutingDataSource(primaryShardDataSource, additionalShards);
+	}
+
+	/**
+	 * 애플리케이션 기본 데이터소스
+	 * 
+	 * <p>연결을 첫 SQL 실행 시점까지 미뤄서, 트랜잭션 안에서 지정한 샤드의 연결을 가져올 수 있도록 합니다.
+	 * 
+	 * @param shardRoutingDataSource 라우팅 데이터소스
+	 * @return 지연 연결 데이터소스 프록시
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+
+		return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+	}
+
+	/**
+	 * 이메일 디렉터리
+	 * 
+	 * @param primaryShardDataSource 0번 샤드 데이터소스 (JPA 트랜잭션과 별개의 연결 사용)
+	 * @return 이메일 디렉터리
+	 */
+	@Bean
+	public EmailDirectory emailDirectory(@Qualifier("primaryShardDataSource") DataSource primaryShardDataSource) {
+
+		return new EmailDirectory(primaryShardDataSource);
+	}
+
+	/**
+	 * 모든 샤드 마이그레이션
+	 * 
+	 * <p>spring.flyway 설정은 그대로 사용하고 데이터소스만 바꿔 샤드마다 실행합니다.
+	 * JPA 초기화(스키마 검증) 전에 실행되므로 마이그레이션되지 않은 샤드가 있으면 기동이 실패합니다.
+	 * 
+	 * @param shardRoutingDataSource 라우팅 데이터소스
+	 * @return 마이그레이션 전략
+	 */
+	@Bean
+	public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource) {
+
+		return flyway -> {
+
+			for (DataSource shard : shardRoutingDataSource.getShards()) {
+				Flyway.configure().configuration(flyway.getConfiguration()).dataSource(shard).load().migrate();
+			}
+		};
+	}
+
+}
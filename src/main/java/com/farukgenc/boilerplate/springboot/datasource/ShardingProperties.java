@@ -0,0 +1,56 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 설정 프로퍼티
+ * 
+ * <p>application.yml의 datasource.sharding 설정을 바인딩하는 클래스입니다.
+ * 0번 샤드는 기존 spring.datasource 설정을 그대로 사용하고, shards 목록이 1번 샤드부터 차례로 추가됩니다.
+ * 
+ * <p>주의: 사용자명이 어느 샤드에 저장되는지는 샤드 개수로 결정되므로 데이터가 있는 상태에서 샤드를 추가/제거하면
+ * 기존 사용자를 새 위치로 옮기기 전까지 조회되지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "datasource.sharding")
+public class ShardingProperties {
+
+	/** 샤딩 사용 여부 (복제본 라우팅과 함께 사용할 수 없음) */
+	private boolean enabled = false;
+
+	/** 추가 샤드 목록 (1번 샤드부터) */
+	private List<Shard> shards = new ArrayList<>();
+
+	/**
+	 * 샤드 연결 정보
+	 */
+	@Getter
+	@Setter
+	public static class Shard {
+
+		/** JDBC URL */
+		private String url;
+
+		/** 사용자명 */
+		private String username;
+
+		/** 비밀번호 */
+		private String password;
+
+		/** 샤드 연결 풀 최대 크기 */
+		private int maximumPoolSize = 10;
+
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * 요청 마감 시간을 반영하는 JPA 트랜잭션 관리자
+ * 
+ * <p>트랜잭션 제한 시간을 요청의 남은 시간(초 단위 올림)으로 줄입니다.
+ * JPA는 트랜잭션 제한 시간을 트랜잭션 안에서 실행되는 모든 쿼리의 제한 시간(jakarta.persistence.query.timeout)으로 적용하므로,
+ * UserRepository 호출이 클라이언트가 포기한 뒤에도 DB 연결을 붙잡고 있지 않습니다.
+ * 
+ * <p>마감 시간이 이미 지났으면 연결을 가져오기 전에 트랜잭션 시작을 거부합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+	@Override
+	protected Object doGetTransaction() {
+
+		RequestDeadline.check(DeadlineExceededException.STAGE_TRANSACTION);
+
+		return super.doGetTransaction();
+	}
+
+	@Override
+	protected int determineTimeout(TransactionDefinition definition) {
+
+		final int configuredTimeout = super.determineTimeout(definition);
+
+		if (!RequestDeadline.isPresent()) {
+			return configuredTimeout;
+		}
+
+		final long remainingMillis = Math.max(1, RequestDeadline.remainingMillis());
+		final int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+
+		return configuredTimeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(configuredTimeout, remainingSeconds);
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import com.farukgenc.boilerplate.springboot.monitoring.jfr.PasswordHashEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청 마감 시간을 반영하는 BCrypt 비밀번호 인코더
+ * 
+ * <p>요청 안에서 호출된 해시/검증은 CPU 코어 수만큼의 전용 스레드와 크기가 제한된 대기열에서 실행하고,
+ * 요청의 남은 시간까지만 기다립니다.
+ * 
+ * <ul>
+ *   <li>마감 시간이 이미 지났으면 해시를 시작하지 않음</li>
+ *   <li>대기열이 가득 차면 기다리지 않고 즉시 실패 (CPU 포화 시 요청이 무한히 쌓이지 않도록, 마감 시간 초과가 아닌 HashingOverloadedException)</li>
+ *   <li>대기 중 마감 시간이 지나면 작업을 취소 - 아직 시작하지 않은 작업은 대기열에서 제거되어 CPU를 쓰지 않음</li>
+ * </ul>
+ * 
+ * <p>요청 밖(마감 시간 없음)에서는 호출 스레드에서 바로 실행합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class DeadlineAwarePasswordEncoder extends BCryptPasswordEncoder implements DisposableBean {
+
+	private final ThreadPoolExecutor hashingExecutor;
+
+	public DeadlineAwarePasswordEncoder(int hashingThreads, int queueCapacity) {
+
+		final int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+		final AtomicInteger threadNumber = new AtomicInteger();
+
+		this.hashingExecutor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+			final Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+
+		final PasswordHashEvent event = new PasswordHashEvent();
+		event.begin();
+		event.setOperation(PasswordHashEvent.ENCODE);
+
+		try {
+			final String encodedPassword = withinDeadline(() -> super.encode(rawPassword));
+			event.setOutcome(PasswordHashEvent.HASHED);
+			return encodedPassword;
+		}
+		catch (DeadlineExceededException exception) {
+			event.setOutcome(PasswordHashEvent.DEADLINE_EXCEEDED);
+			throw exception;
+		}
+		catch (HashingOverloadedException exception) {
+			event.setOutcome(PasswordHashEvent.OVERLOADED);
+			throw exception;
+		}
+		finally {
+			event.commit();
+		}
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+		final PasswordHashEvent event = new PasswordHashEvent();
+		event.begin();
+		event.setOperation(PasswordHashEvent.MATCHES);
+
+		try {
+			final boolean matches = withinDeadline(() -> super.matches(rawPassword, encodedPassword));
+			event.setOutcome(matches ? PasswordHashEvent.MATCH : PasswordHashEvent.MISMATCH);
+			return matches;
+		}
+		catch (DeadlineExceededException exception) {
+			event.setOutcome(PasswordHashEvent.DEADLINE_EXCEEDED);
+			throw exception;
+		}
+		catch (HashingOverloadedException exception) {
+			event.setOutcome(PasswordHashEvent.OVERLOADED);
+			throw exception;
+		}
+		finally {
+			event.commit();
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		hashingExecutor.shutdownNow();
+	}
+
+	private <T> T withinDeadline(Supplier<T> hashing) {
+
+		if (!RequestDeadline.isPresent()) {
+			return hashing.get();
+		}
+
+		RequestDeadline.check(DeadlineExceededException.STAGE_HASHING);
+
+		final Future<T> future;
+		try {
+			future = hashingExecutor.submit(hashing::get);
+		}
+		catch (RejectedExecutionException exception) {
+			throw new HashingOverloadedException(exception);
+		}
+
+		try {
+			return future.get(Math.max(1, RequestDeadline.remainingMillis()), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException | CancellationException exception) {
+			future.cancel(true);
+			hashingExecutor.purge();
+			throw new DeadlineExceededException(DeadlineExceededException.STAGE_HASHING, exception);
+		}
+		catch (InterruptedException exception) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new DeadlineExceededException(DeadlineExceededException.STAGE_HASHING, exception);
+		}
+		catch (ExecutionException exception) {
+			if (exception.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(exception.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+/**
+ * 요청 마감 시간 설정 클래스
+ * 
+ * <p>다음 Bean을 구성합니다:
+ * <ul>
+ *   <li>transactionManager: 요청의 남은 시간을 트랜잭션/쿼리 제한 시간으로 사용하는 JPA 트랜잭션 관리자
+ *       (Spring Boot 기본 JpaTransactionManager 대체)</li>
+ *   <li>requestDeadlineFilter: 요청마다 마감 시각을 정하는 필터 (보안 필터 체인보다 먼저 실행)</li>
+ * </ul>
+ * 
+ * <p>마감 시간을 반영하는 비밀번호 인코더는 PasswordEncoderConfiguration에서 등록합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+public class DeadlineConfiguration {
+
+	/** 필터 순서 (SQL 모니터링 필터와 보안 필터 체인보다 먼저 실행) */
+	private static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 20;
+
+	/**
+	 * 마감 시간 반영 JPA 트랜잭션 관리자
+	 * 
+	 * @param transactionManagerCustomizers Spring Boot 트랜잭션 관리자 커스터마이저 (spring.transaction.* 설정)
+	 * @return 트랜잭션 관리자
+	 */
+	@Bean
+	public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+
+		final DeadlineAwareJpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager();
+		transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize((TransactionManager) transactionManager));
+
+		return transactionManager;
+	}
+
+	/**
+	 * 요청 마감 시간 필터 등록
+	 * 
+	 * @param deadlineProperties 마감 시간 설정
+	 * @param deadlineMissRecorder 마감 시간 초과 집계기
+	 * @return 필터 등록 Bean
+	 */
+	@Bean
+	public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(DeadlineProperties deadlineProperties, DeadlineMissRecorder deadlineMissRecorder) {
+
+		final FilterRegistrationBean<RequestDeadlineFilter> registrationBean =
+				new FilterRegistrationBean<>(new RequestDeadlineFilter(deadlineProperties, deadlineMissRecorder));
+		registrationBean.setOrder(FILTER_ORDER);
+
+		return registrationBean;
+	}
+
+}
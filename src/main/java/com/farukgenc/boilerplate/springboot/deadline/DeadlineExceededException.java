@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import lombok.Getter;
+
+/**
+ * 요청 마감 시간 초과 예외
+ * 
+ * <p>요청의 마감 시간이 지나 더 이상 진행해도 응답할 수 없는 작업을 중단할 때 발생합니다.
+ * 어느 단계에서 시간이 부족했는지(stage)를 함께 전달하여 단계별로 집계합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+
+	/** 트랜잭션 시작 단계 */
+	public static final String STAGE_TRANSACTION = "transaction";
+
+	/** DB 쿼리 실행 단계 */
+	public static final String STAGE_QUERY = "query";
+
+	/** 비밀번호 해시 단계 */
+	public static final String STAGE_HASHING = "hashing";
+
+	/** 요청 처리 후 (응답 작성 전) */
+	public static final String STAGE_REQUEST = "request";
+
+	/** 시간이 부족했던 단계 */
+	private final String stage;
+
+	public DeadlineExceededException(String stage) {
+
+		super("Request deadline exceeded at stage : " + stage);
+
+		this.stage = stage;
+	}
+
+	public DeadlineExceededException(String stage, Throwable cause) {
+
+		super("Request deadline exceeded at stage : " + stage, cause);
+
+		this.stage = stage;
+	}
+
+}
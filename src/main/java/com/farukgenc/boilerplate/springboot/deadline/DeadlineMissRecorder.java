@@ -0,0 +1,59 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마감 시간 초과 집계기
+ * 
+ * <p>마감 시간을 넘긴 요청을 단계별로 집계합니다 (request.deadline.exceeded{stage}).
+ * 요청 하나는 응답(504)으로 변환되는 시점에 한 번만 집계됩니다.
+ * 
+ * <p>대기열 포화로 거절된 요청(503)은 마감 시간 초과와 섞이지 않도록 request.overloaded{stage}로 따로 집계합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadlineMissRecorder {
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 마감 시간 초과 기록
+	 * 
+	 * @param stage 시간이 부족했던 단계
+	 */
+	public void record(String stage) {
+
+		Counter.builder("request.deadline.exceeded")
+				.description("Requests aborted because their deadline expired")
+				.tag("stage", stage)
+				.register(meterRegistry)
+				.increment();
+
+		log.warn("Request deadline exceeded at stage : {}", stage);
+	}
+
+	/**
+	 * 대기열 포화로 인한 거절 기록
+	 * 
+	 * @param stage 대기열이 가득 찬 단계
+	 */
+	public void recordOverload(String stage) {
+
+		Counter.builder("request.overloaded")
+				.description("Requests rejected because a bounded work queue was full")
+				.tag("stage", stage)
+				.register(meterRegistry)
+				.increment();
+
+		log.warn("Request rejected, queue full at stage : {}", stage);
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 마감 시간(Deadline) 설정 프로퍼티
+ * 
+ * <p>application.yml에서 요청별 처리 제한 시간 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "deadline")
+public class DeadlineProperties {
+
+	/** 요청 마감 시간 사용 여부 */
+	private boolean enabled = true;
+
+	/** 클라이언트가 남은 시간(밀리초)을 전달하는 헤더 이름 */
+	private String header = "X-Request-Timeout-Ms";
+
+	/** 경로별 기본 제한 시간이 없을 때 사용하는 제한 시간 */
+	private Duration defaultTimeout = Duration.ofSeconds(10);
+
+	/** 클라이언트가 요청할 수 있는 최대 제한 시간 (헤더 값이 더 크면 이 값으로 제한) */
+	private Duration maxTimeout = Duration.ofSeconds(30);
+
+	/** 경로별 기본 제한 시간 (키: "HTTP메서드 경로", 예: "POST /login") */
+	private Map<String, Duration> routes = new HashMap<>();
+
+	/** 마감 시간을 적용하지 않는 경로 (형식은 routes 키와 동일, 예: 스트리밍 내보내기 "GET /admin/users/export") */
+	private Set<String> excludedRoutes = new HashSet<>();
+
+	/** 비밀번호 해시 작업 스레드 수 (0 이하이면 CPU 코어 수) */
+	private int hashingThreads = 0;
+
+	/** 비밀번호 해시 대기열 크기 (가득 차면 기다리지 않고 즉시 실패) */
+	private int hashingQueueCapacity = 64;
+
+}
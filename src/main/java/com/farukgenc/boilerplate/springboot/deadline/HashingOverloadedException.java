@@ -0,0 +1,26 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+/**
+ * 비밀번호 해시 대기열 포화 예외
+ * 
+ * <p>해시 작업 대기열이 가득 차 작업을 받지 못했을 때 발생합니다.
+ * 요청의 마감 시간과 무관한 서버 과부하이므로 마감 시간 초과(504)와 구분하여 503 Service Unavailable과 Retry-After로 응답하고,
+ * 마감 시간 초과 지표(request.deadline.exceeded)가 아닌 별도 지표(request.overloaded)로 집계합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class HashingOverloadedException extends RuntimeException {
+
+	/** 과부하가 발생한 단계 (집계용) */
+	public static final String STAGE = DeadlineExceededException.STAGE_HASHING;
+
+	/** 응답의 Retry-After 헤더 값 (초) */
+	public static final String RETRY_AFTER_SECONDS = "1";
+
+	public HashingOverloadedException(Throwable cause) {
+
+		super("Password hashing queue is full", cause);
+	}
+
+}
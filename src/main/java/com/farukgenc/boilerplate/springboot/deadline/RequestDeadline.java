@@ -0,0 +1,96 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import java.util.Objects;
+
+/**
+ * 요청 마감 시간 컨텍스트
+ * 
+ * <p>현재 스레드(요청)의 마감 시각을 관리합니다.
+ * RequestDeadlineFilter가 요청 시작 시 설정하고 종료 시 제거하며,
+ * 트랜잭션 관리자와 비밀번호 인코더가 남은 시간을 조회하여 DB 쿼리 제한 시간과 해시 대기 시간을 정합니다.
+ * 요청 밖(스케줄러, 시작 작업 등)에서는 마감 시간이 없으므로 기존과 같이 동작합니다.
+ * 
+ * <p>유틸리티 클래스이므로 인스턴스 생성을 방지합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class RequestDeadline {
+
+	/** 마감 시각 (System.nanoTime 기준, 스레드별) */
+	private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+	/** 인스턴스 생성 방지 */
+	private RequestDeadline() {
+
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * 현재 스레드의 마감 시각 설정
+	 * 
+	 * @param timeoutMillis 지금부터 남은 시간 (밀리초)
+	 */
+	static void start(long timeoutMillis) {
+
+		DEADLINE_NANOS.set(System.nanoTime() + timeoutMillis * 1_000_000L);
+	}
+
+	/**
+	 * 현재 스레드의 마감 시각 제거
+	 */
+	static void clear() {
+
+		DEADLINE_NANOS.remove();
+	}
+
+	/**
+	 * 마감 시간 설정 여부 확인
+	 * 
+	 * @return 현재 요청에 마감 시간이 있으면 true
+	 */
+	public static boolean isPresent() {
+
+		return Objects.nonNull(DEADLINE_NANOS.get());
+	}
+
+	/**
+	 * 남은 시간 조회
+	 * 
+	 * @return 남은 시간 (밀리초, 마감 시간이 없으면 Long.MAX_VALUE, 지났으면 0 이하)
+	 */
+	public static long remainingMillis() {
+
+		final Long deadlineNanos = DEADLINE_NANOS.get();
+
+		if (Objects.isNull(deadlineNanos)) {
+			return Long.MAX_VALUE;
+		}
+
+		return (deadlineNanos - System.nanoTime()) / 1_000_000L;
+	}
+
+	/**
+	 * 마감 시간 경과 여부 확인
+	 * 
+	 * @return 마감 시간이 지났으면 true (마감 시간이 없으면 false)
+	 */
+	public static boolean isExpired() {
+
+		return remainingMillis() <= 0;
+	}
+
+	/**
+	 * 마감 시간이 지났으면 작업 중단
+	 * 
+	 * @param stage 현재 단계 (집계용)
+	 * @throws DeadlineExceededException 마감 시간이 지난 경우
+	 */
+	public static void check(String stage) {
+
+		if (isExpired()) {
+			throw new DeadlineExceededException(stage);
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 요청 마감 시간 필터
+ * 
+ * <p>요청마다 마감 시각을 정해 RequestDeadline에 설정합니다.
+ * 제한 시간은 다음 순서로 정합니다:
+ * <ol>
+ *   <li>클라이언트가 헤더(X-Request-Timeout-Ms)로 전달한 남은 시간 (maxTimeout으로 제한)</li>
+ *   <li>경로별 기본 제한 시간 (deadline.routes)</li>
+ *   <li>전체 기본 제한 시간 (deadline.default-timeout)</li>
+ * </ol>
+ * 
+ * <p>deadline.excluded-routes의 경로(예: 스트리밍 내보내기 "GET /admin/users/export")는 응답 크기에 따라 처리 시간이 달라지므로
+ * 마감 시간을 설정하지 않습니다.
+ * 
+ * <p>컨트롤러 밖(보안 필터, 인증 처리)에서 마감 시간 초과로 중단된 요청은
+ * 응답이 아직 커밋되지 않았으면 여기서 504 Gateway Timeout으로, 해시 대기열 포화로 거절된 요청은 503 Service Unavailable로 변환합니다.
+ * 컨트롤러 안에서 발생한 경우는 DeadlineAdvice가 처리합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+	private final DeadlineProperties deadlineProperties;
+	private final DeadlineMissRecorder deadlineMissRecorder;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+
+		return !deadlineProperties.isEnabled() || deadlineProperties.getExcludedRoutes().contains(routeOf(request));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		RequestDeadline.start(resolveTimeoutMillis(request));
+
+		try {
+			chain.doFilter(request, response);
+		}
+		catch (ServletException | RuntimeException exception) {
+
+			if (response.isCommitted()) {
+				throw exception;
+			}
+
+			final HashingOverloadedException hashingOverloadedException = ExceptionUtils.throwableOfType(exception, HashingOverloadedException.class);
+
+			if (Objects.nonNull(hashingOverloadedException)) {
+				deadlineMissRecorder.recordOverload(HashingOverloadedException.STAGE);
+				response.setHeader(HttpHeaders.RETRY_AFTER, HashingOverloadedException.RETRY_AFTER_SECONDS);
+				response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, hashingOverloadedException.getMessage());
+				return;
+			}
+
+			final DeadlineExceededException deadlineExceededException = ExceptionUtils.throwableOfType(exception, DeadlineExceededException.class);
+
+			if (Objects.isNull(deadlineExceededException)) {
+				throw exception;
+			}
+
+			deadlineMissRecorder.record(deadlineExceededException.getStage());
+			response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, deadlineExceededException.getMessage());
+		}
+		finally {
+			RequestDeadline.clear();
+		}
+	}
+
+	private long resolveTimeoutMillis(HttpServletRequest request) {
+
+		final long maxTimeoutMillis = deadlineProperties.getMaxTimeout().toMillis();
+		final String headerValue = request.getHeader(deadlineProperties.getHeader());
+
+		if (Objects.nonNull(headerValue)) {
+			try {
+				final long requestedMillis = Long.parseLong(headerValue.trim());
+
+				if (requestedMillis > 0) {
+					return Math.min(requestedMillis, maxTimeoutMillis);
+				}
+			}
+			catch (NumberFormatException exception) {
+				log.debug("Ignoring invalid {} header : {}", deadlineProperties.getHeader(), headerValue);
+			}
+		}
+
+		final Duration routeTimeout = deadlineProperties.getRoutes().get(routeOf(request));
+
+		return Objects.nonNull(routeTimeout) ? routeTimeout.toMillis() : deadlineProperties.getDefaultTimeout().toMillis();
+	}
+
+	/**
+	 * 경로별 설정의 키 ("HTTP메서드 경로", 예: "POST /login")
+	 */
+	private static String routeOf(HttpServletRequest request) {
+
+		return request.getMethod() + " " + request.getRequestURI().substring(request.getContextPath().length());
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.farukgenc.boilerplate.springboot.dto.auth.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가용성 조회 응답 DTO
+ * 
+ * <p>회원가입 전 사용자명/이메일 사용 가능 여부를 반환합니다.
+ * 조회하지 않은 항목은 응답에서 제외됩니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityResponse {
+
+	/** 사용자명 사용 가능 여부 */
+	private Boolean usernameAvailable;
+
+	/** 이메일 사용 가능 여부 */
+	private Boolean emailAvailable;
+
+}
@@ -0,0 +1,31 @@
+package com.farukgenc.boilerplate.springboot.dto.token;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검사 요청 DTO
+ * 
+ * <p>게이트웨이가 한 번의 호출로 여러 토큰을 검사할 때 사용합니다.
+ * 같은 토큰이 여러 번 포함되어도 되며, 서버에서 한 번만 검증합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Data
+@NoArgsConstructor
+public class TokenIntrospectionBatchRequest {
+
+	/** 한 번에 검사할 수 있는 최대 토큰 수 */
+	public static final int MAX_BATCH_SIZE = 1_000;
+
+	/** 검사할 토큰 목록 (필수, 최대 1000개) */
+	@NotEmpty(message = "{introspection_tokens_not_empty}")
+	@Size(max = MAX_BATCH_SIZE, message = "{introspection_tokens_too_many}")
+	private List<String> tokens;
+
+}
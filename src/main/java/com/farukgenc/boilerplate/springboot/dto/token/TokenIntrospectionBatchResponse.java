@@ -0,0 +1,28 @@
+package com.farukgenc.boilerplate.springboot.dto.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검사 응답 DTO
+ * 
+ * <p>results는 요청의 tokens와 같은 순서, 같은 개수로 반환됩니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionBatchResponse {
+
+	/** 토큰별 검사 결과 (요청 순서) */
+	private List<TokenIntrospectionResponse> results;
+
+	/** 중복을 제거하고 실제로 검증한 토큰 수 */
+	private int verifiedCount;
+
+}
@@ -0,0 +1,47 @@
+package com.farukgenc.boilerplate.springboot.dto.token;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 검사 결과 DTO
+ * 
+ * <p>유효하지 않은 토큰(서명 불일치, 만료, 형식 오류)은 active=false만 반환합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionResponse {
+
+	/** 토큰 유효 여부 */
+	private boolean active;
+
+	/** 사용자명 (토큰 subject) */
+	private String subject;
+
+	/** 사용자 역할 */
+	private String role;
+
+	/** 만료 시각 (Unix epoch 초) */
+	private Long expiresAt;
+
+	/** 폐기 여부 */
+	private Boolean revoked;
+
+	/**
+	 * 유효하지 않은 토큰의 검사 결과
+	 * 
+	 * @return active=false 결과
+	 */
+	public static TokenIntrospectionResponse inactive() {
+
+		return new TokenIntrospectionResponse(false, null, null, null, null);
+	}
+
+}
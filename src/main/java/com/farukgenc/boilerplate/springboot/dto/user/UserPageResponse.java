@@ -0,0 +1,28 @@
+package com.farukgenc.boilerplate.springboot.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 페이지 응답 DTO
+ * 
+ * <p>키셋 페이지네이션으로 조회한 사용자 목록과 다음 페이지 커서를 반환합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageResponse {
+
+	/** 사용자 목록 (ID 오름차순) */
+	private List<UserSummaryResponse> users;
+
+	/** 다음 페이지 조회 시 사용할 커서 (마지막 페이지이면 null) */
+	private Long nextCursor;
+
+}
@@ -0,0 +1,35 @@
+package com.farukgenc.boilerplate.springboot.dto.user;
+
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 요약 응답 DTO
+ * 
+ * <p>관리자 사용자 목록 조회 및 내보내기(NDJSON)에 사용되는 데이터 전송 객체입니다.
+ * 비밀번호는 포함하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Data
+@NoArgsConstructor
+public class UserSummaryResponse {
+
+	/** 사용자 ID */
+	private Long id;
+
+	/** 이름 */
+	private String name;
+
+	/** 사용자명 */
+	private String username;
+
+	/** 이메일 주소 */
+	private String email;
+
+	/** 사용자 역할 */
+	private UserRole userRole;
+
+}
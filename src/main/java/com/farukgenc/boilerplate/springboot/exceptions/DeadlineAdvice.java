@@ -0,0 +1,86 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import com.farukgenc.boilerplate.springboot.deadline.DeadlineExceededException;
+import com.farukgenc.boilerplate.springboot.deadline.DeadlineMissRecorder;
+import com.farukgenc.boilerplate.springboot.deadline.HashingOverloadedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 마감 시간 초과 예외 처리 ControllerAdvice
+ * 
+ * <p>컨트롤러 처리 중 마감 시간이 지나 중단된 작업과 DB 쿼리 제한 시간 초과(504),
+ * 비밀번호 해시 대기열 포화(503)를 처리합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class DeadlineAdvice {
+
+	private final DeadlineMissRecorder deadlineMissRecorder;
+
+	/**
+	 * 마감 시간 초과 예외 처리
+	 * 
+	 * @param exception 발생한 DeadlineExceededException
+	 * @return HTTP 504 Gateway Timeout 응답
+	 */
+	@ExceptionHandler(DeadlineExceededException.class)
+	ResponseEntity<ApiExceptionResponse> handleDeadlineExceededException(DeadlineExceededException exception) {
+
+		deadlineMissRecorder.record(exception.getStage());
+
+		return gatewayTimeout(exception.getMessage());
+	}
+
+	/**
+	 * DB 쿼리 제한 시간 초과 예외 처리
+	 * 
+	 * <p>쿼리 제한 시간은 트랜잭션 관리자가 요청의 남은 시간으로 설정합니다.
+	 * 
+	 * @param exception 발생한 QueryTimeoutException
+	 * @return HTTP 504 Gateway Timeout 응답
+	 */
+	@ExceptionHandler(QueryTimeoutException.class)
+	ResponseEntity<ApiExceptionResponse> handleQueryTimeoutException(QueryTimeoutException exception) {
+
+		deadlineMissRecorder.record(DeadlineExceededException.STAGE_QUERY);
+
+		return gatewayTimeout("Request deadline exceeded at stage : " + DeadlineExceededException.STAGE_QUERY);
+	}
+
+	/**
+	 * 비밀번호 해시 대기열 포화 예외 처리
+	 * 
+	 * <p>마감 시간 초과가 아닌 서버 과부하이므로 504 대신 503으로 응답하고 다시 시도할 시점을 알려줍니다.
+	 * 
+	 * @param exception 발생한 HashingOverloadedException
+	 * @return HTTP 503 Service Unavailable 응답 (Retry-After 포함)
+	 */
+	@ExceptionHandler(HashingOverloadedException.class)
+	ResponseEntity<ApiExceptionResponse> handleHashingOverloadedException(HashingOverloadedException exception) {
+
+		deadlineMissRecorder.recordOverload(HashingOverloadedException.STAGE);
+
+		final ApiExceptionResponse response = new ApiExceptionResponse(exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now());
+
+		return ResponseEntity.status(response.getStatus()).header(HttpHeaders.RETRY_AFTER, HashingOverloadedException.RETRY_AFTER_SECONDS).body(response);
+	}
+
+	private static ResponseEntity<ApiExceptionResponse> gatewayTimeout(String message) {
+
+		final ApiExceptionResponse response = new ApiExceptionResponse(message, HttpStatus.GATEWAY_TIMEOUT, LocalDateTime.now());
+
+		return ResponseEntity.status(response.getStatus()).body(response);
+	}
+
+}
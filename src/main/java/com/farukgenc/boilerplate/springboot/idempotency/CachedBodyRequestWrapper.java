@@ -0,0 +1,95 @@
+package com.farukgenc.boilerplate.springboot.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼
+ * 
+ * <p>멱등성 키 필터가 요청 지문 계산을 위해 본문을 먼저 읽으므로, 이후 처리(컨트롤러의 @RequestBody)가
+ * 같은 본문을 읽을 수 있도록 읽어 둔 바이트를 다시 제공합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
+
+	private final byte[] body;
+
+	CachedBodyRequestWrapper(HttpServletRequest request, byte[] body) {
+
+		super(request);
+		this.body = body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+
+		final ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+
+		return new ServletInputStream() {
+
+			@Override
+			public boolean isFinished() {
+
+				return inputStream.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public int read() {
+
+				return inputStream.read();
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) {
+
+				return inputStream.read(buffer, offset, length);
+			}
+
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+
+		final String encoding = getCharacterEncoding();
+		final Charset charset = Objects.isNull(encoding) ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+
+	@Override
+	public int getContentLength() {
+
+		return body.length;
+	}
+
+	@Override
+	public long getContentLengthLong() {
+
+		return body.length;
+	}
+
+}
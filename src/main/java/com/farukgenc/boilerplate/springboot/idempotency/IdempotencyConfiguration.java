@@ -0,0 +1,43 @@
+package com.farukgenc.boilerplate.springboot.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 멱등성 키 설정 클래스
+ * 
+ * <p>멱등성 키 필터를 동시 처리 제한 필터보다 먼저 등록합니다.
+ * 보관된 응답으로 끝나는 재시도 요청은 동시 처리 한도, 요청 마감 시간, 토큰 검증을 거치지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+public class IdempotencyConfiguration {
+
+	/** 필터 순서 (동시 처리 제한 필터보다 먼저 실행) */
+	private static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 35;
+
+	/**
+	 * 멱등성 키 필터 등록
+	 * 
+	 * @param idempotencyProperties 멱등성 키 설정
+	 * @param idempotencyStore 응답 저장소
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @return 필터 등록 Bean
+	 */
+	@Bean
+	public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyProperties idempotencyProperties, IdempotencyStore idempotencyStore,
+			MeterRegistry meterRegistry) {
+
+		final FilterRegistrationBean<IdempotencyFilter> registrationBean =
+				new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyProperties, idempotencyStore, meterRegistry));
+		registrationBean.setOrder(FILTER_ORDER);
+
+		return registrationBean;
+	}
+
+}
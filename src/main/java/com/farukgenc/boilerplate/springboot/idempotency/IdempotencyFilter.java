@@ -0,0 +1,281 @@
+package com.farukgenc.boilerplate.springboot.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등성 키 필터
+ * 
+ * <p>모바일 클라이언트는 제한 시간 초과 시 /register, /login 요청을 다시 보내는데,
+ * 그때마다 비밀번호 해시와 DB 조회를 반복하고 회원가입은 username_already_exists 오류로 끝납니다.
+ * Idempotency-Key 헤더가 있는 요청은 첫 요청의 응답을 보관해 두고 재시도에는 보관한 응답을 그대로 보냅니다.
+ * 
+ * <p>처리 방식:
+ * <ul>
+ *   <li>키가 처음이면 요청을 처리하고 응답(상태 코드, 콘텐츠 타입, 본문)을 ttl 동안 보관</li>
+ *   <li>같은 키의 요청이 처리 중이면 다시 처리하지 않고 결과를 기다렸다가 같은 응답을 보냄 (waitTimeout 초과 시 409)</li>
+ *   <li>기다리는 요청이 키별(maxWaitersPerKey) 또는 전체(maxWaiters) 한도를 넘으면 기다리지 않고 바로 409</li>
+ *   <li>보관된 응답은 Idempotent-Replayed: true 헤더와 함께 다시 보냄</li>
+ *   <li>같은 키로 다른 본문을 보내면 422 (다른 사용자의 키를 재사용해 로그인 응답을 얻는 것을 막음)</li>
+ *   <li>5xx, 408, 429 응답과 예외는 일시적인 결과이므로 보관하지 않고 재시도가 다시 처리되도록 함</li>
+ * </ul>
+ * 
+ * <p>요청 지문은 메서드, 경로, 본문의 SHA-256이며, 키는 경로별로 구분합니다.
+ * 동시 처리 제한 필터보다 먼저 실행되어 재시도 응답이 동시 처리 한도를 차지하지 않습니다.
+ * 대신 기다리는 동안 서블릿 스레드를 차지하므로 대기 요청 수를 제한하여 중복 요청이 스레드 풀을 소진하지 않도록 합니다.
+ * 
+ * <p>메트릭: idempotency.requests{result} (executed, replayed, mismatch, timeout, rejected, bypassed), idempotency.entries, idempotency.waiters
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	/** 보관된 응답을 다시 보낼 때 붙이는 헤더 */
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	/** 처리 중인 요청을 기다리다 시간이 초과된 경우 Retry-After 헤더 값 (초) */
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	private final IdempotencyProperties properties;
+
+	private final IdempotencyStore store;
+
+	private final Counter executedCounter;
+
+	private final Counter replayedCounter;
+
+	private final Counter mismatchCounter;
+
+	private final Counter timeoutCounter;
+
+	private final Counter rejectedCounter;
+
+	private final Counter bypassedCounter;
+
+	public IdempotencyFilter(IdempotencyProperties properties, IdempotencyStore store, MeterRegistry meterRegistry) {
+
+		this.properties = properties;
+		this.store = store;
+		this.executedCounter = meterRegistry.counter("idempotency.requests", "result", "executed");
+		this.replayedCounter = meterRegistry.counter("idempotency.requests", "result", "replayed");
+		this.mismatchCounter = meterRegistry.counter("idempotency.requests", "result", "mismatch");
+		this.timeoutCounter = meterRegistry.counter("idempotency.requests", "result", "timeout");
+		this.rejectedCounter = meterRegistry.counter("idempotency.requests", "result", "rejected");
+		this.bypassedCounter = meterRegistry.counter("idempotency.requests", "result", "bypassed");
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+
+		if (!properties.isEnabled() || !HttpMethod.POST.matches(request.getMethod()) || Objects.isNull(request.getHeader(properties.getHeaderName()))) {
+			return true;
+		}
+
+		return !properties.getPaths().contains(request.getRequestURI().substring(request.getContextPath().length()));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		final String idempotencyKey = request.getHeader(properties.getHeaderName());
+
+		if (!isValidKey(idempotencyKey)) {
+			response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid " + properties.getHeaderName() + " header");
+			return;
+		}
+
+		final byte[] body = request.getInputStream().readNBytes(properties.getMaxBodySize() + 1);
+		final HttpServletRequest cachedBodyRequest = new CachedBodyRequestWrapper(request, body);
+
+		if (body.length > properties.getMaxBodySize()) {
+			bypassedCounter.increment();
+			chain.doFilter(new CachedBodyRequestWrapper(request, concat(body, request.getInputStream().readAllBytes())), response);
+			return;
+		}
+
+		final String path = request.getRequestURI().substring(request.getContextPath().length());
+		final String key = path + " " + idempotencyKey;
+		final byte[] fingerprint = fingerprint(request.getMethod(), path, body);
+
+		while (true) {
+
+			final IdempotencyStore.Claim claim = store.claim(key, fingerprint);
+
+			if (Objects.isNull(claim)) {
+				bypassedCounter.increment();
+				chain.doFilter(cachedBodyRequest, response);
+				return;
+			}
+
+			final IdempotencyStore.Entry entry = claim.entry();
+
+			if (!entry.matches(fingerprint)) {
+				mismatchCounter.increment();
+				response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), properties.getHeaderName() + " was already used for a different request");
+				return;
+			}
+
+			if (claim.owner()) {
+				executedCounter.increment();
+				execute(key, entry, cachedBodyRequest, response, chain);
+				return;
+			}
+
+			// 이미 끝난 결과는 기다리지 않으므로 대기 한도와 무관
+			final boolean waiting = !entry.getResponse().isDone();
+
+			if (waiting && !store.acquireWaiter(entry)) {
+				rejectedCounter.increment();
+				rejectInProgress(response);
+				return;
+			}
+
+			final StoredResponse storedResponse;
+
+			try {
+				storedResponse = entry.getResponse().get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			}
+			catch (TimeoutException exception) {
+				timeoutCounter.increment();
+				rejectInProgress(response);
+				return;
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new ServletException(exception);
+			}
+			catch (ExecutionException exception) {
+				throw new ServletException(exception.getCause());
+			}
+			finally {
+				if (waiting) {
+					store.releaseWaiter(entry);
+				}
+			}
+
+			// 처음 요청의 결과를 보관하지 않았으면 (5xx 등) 다시 시도
+			if (Objects.nonNull(storedResponse)) {
+				replayedCounter.increment();
+				replay(storedResponse, response);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 요청을 처리하고 보관할 수 있는 응답이면 보관
+	 */
+	private void execute(String key, IdempotencyStore.Entry entry, HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		boolean stored = false;
+
+		try {
+			chain.doFilter(request, responseWrapper);
+
+			// sendError로 끝난 응답은 본문을 오류 페이지 처리가 나중에 쓰므로 보관할 수 없음
+			if (isStorable(responseWrapper.getStatus()) && !response.isCommitted()) {
+				store.complete(entry, new StoredResponse(responseWrapper.getStatus(), responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+				stored = true;
+			}
+		}
+		finally {
+			if (!stored) {
+				store.abandon(key, entry);
+			}
+			responseWrapper.copyBodyToResponse();
+		}
+	}
+
+	/**
+	 * 같은 키의 요청이 아직 처리 중이라는 응답 (409, 잠시 후 재시도 안내)
+	 */
+	private void rejectInProgress(HttpServletResponse response) throws IOException {
+
+		response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+		response.sendError(HttpServletResponse.SC_CONFLICT, "A request with the same " + properties.getHeaderName() + " is still in progress");
+	}
+
+	private static void replay(StoredResponse storedResponse, HttpServletResponse response) throws IOException {
+
+		response.setStatus(storedResponse.status());
+		response.setHeader(REPLAYED_HEADER, Boolean.TRUE.toString());
+
+		if (Objects.nonNull(storedResponse.contentType())) {
+			response.setContentType(storedResponse.contentType());
+		}
+
+		response.setContentLength(storedResponse.body().length);
+		response.getOutputStream().write(storedResponse.body());
+	}
+
+	private static boolean isStorable(int status) {
+
+		return status < HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+				&& status != HttpServletResponse.SC_REQUEST_TIMEOUT
+				&& status != HttpStatus.TOO_MANY_REQUESTS.value();
+	}
+
+	/**
+	 * 멱등성 키 형식 확인 (길이 제한, 출력 가능한 ASCII 문자만 허용)
+	 */
+	private boolean isValidKey(String idempotencyKey) {
+
+		if (idempotencyKey.isEmpty() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+			return false;
+		}
+
+		for (int i = 0; i < idempotencyKey.length(); i++) {
+			final char c = idempotencyKey.charAt(i);
+			if (c < 0x21 || c > 0x7e) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static byte[] fingerprint(String method, String path, byte[] body) {
+
+		try {
+			final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			messageDigest.update((method + " " + path + "\n").getBytes(StandardCharsets.UTF_8));
+			return messageDigest.digest(body);
+		}
+		catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+
+		final byte[] result = new byte[first.length + second.length];
+		System.arraycopy(first, 0, result, 0, first.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.farukgenc.boilerplate.springboot.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 멱등성 키 설정 프로퍼티
+ * 
+ * <p>application.yml에서 Idempotency-Key 헤더 처리 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+	/** 사용 여부 */
+	private boolean enabled = true;
+
+	/** 멱등성 키 헤더 이름 */
+	private String headerName = "Idempotency-Key";
+
+	/** 멱등성 키를 적용할 POST 경로 */
+	private List<String> paths = new ArrayList<>(List.of("/register", "/login"));
+
+	/** 완료된 응답 보관 시간 */
+	private Duration ttl = Duration.ofMinutes(5);
+
+	/** 최대 보관 항목 수 */
+	private int maxEntries = 10_000;
+
+	/** 멱등성 키 최대 길이 */
+	private int maxKeyLength = 255;
+
+	/** 멱등성 키를 적용할 최대 요청 본문 크기 (바이트, 초과 시 키 없이 처리) */
+	private int maxBodySize = 16 * 1024;
+
+	/** 같은 키로 처리 중인 요청의 결과를 기다리는 최대 시간 (초과 시 409 Conflict) */
+	private Duration waitTimeout = Duration.ofSeconds(10);
+
+	/** 같은 키로 처리 중인 요청의 결과를 동시에 기다릴 수 있는 최대 요청 수 (초과 시 바로 409 Conflict) */
+	private int maxWaitersPerKey = 4;
+
+	/** 전체 키에서 처리 중인 요청의 결과를 동시에 기다릴 수 있는 최대 요청 수 (초과 시 바로 409 Conflict) */
+	private int maxWaiters = 32;
+
+}
@@ -0,0 +1,224 @@
+package com.farukgenc.boilerplate.springboot.idempotency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 멱등성 키 응답 저장소
+ * 
+ * <p>멱등성 키마다 처리 중인 요청의 결과(CompletableFuture)를 보관합니다.
+ * 처음 들어온 요청이 처리를 맡고(owner), 같은 키의 요청은 그 결과를 기다렸다가 같은 응답을 받습니다.
+ * 
+ * <p>보관 규칙:
+ * <ul>
+ *   <li>완료된 응답은 ttl 동안 보관하고, 처리 중인 항목은 완료될 때까지 만료되지 않음</li>
+ *   <li>최대 항목 수에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차면 완료된 항목 하나를 제거</li>
+ *   <li>모든 항목이 처리 중이라 자리가 없으면 멱등성 키 없이 처리 (요청을 거절하지 않음)</li>
+ * </ul>
+ * 
+ * <p>결과를 기다리는 요청은 서블릿 스레드를 차지하므로 키별/전체 대기 요청 수를 제한합니다
+ * (acquireWaiter가 false이면 기다리지 않고 바로 거절).
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Component
+public class IdempotencyStore {
+
+	private final IdempotencyProperties properties;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/** 전체 키에서 결과를 기다리는 요청 수 */
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	public IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+
+		this.properties = properties;
+
+		Gauge.builder("idempotency.entries", entries, Map::size).register(meterRegistry);
+		Gauge.builder("idempotency.waiters", waiters, AtomicInteger::get).register(meterRegistry);
+	}
+
+	/**
+	 * 키에 해당하는 항목 조회 또는 생성
+	 * 
+	 * @param key 멱등성 키 (경로 포함)
+	 * @param fingerprint 요청 지문
+	 * @return 조회 결과 (새로 만든 항목이면 owner가 true, 자리가 없으면 null)
+	 */
+	Claim claim(String key, byte[] fingerprint) {
+
+		while (true) {
+
+			final Entry existing = entries.get(key);
+
+			if (Objects.nonNull(existing) && !existing.isExpired(System.currentTimeMillis())) {
+				return new Claim(existing, false);
+			}
+
+			if (Objects.isNull(existing) && entries.size() >= properties.getMaxEntries() && !makeRoom()) {
+				return null;
+			}
+
+			final Entry entry = new Entry(fingerprint);
+			final boolean claimed = Objects.isNull(existing) ? entries.putIfAbsent(key, entry) == null : entries.replace(key, existing, entry);
+
+			if (claimed) {
+				return new Claim(entry, true);
+			}
+		}
+	}
+
+	/**
+	 * 처리 결과 보관 (기다리는 요청에도 전달)
+	 * 
+	 * @param entry 항목
+	 * @param response 보관할 응답
+	 */
+	void complete(Entry entry, StoredResponse response) {
+
+		entry.expiresAtMillis = System.currentTimeMillis() + properties.getTtl().toMillis();
+		entry.response.complete(response);
+	}
+
+	/**
+	 * 보관하지 않을 결과 (5xx, 예외 등) 처리: 항목을 제거하고 기다리는 요청은 직접 다시 처리하도록 함
+	 * 
+	 * @param key 멱등성 키
+	 * @param entry 항목
+	 */
+	void abandon(String key, Entry entry) {
+
+		entries.remove(key, entry);
+		entry.response.complete(null);
+	}
+
+	/**
+	 * 처리 중인 항목의 결과를 기다릴 자리 확보
+	 * 
+	 * @param entry 항목
+	 * @return 키별/전체 대기 한도 안이면 true (이후 반드시 releaseWaiter 호출), 한도를 넘으면 false
+	 */
+	boolean acquireWaiter(Entry entry) {
+
+		if (entry.waiters.incrementAndGet() > properties.getMaxWaitersPerKey()) {
+			entry.waiters.decrementAndGet();
+			return false;
+		}
+
+		if (waiters.incrementAndGet() > properties.getMaxWaiters()) {
+			waiters.decrementAndGet();
+			entry.waiters.decrementAndGet();
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * 기다릴 자리 반납
+	 * 
+	 * @param entry 항목
+	 */
+	void releaseWaiter(Entry entry) {
+
+		waiters.decrementAndGet();
+		entry.waiters.decrementAndGet();
+	}
+
+	/**
+	 * 만료된 항목 정리 (1분마다)
+	 */
+	@Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+	public void purgeExpired() {
+
+		final long nowMillis = System.currentTimeMillis();
+		entries.values().removeIf(entry -> entry.isExpired(nowMillis));
+	}
+
+	/**
+	 * 가득 찼을 때 자리 만들기
+	 * 
+	 * @return 자리가 생겼으면 true
+	 */
+	private boolean makeRoom() {
+
+		purgeExpired();
+
+		if (entries.size() < properties.getMaxEntries()) {
+			return true;
+		}
+
+		// 정확한 LRU 대신 비용이 일정한 방식으로 완료된 항목 하나 제거
+		final Iterator<Entry> iterator = entries.values().iterator();
+
+		while (iterator.hasNext()) {
+			if (iterator.next().response.isDone()) {
+				iterator.remove();
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 항목 조회 결과
+	 * 
+	 * @param entry 항목
+	 * @param owner 이 요청이 항목을 만들어 처리를 맡았는지 여부
+	 */
+	record Claim(Entry entry, boolean owner) {
+	}
+
+	/**
+	 * 저장소 항목
+	 */
+	static final class Entry {
+
+		/** 요청 지문 (같은 키로 다른 요청을 보내는 경우 구분) */
+		private final byte[] fingerprint;
+
+		/** 처리 결과 (보관하지 않는 결과면 null로 완료) */
+		private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+		/** 만료 시각 (완료 전에는 만료되지 않음) */
+		private volatile long expiresAtMillis = Long.MAX_VALUE;
+
+		/** 결과를 기다리는 요청 수 */
+		private final AtomicInteger waiters = new AtomicInteger();
+
+		private Entry(byte[] fingerprint) {
+
+			this.fingerprint = fingerprint;
+		}
+
+		boolean matches(byte[] otherFingerprint) {
+
+			return MessageDigest.isEqual(fingerprint, otherFingerprint);
+		}
+
+		CompletableFuture<StoredResponse> getResponse() {
+
+			return response;
+		}
+
+		private boolean isExpired(long nowMillis) {
+
+			return expiresAtMillis <= nowMillis;
+		}
+
+	}
+
+}
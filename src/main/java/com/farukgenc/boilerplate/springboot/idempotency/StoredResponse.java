@@ -0,0 +1,13 @@
+package com.farukgenc.boilerplate.springboot.idempotency;
+
+/**
+ * 보관된 응답 (재시도 요청에 그대로 다시 보내는 상태 코드, 콘텐츠 타입, 본문)
+ * 
+ * @param status HTTP 상태 코드
+ * @param contentType 콘텐츠 타입 (없으면 null)
+ * @param body 응답 본문
+ * @author Faruk
+ * @since 2026년 10월
+ */
+record StoredResponse(int status, String contentType, byte[] body) {
+}
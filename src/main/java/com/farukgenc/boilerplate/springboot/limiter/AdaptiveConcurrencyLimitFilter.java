@@ -0,0 +1,150 @@
+package com.farukgenc.boilerplate.springboot.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 적응형 동시 처리 제한 필터
+ * 
+ * <p>보안 필터 체인(JwtAuthenticationFilter)보다 먼저 실행되어, 파티션별 동시 처리 한도를 넘는 요청을
+ * 토큰 검증, 사용자 조회, 비밀번호 해시 등 비용이 드는 처리 전에 503 Service Unavailable로 즉시 거절합니다.
+ * 
+ * <p>파티션:
+ * <ul>
+ *   <li>login: /login (비밀번호 해시 비용이 큼)</li>
+ *   <li>register: /register, /register/** (비밀번호 해시 + DB 쓰기)</li>
+ *   <li>api: 그 밖의 모든 경로</li>
+ * </ul>
+ * 파티션을 나누어 로그인 폭주가 인증된 API 요청의 처리 한도를 잠식하지 않도록 합니다.
+ * 
+ * <p>각 파티션의 한도는 VegasLimit이 측정된 처리 시간으로 조정합니다.
+ * 거절된 요청은 측정에 포함하지 않으며, 5xx 응답과 예외는 과부하 신호로 보고 한도를 줄입니다.
+ * 
+ * <p>메트릭:
+ * <ul>
+ *   <li>concurrency.limit{partition}: 현재 동시 처리 한도</li>
+ *   <li>concurrency.inflight{partition}: 현재 동시 처리 수</li>
+ *   <li>concurrency.rejected{partition}: 거절된 요청 수</li>
+ * </ul>
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	/** 로그인 파티션 */
+	public static final String LOGIN = "login";
+
+	/** 회원가입 파티션 */
+	public static final String REGISTER = "register";
+
+	/** 그 밖의 경로 파티션 */
+	public static final String API = "api";
+
+	/** 거절 시 Retry-After 헤더 값 (초) */
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	private final ConcurrencyLimitProperties properties;
+
+	private final Map<String, VegasLimit> limits = new HashMap<>();
+
+	private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+	public AdaptiveConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+
+		this.properties = properties;
+
+		for (String partition : List.of(LOGIN, REGISTER, API)) {
+
+			final ConcurrencyLimitProperties.Partition partitionProperties =
+					properties.getPartitions().getOrDefault(partition, new ConcurrencyLimitProperties.Partition());
+			final VegasLimit limit = new VegasLimit(partitionProperties);
+
+			limits.put(partition, limit);
+			rejectedCounters.put(partition, meterRegistry.counter("concurrency.rejected", "partition", partition));
+
+			Gauge.builder("concurrency.limit", limit, VegasLimit::getLimit).tag("partition", partition).register(meterRegistry);
+			Gauge.builder("concurrency.inflight", limit, VegasLimit::getInFlight).tag("partition", partition).register(meterRegistry);
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+
+		if (!properties.isEnabled()) {
+			return true;
+		}
+
+		final String path = request.getRequestURI().substring(request.getContextPath().length());
+
+		return properties.getExcludedPaths().stream().anyMatch(excludedPath -> matches(excludedPath, path));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		final String partition = resolvePartition(request.getRequestURI().substring(request.getContextPath().length()));
+		final VegasLimit limit = limits.get(partition);
+
+		if (!limit.tryAcquire()) {
+
+			rejectedCounters.get(partition).increment();
+			log.debug("Rejecting request to {} : concurrency limit {} reached for partition {}", request.getRequestURI(), limit.getLimit(), partition);
+
+			response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Concurrency limit reached");
+			return;
+		}
+
+		final long startNanos = System.nanoTime();
+		boolean dropped = true;
+
+		try {
+			chain.doFilter(request, response);
+			dropped = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+		}
+		finally {
+			limit.release(System.nanoTime() - startNanos, dropped);
+		}
+	}
+
+	private static String resolvePartition(String path) {
+
+		if (Objects.equals(path, "/login")) {
+			return LOGIN;
+		}
+
+		if (matches("/register/**", path)) {
+			return REGISTER;
+		}
+
+		return API;
+	}
+
+	private static boolean matches(String pattern, String path) {
+
+		if (pattern.endsWith("/**")) {
+			final String prefix = pattern.substring(0, pattern.length() - 3);
+			return path.equals(prefix) || path.startsWith(prefix + "/");
+		}
+
+		return pattern.equals(path);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.farukgenc.boilerplate.springboot.limiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 적응형 동시 처리 제한 설정 클래스
+ * 
+ * <p>동시 처리 제한 필터를 요청 마감 시간 필터, SQL 모니터링 필터, 보안 필터 체인보다 먼저 등록합니다.
+ * 거절되는 요청이 마감 시간 설정이나 토큰 검증 비용도 치르지 않도록 가장 앞에 둡니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+public class ConcurrencyLimitConfiguration {
+
+	/** 필터 순서 (요청 마감 시간 필터보다 먼저 실행) */
+	private static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 30;
+
+	/**
+	 * 적응형 동시 처리 제한 필터 등록
+	 * 
+	 * @param concurrencyLimitProperties 동시 처리 제한 설정
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @return 필터 등록 Bean
+	 */
+	@Bean
+	public FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> adaptiveConcurrencyLimitFilter(ConcurrencyLimitProperties concurrencyLimitProperties,
+			MeterRegistry meterRegistry) {
+
+		final FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registrationBean =
+				new FilterRegistrationBean<>(new AdaptiveConcurrencyLimitFilter(concurrencyLimitProperties, meterRegistry));
+		registrationBean.setOrder(FILTER_ORDER);
+
+		return registrationBean;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.farukgenc.boilerplate.springboot.limiter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 적응형 동시 처리 제한 설정 프로퍼티
+ * 
+ * <p>application.yml에서 파티션별 동시 처리 요청 수 제한 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+	/** 동시 처리 제한 사용 여부 */
+	private boolean enabled = true;
+
+	/** 제한하지 않는 경로 ("/**"로 끝나면 하위 경로 전체) */
+	private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/**"));
+
+	/** 파티션별 설정 (키: login, register, api) */
+	private Map<String, Partition> partitions = new LinkedHashMap<>();
+
+	/**
+	 * 파티션 설정
+	 */
+	@Getter
+	@Setter
+	public static class Partition {
+
+		/** 시작 시 동시 처리 한도 */
+		private int initialLimit = 20;
+
+		/** 최소 동시 처리 한도 */
+		private int minLimit = 1;
+
+		/** 최대 동시 처리 한도 */
+		private int maxLimit = 200;
+
+		/** 한도 변경 반영 비율 (0~1, 작을수록 천천히 변함) */
+		private double smoothing = 0.2;
+
+		/** 이 횟수만큼 측정할 때마다 무부하 지연 시간 기준값을 다시 측정 */
+		private int probeInterval = 1_000;
+
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.farukgenc.boilerplate.springboot.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vegas 방식 적응형 동시 처리 한도
+ * 
+ * <p>TCP Vegas 혼잡 제어와 같은 원리로, 측정된 응답 시간으로 대기열 길이를 추정하여 동시 처리 한도를 조정합니다.
+ * 
+ * <ul>
+ *   <li>무부하 응답 시간(rttNoLoad): 관측된 최소 응답 시간 (probeInterval마다 다시 측정)</li>
+ *   <li>추정 대기열 길이: limit × (1 - rttNoLoad / rtt)</li>
+ *   <li>대기열이 alpha(3·log10(limit)) 이하이면 한도 증가, beta(6·log10(limit)) 이상이면 한도 감소</li>
+ *   <li>요청이 실패(5xx, 타임아웃)하면 즉시 한도 감소</li>
+ *   <li>동시 처리 수가 한도의 절반 미만이면 한도를 늘리지 않음 (부하가 없는데 한도만 커지는 것 방지)</li>
+ * </ul>
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class VegasLimit {
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final double smoothing;
+
+	private final int probeInterval;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/** 현재 한도 (측정 시 갱신, 요청 시 읽기) */
+	private volatile double estimatedLimit;
+
+	private long rttNoLoadNanos;
+
+	private int samplesSinceProbe;
+
+	public VegasLimit(ConcurrencyLimitProperties.Partition partition) {
+
+		this.minLimit = partition.getMinLimit();
+		this.maxLimit = partition.getMaxLimit();
+		this.smoothing = partition.getSmoothing();
+		this.probeInterval = partition.getProbeInterval();
+		this.estimatedLimit = partition.getInitialLimit();
+	}
+
+	/**
+	 * 처리 슬롯 획득 시도
+	 * 
+	 * @return 한도 안이면 true (반드시 release 호출 필요), 한도를 넘으면 false
+	 */
+	public boolean tryAcquire() {
+
+		final int limit = getLimit();
+
+		while (true) {
+
+			final int current = inFlight.get();
+
+			if (current >= limit) {
+				return false;
+			}
+
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 처리 슬롯 반환 및 응답 시간 측정 반영
+	 * 
+	 * @param rttNanos 처리 시간 (나노초)
+	 * @param dropped 요청 실패(과부하로 볼 수 있는 5xx, 타임아웃) 여부
+	 */
+	public void release(long rttNanos, boolean dropped) {
+
+		final int inFlightAtRelease = inFlight.getAndDecrement();
+		onSample(rttNanos, inFlightAtRelease, dropped);
+	}
+
+	/**
+	 * 현재 동시 처리 한도
+	 * 
+	 * @return 한도
+	 */
+	public int getLimit() {
+
+		return (int) estimatedLimit;
+	}
+
+	/**
+	 * 현재 동시 처리 수
+	 * 
+	 * @return 처리 중인 요청 수
+	 */
+	public int getInFlight() {
+
+		return inFlight.get();
+	}
+
+	private synchronized void onSample(long rttNanos, int inFlightAtRelease, boolean dropped) {
+
+		if (rttNanos <= 0) {
+			return;
+		}
+
+		if (++samplesSinceProbe >= probeInterval || rttNoLoadNanos == 0) {
+			// 부하 상황이 바뀌었을 수 있으므로 기준값을 현재 측정값으로 다시 시작
+			samplesSinceProbe = 0;
+			rttNoLoadNanos = rttNanos;
+		}
+		else if (rttNanos < rttNoLoadNanos) {
+			rttNoLoadNanos = rttNanos;
+		}
+
+		final double limit = estimatedLimit;
+		final double log10Limit = Math.max(1, Math.log10(limit));
+
+		final double newLimit;
+		if (dropped) {
+			newLimit = limit - log10Limit;
+		}
+		else if (inFlightAtRelease * 2 < limit) {
+			return;
+		}
+		else {
+			final double queueSize = Math.ceil(limit * (1 - (double) rttNoLoadNanos / rttNanos));
+
+			if (queueSize <= 3 * log10Limit) {
+				newLimit = limit + log10Limit;
+			}
+			else if (queueSize >= 6 * log10Limit) {
+				newLimit = limit - log10Limit;
+			}
+			else {
+				return;
+			}
+		}
+
+		final double smoothedLimit = (1 - smoothing) * limit + smoothing * newLimit;
+		estimatedLimit = Math.max(minLimit, Math.min(maxLimit, smoothedLimit));
+	}
+
+}
@@ -3,6 +3,7 @@ package com.farukgenc.boilerplate.springboot.mapper.user;
 import com.farukgenc.boilerplate.springboot.model.user.User;
 import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
 import com.farukgenc.boilerplate.springboot.dto.user.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.dto.user.UserSummaryResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.factory.Mappers;
@@ -46,4 +47,12 @@ public interface UserMapper {
 	 */
 	User convertToUser(AuthenticatedUserDto authenticatedUserDto);
 
+	/**
+	 * User 엔티티를 UserSummaryResponse로 변환
+	 * 
+	 * @param user User 엔티티
+	 * @return UserSummaryResponse (비밀번호 제외)
+	 */
+	UserSummaryResponse convertToUserSummaryResponse(User user);
+
 }
@@ -0,0 +1,80 @@
+package com.farukgenc.boilerplate.springboot.model.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 엔티티
+ * 
+ * <p>다른 시스템(이메일, 분석 등)에 전달할 도메인 이벤트를 원본 데이터와 같은 트랜잭션에서 기록하는 JPA 엔티티입니다.
+ * OUTBOX_EVENTS 테이블(V2 마이그레이션)과 매핑됩니다.
+ * 
+ * <p>전달 상태(시도 횟수, 다음 시도 시각, 임대 만료 시각)는 OutboxDispatcher가
+ * OutboxEventRepository의 갱신 쿼리로만 변경하므로 setter를 두지 않습니다.
+ * 시각은 모두 UTC 기준입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "OUTBOX_EVENTS")
+public class OutboxEvent {
+
+	/** 이벤트 ID (Primary Key, 기록 순서) */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/** 집계 유형 (예: user) */
+	@Column(nullable = false)
+	private String aggregateType;
+
+	/** 집계 ID (같은 집계의 이벤트는 기록 순서대로 전달) */
+	@Column(nullable = false)
+	private String aggregateId;
+
+	/** 이벤트 유형 (예: user.registered) */
+	@Column(nullable = false)
+	private String eventType;
+
+	/** 이벤트 내용 (JSON) */
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	/** 기록 시각 */
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	/** 전달 시도 횟수 */
+	@Column(nullable = false)
+	private int attempts;
+
+	/** 다음 전달 시도 시각 */
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	/** 전달 중인 디스패처의 임대 만료 시각 (다른 인스턴스가 같은 이벤트를 동시에 전달하지 않도록) */
+	private LocalDateTime leaseUntil;
+
+	/** 마지막 전달 실패 사유 */
+	private String lastError;
+
+	/** 최대 시도 횟수를 넘겨 전달을 포기한 시각 */
+	private LocalDateTime deadAt;
+
+}
@@ -20,6 +20,10 @@ import lombok.NoArgsConstructor;
  * <p>시스템 사용자 정보를 나타내는 JPA 엔티티입니다.
  * USERS 테이블과 매핑됩니다.
  * 
+ * <p>스키마는 Flyway 마이그레이션(src/main/resources/db/migration)으로 관리되며,
+ * 시작 시 Hibernate는 엔티티와 스키마가 일치하는지 검증만 합니다.
+ * 컬럼이나 인덱스를 바꿀 때는 새 버전의 마이그레이션 파일을 추가하세요.
+ * 
  * <p>실무 권장 스타일:
  * <ul>
  *   <li>@Builder: 가독성 좋은 객체 생성</li>
@@ -53,7 +57,7 @@ public class User {
 	/** 비밀번호 (암호화됨) */
 	private String password;
 
-	/** 이메일 주소 */
+	/** 이메일 주소 (대소문자 구분 없이 고유, lower(email) 고유 인덱스) */
 	private String email;
 
 	/** 사용자 역할 */
@@ -0,0 +1,41 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 JFR 이벤트 상수
+ * 
+ * <p>커스텀 JFR 이벤트 이름과 분류를 정의합니다.
+ * 이벤트는 JFR 녹화가 꺼져 있으면 commit()이 바로 반환되며, 메서드 밖으로 나가지 않으므로 JIT가 객체 생성도 제거합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class JfrEvents {
+
+	/** 이벤트 이름 접두사 */
+	public static final String NAME_PREFIX = "com.farukgenc.boilerplate.";
+
+	/** 이벤트 최상위 분류 */
+	public static final String CATEGORY = "Boilerplate";
+
+	/** 인증 관련 이벤트 분류 */
+	public static final String CATEGORY_AUTH = "Authentication";
+
+	/** 애플리케이션 이벤트 클래스 목록 (녹화 설정에서 활성화) */
+	public static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+			TokenVerificationEvent.class,
+			UserLookupEvent.class,
+			PasswordHashEvent.class,
+			RegistrationEvent.class,
+			LoginEvent.class);
+
+	/** 인스턴스 생성 방지 */
+	private JfrEvents() {
+
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -0,0 +1,243 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JFR 녹화 Actuator 엔드포인트 (/actuator/jfr)
+ * 
+ * <p>외부 도구를 연결하지 않고 운영 중인 인스턴스에서 JDK Flight Recorder 녹화를 시작/중지/다운로드합니다.
+ * <ul>
+ *   <li>GET /actuator/jfr: 현재(또는 마지막) 녹화 상태</li>
+ *   <li>POST /actuator/jfr {"durationSeconds": 120}: 녹화 시작 (0이면 기본 녹화 시간, max-duration, max-size로 제한)</li>
+ *   <li>DELETE /actuator/jfr: 녹화 중지 및 파일 저장</li>
+ *   <li>GET /actuator/jfr/{id}: 녹화 파일(.jfr) 다운로드</li>
+ * </ul>
+ * 
+ * <p>녹화 설정은 JDK 기본 프로필(settings)에 할당 샘플링, 락 경합, CPU 샘플링 설정과
+ * 애플리케이션 인증 이벤트(JfrEvents)를 더해 사용하므로, security.jwt와 service.user 처리 경로의
+ * 할당/락 경합 프로필을 함께 볼 수 있습니다.
+ * 
+ * <p>녹화는 한 번에 하나만 실행하며, 새 녹화를 시작하면 이전 녹화 파일은 삭제하여 디스크 사용량을 제한합니다.
+ * ADMIN 권한이 있어야 호출할 수 있습니다 (SecurityConstants.ADMIN_ROUTES).
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrRecordingEndpoint implements DisposableBean {
+
+	private static final String RECORDING_NAME = "boilerplate-on-demand";
+
+	private final JfrRecordingProperties jfrRecordingProperties;
+
+	private Recording recording;
+
+	private Path recordingFile;
+
+	/**
+	 * 녹화 상태 조회
+	 * 
+	 * @return 현재(또는 마지막) 녹화 상태
+	 */
+	@ReadOperation
+	public synchronized Map<String, Object> status() {
+
+		return describe(recording);
+	}
+
+	/**
+	 * 녹화 시작
+	 * 
+	 * @param durationSeconds 녹화 시간 (초, 0 이하이면 기본 녹화 시간)
+	 * @return 시작한 녹화 상태 (이미 녹화 중이면 409)
+	 */
+	@WriteOperation
+	public synchronized WebEndpointResponse<Map<String, Object>> start(long durationSeconds) throws IOException, ParseException {
+
+		if (Objects.nonNull(recording) && recording.getState() == RecordingState.RUNNING) {
+			return new WebEndpointResponse<>(describe(recording), HttpStatus.CONFLICT.value());
+		}
+
+		discardPrevious();
+
+		final Duration requestedDuration = durationSeconds <= 0
+				? jfrRecordingProperties.getDefaultDuration()
+				: Duration.ofSeconds(durationSeconds);
+		final Duration duration = requestedDuration.compareTo(jfrRecordingProperties.getMaxDuration()) > 0
+				? jfrRecordingProperties.getMaxDuration()
+				: requestedDuration;
+
+		final Recording newRecording = new Recording(recordingSettings());
+		newRecording.setName(RECORDING_NAME);
+		newRecording.setToDisk(true);
+		newRecording.setDuration(duration);
+		newRecording.setMaxSize(jfrRecordingProperties.getMaxSize().toBytes());
+
+		final Path file = recordingDirectory().resolve(RECORDING_NAME + "-" + newRecording.getId() + ".jfr");
+		// 녹화가 끝나면(시간 만료 또는 중지) 이 파일에 저장됨
+		newRecording.setDestination(file);
+		newRecording.start();
+
+		recording = newRecording;
+		recordingFile = file;
+
+		log.info("JFR recording {} started for {} (max size {})", newRecording.getId(), duration, jfrRecordingProperties.getMaxSize());
+
+		return new WebEndpointResponse<>(describe(newRecording));
+	}
+
+	/**
+	 * 녹화 중지 및 파일 저장
+	 * 
+	 * @return 중지한 녹화 상태 (녹화가 없으면 404)
+	 */
+	@DeleteOperation
+	public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+
+		if (Objects.isNull(recording)) {
+			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+		}
+
+		if (recording.getState() == RecordingState.RUNNING) {
+			recording.stop();
+			log.info("JFR recording {} stopped, written to {}", recording.getId(), recordingFile);
+		}
+
+		return new WebEndpointResponse<>(describe(recording));
+	}
+
+	/**
+	 * 녹화 파일 다운로드
+	 * 
+	 * @param id 녹화 ID
+	 * @return 녹화 파일 (녹화가 끝나지 않았거나 없으면 404)
+	 */
+	@ReadOperation(produces = "application/octet-stream")
+	public synchronized WebEndpointResponse<Resource> download(@Selector long id) {
+
+		final boolean finished = Objects.nonNull(recording) && recording.getId() == id
+				&& (recording.getState() == RecordingState.STOPPED || recording.getState() == RecordingState.CLOSED);
+
+		if (!finished || !Files.exists(recordingFile)) {
+			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+		}
+
+		return new WebEndpointResponse<>(new FileSystemResource(recordingFile));
+	}
+
+	@Override
+	public synchronized void destroy() {
+
+		discardPrevious();
+	}
+
+	/**
+	 * 녹화 설정 생성
+	 * 
+	 * @return 기본 프로필에 할당/락/CPU 샘플링 설정과 애플리케이션 이벤트를 더한 설정
+	 */
+	private Map<String, String> recordingSettings() throws IOException, ParseException {
+
+		final Map<String, String> settings = new HashMap<>(Configuration.getConfiguration(jfrRecordingProperties.getSettings()).getSettings());
+
+		settings.put("jdk.ObjectAllocationSample#enabled", "true");
+		settings.put("jdk.ObjectAllocationSample#throttle", jfrRecordingProperties.getAllocationSampleRate());
+		settings.put("jdk.JavaMonitorEnter#enabled", "true");
+		settings.put("jdk.JavaMonitorEnter#threshold", jfrRecordingProperties.getLockThreshold());
+		settings.put("jdk.ThreadPark#enabled", "true");
+		settings.put("jdk.ThreadPark#threshold", jfrRecordingProperties.getLockThreshold());
+		settings.put("jdk.ExecutionSample#enabled", "true");
+		settings.put("jdk.ExecutionSample#period", jfrRecordingProperties.getExecutionSamplePeriod());
+
+		for (Class<? extends Event> eventType : JfrEvents.EVENT_TYPES) {
+			final String name = EventType.getEventType(eventType).getName();
+			settings.put(name + "#enabled", "true");
+			settings.put(name + "#threshold", "0 ms");
+		}
+
+		return settings;
+	}
+
+	private Path recordingDirectory() throws IOException {
+
+		final String directory = jfrRecordingProperties.getDirectory();
+		final Path path = StringUtils.isEmpty(directory) ? Path.of(System.getProperty("java.io.tmpdir")) : Path.of(directory);
+
+		return Files.createDirectories(path);
+	}
+
+	/**
+	 * 이전 녹화와 녹화 파일 정리
+	 */
+	private void discardPrevious() {
+
+		if (Objects.nonNull(recording)) {
+			recording.close();
+			recording = null;
+		}
+
+		if (Objects.nonNull(recordingFile)) {
+			try {
+				Files.deleteIfExists(recordingFile);
+			}
+			catch (IOException exception) {
+				log.warn("Could not delete JFR recording file {} : {}", recordingFile, exception.getMessage());
+			}
+			recordingFile = null;
+		}
+	}
+
+	private Map<String, Object> describe(Recording target) {
+
+		final Map<String, Object> description = new LinkedHashMap<>();
+
+		if (Objects.isNull(target)) {
+			description.put("state", "NONE");
+			return description;
+		}
+
+		final Instant startTime = target.getStartTime();
+
+		description.put("id", target.getId());
+		description.put("state", target.getState().name());
+		description.put("startTime", Objects.isNull(startTime) ? null : startTime.toString());
+		description.put("duration", Objects.isNull(target.getDuration()) ? null : target.getDuration().toString());
+		description.put("maxSize", target.getMaxSize());
+		description.put("size", target.getSize());
+
+		return description;
+	}
+
+}
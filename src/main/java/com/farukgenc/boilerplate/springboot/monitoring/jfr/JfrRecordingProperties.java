@@ -0,0 +1,49 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * JFR 녹화 엔드포인트 설정 프로퍼티
+ * 
+ * <p>application.yml의 monitoring.jfr 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "monitoring.jfr")
+public class JfrRecordingProperties {
+
+	/** 녹화 시간을 지정하지 않았을 때의 기본 녹화 시간 */
+	private Duration defaultDuration = Duration.ofMinutes(1);
+
+	/** 최대 녹화 시간 (요청한 녹화 시간은 이 값으로 제한) */
+	private Duration maxDuration = Duration.ofMinutes(10);
+
+	/** 최대 녹화 파일 크기 (초과 시 오래된 데이터부터 삭제) */
+	private DataSize maxSize = DataSize.ofMegabytes(100);
+
+	/** 녹화 파일 저장 디렉터리 (비어 있으면 임시 디렉터리) */
+	private String directory;
+
+	/** 기본 설정 프로필 (JDK 기본 제공: default, profile) */
+	private String settings = "profile";
+
+	/** 할당 샘플링 빈도 (jdk.ObjectAllocationSample#throttle) */
+	private String allocationSampleRate = "300/s";
+
+	/** 락 경합 기록 기준 시간 (jdk.JavaMonitorEnter, jdk.ThreadPark) */
+	private String lockThreshold = "5 ms";
+
+	/** CPU 샘플링 주기 (jdk.ExecutionSample#period) */
+	private String executionSamplePeriod = "10 ms";
+
+}
@@ -0,0 +1,39 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR 로그인 이벤트
+ * 
+ * <p>로그인(JwtTokenService) 처리 시간과 결과를 기록합니다. 사용자명은 기록하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Setter
+@Name(JfrEvents.NAME_PREFIX + "Login")
+@Label("Login")
+@Category({JfrEvents.CATEGORY, JfrEvents.CATEGORY_AUTH})
+@Description("User login")
+@StackTrace(false)
+public class LoginEvent extends Event {
+
+	/** 로그인 성공 */
+	public static final String SUCCESS = "success";
+
+	/** 인증 실패 (사용자 없음, 비밀번호 불일치 등) */
+	public static final String REJECTED = "rejected";
+
+	/** 그 밖의 오류 */
+	public static final String ERROR = "error";
+
+	@Label("Outcome")
+	private String outcome = ERROR;
+
+}
@@ -0,0 +1,57 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR 비밀번호 해시 이벤트
+ * 
+ * <p>비밀번호 해시/검증(DeadlineAwarePasswordEncoder) 시간과 결과를 기록합니다. 비밀번호와 해시 값은 기록하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Setter
+@Name(JfrEvents.NAME_PREFIX + "PasswordHash")
+@Label("Password Hash")
+@Category({JfrEvents.CATEGORY, JfrEvents.CATEGORY_AUTH})
+@Description("Password hashing or verification")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+	/** 해시 생성 */
+	public static final String ENCODE = "encode";
+
+	/** 해시 검증 */
+	public static final String MATCHES = "matches";
+
+	/** 해시 생성 성공 */
+	public static final String HASHED = "hashed";
+
+	/** 비밀번호 일치 */
+	public static final String MATCH = "match";
+
+	/** 비밀번호 불일치 */
+	public static final String MISMATCH = "mismatch";
+
+	/** 요청 마감 시간 초과 */
+	public static final String DEADLINE_EXCEEDED = "deadline_exceeded";
+
+	/** 해시 대기열 포화 */
+	public static final String OVERLOADED = "overloaded";
+
+	/** 그 밖의 오류 */
+	public static final String ERROR = "error";
+
+	@Label("Operation")
+	private String operation;
+
+	@Label("Outcome")
+	private String outcome = ERROR;
+
+}
@@ -0,0 +1,39 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR 회원가입 이벤트
+ * 
+ * <p>회원가입(UserServiceImpl) 처리 시간과 결과를 기록합니다. 사용자명, 이메일은 기록하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Setter
+@Name(JfrEvents.NAME_PREFIX + "Registration")
+@Label("Registration")
+@Category({JfrEvents.CATEGORY, JfrEvents.CATEGORY_AUTH})
+@Description("User registration")
+@StackTrace(false)
+public class RegistrationEvent extends Event {
+
+	/** 가입 성공 */
+	public static final String SUCCESS = "success";
+
+	/** 사용자명/이메일 중복으로 거절 */
+	public static final String REJECTED = "rejected";
+
+	/** 그 밖의 오류 */
+	public static final String ERROR = "error";
+
+	@Label("Outcome")
+	private String outcome = ERROR;
+
+}
@@ -0,0 +1,35 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR 토큰 검증 이벤트
+ * 
+ * <p>JwtTokenManager의 토큰 검증 시간과 결과 상태를 기록합니다. 토큰과 사용자명은 기록하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Setter
+@Name(JfrEvents.NAME_PREFIX + "TokenVerification")
+@Label("Token Verification")
+@Category({JfrEvents.CATEGORY, JfrEvents.CATEGORY_AUTH})
+@Description("Bearer token verification")
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+	@Label("Status")
+	@Description("VALID, MALFORMED, INVALID_SIGNATURE, EXPIRED 등 검증 결과")
+	private String status;
+
+	@Label("Cached")
+	@Description("잘못된 토큰 캐시에서 바로 거절했는지 여부")
+	private boolean cached;
+
+}
@@ -0,0 +1,45 @@
+package com.farukgenc.boilerplate.springboot.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR 사용자 조회 이벤트
+ * 
+ * <p>요청 인증용 사용자 조회(ResilientUserDetailsService) 시간과 결과를 기록합니다. 사용자명은 기록하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Setter
+@Name(JfrEvents.NAME_PREFIX + "UserLookup")
+@Label("User Lookup")
+@Category({JfrEvents.CATEGORY, JfrEvents.CATEGORY_AUTH})
+@Description("User lookup for request authentication")
+@StackTrace(false)
+public class UserLookupEvent extends Event {
+
+	/** 사용자 조회 성공 */
+	public static final String FOUND = "found";
+
+	/** 존재하지 않는 사용자 */
+	public static final String NOT_FOUND = "not_found";
+
+	/** 조회 장애 중 캐시된 사용자로 처리 */
+	public static final String STALE = "stale";
+
+	/** 조회 장애 중이고 사용할 수 있는 캐시 없음 */
+	public static final String UNAVAILABLE = "unavailable";
+
+	/** 요청 마감 시간 초과 */
+	public static final String DEADLINE_EXCEEDED = "deadline_exceeded";
+
+	@Label("Outcome")
+	private String outcome;
+
+}
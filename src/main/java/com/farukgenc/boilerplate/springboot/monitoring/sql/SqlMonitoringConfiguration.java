@@ -0,0 +1,58 @@
+package com.farukgenc.boilerplate.springboot.monitoring.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 모니터링 설정 클래스
+ * 
+ * <p>Hibernate에 SQL 집계 StatementInspector와 DB 시간 측정 세션 리스너를 등록하고,
+ * 요청별 통계를 관리하는 필터를 보안 필터 체인보다 앞에 등록합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+public class SqlMonitoringConfiguration {
+
+	/** 필터 순서 (보안 필터 체인보다 먼저 실행) */
+	private static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 10;
+
+	/**
+	 * Hibernate 설정 커스터마이저
+	 * 
+	 * @return SQL 집계/시간 측정 설정을 추가하는 HibernatePropertiesCustomizer
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer sqlMonitoringHibernatePropertiesCustomizer() {
+
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+			hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+		};
+	}
+
+	/**
+	 * SQL 실행 모니터링 필터 등록
+	 * 
+	 * @param sqlMonitoringProperties SQL 모니터링 설정
+	 * @param meterRegistry 메트릭 레지스트리
+	 * @return 필터 등록 Bean
+	 */
+	@Bean
+	public FilterRegistrationBean<SqlStatementMonitoringFilter> sqlStatementMonitoringFilter(SqlMonitoringProperties sqlMonitoringProperties,
+																							 MeterRegistry meterRegistry) {
+
+		final FilterRegistrationBean<SqlStatementMonitoringFilter> registrationBean =
+				new FilterRegistrationBean<>(new SqlStatementMonitoringFilter(sqlMonitoringProperties, meterRegistry));
+		registrationBean.setOrder(FILTER_ORDER);
+
+		return registrationBean;
+	}
+
+}
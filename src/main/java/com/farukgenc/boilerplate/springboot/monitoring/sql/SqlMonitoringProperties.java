@@ -0,0 +1,37 @@
+package com.farukgenc.boilerplate.springboot.monitoring.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL 실행 모니터링 설정 프로퍼티
+ * 
+ * <p>application.yml의 monitoring.sql 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "monitoring.sql")
+public class SqlMonitoringProperties {
+
+	/** 요청별 SQL 실행 수/DB 시간 측정 사용 여부 */
+	private boolean enabled = true;
+
+	/** 응답에 X-DB-Statements 헤더 추가 여부 (운영 환경이 아닌 프로파일에서만 사용 권장) */
+	private boolean exposeHeader = false;
+
+	/** 엔드포인트별 SQL 실행 수 예산 (키: "HTTP메서드 경로패턴", 예: "POST /login") */
+	private Map<String, Integer> budgets = new HashMap<>();
+
+	/** 한 요청에서 같은 SQL이 이 횟수 이상 실행되면 N+1 의심으로 경고 */
+	private int nPlusOneThreshold = 5;
+
+}
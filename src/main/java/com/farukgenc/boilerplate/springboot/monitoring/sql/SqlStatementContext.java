@@ -0,0 +1,94 @@
+package com.farukgenc.boilerplate.springboot.monitoring.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 실행 통계
+ * 
+ * <p>현재 스레드(요청)에서 실행된 SQL 수, 누적 DB 시간, SQL별 실행 횟수를 기록합니다.
+ * SqlStatementMonitoringFilter가 요청 시작 시 생성하고 종료 시 제거합니다.
+ * 요청 밖(스케줄러, 시작 작업 등)에서 실행된 SQL은 기록하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class SqlStatementContext {
+
+	private static final ThreadLocal<SqlStatementContext> CURRENT = new ThreadLocal<>();
+
+	private int statementCount;
+
+	private long dbTimeNanos;
+
+	private final Map<String, Integer> statementCountsBySql = new HashMap<>();
+
+	private SqlStatementContext() {
+	}
+
+	/**
+	 * 현재 스레드에 새 통계 시작
+	 * 
+	 * @return 시작한 통계
+	 */
+	static SqlStatementContext begin() {
+
+		final SqlStatementContext context = new SqlStatementContext();
+		CURRENT.set(context);
+		return context;
+	}
+
+	/**
+	 * 현재 스레드의 통계 종료
+	 */
+	static void end() {
+
+		CURRENT.remove();
+	}
+
+	/**
+	 * 현재 스레드의 통계 조회
+	 * 
+	 * @return 현재 통계 (요청 밖이면 null)
+	 */
+	public static SqlStatementContext current() {
+
+		return CURRENT.get();
+	}
+
+	void recordStatement(String sql) {
+
+		statementCount++;
+		statementCountsBySql.merge(sql, 1, Integer::sum);
+	}
+
+	void recordDbTime(long elapsedNanos) {
+
+		dbTimeNanos += elapsedNanos;
+	}
+
+	/**
+	 * @return 실행된 SQL 수
+	 */
+	public int getStatementCount() {
+
+		return statementCount;
+	}
+
+	/**
+	 * @return 누적 DB 실행 시간 (나노초)
+	 */
+	public long getDbTimeNanos() {
+
+		return dbTimeNanos;
+	}
+
+	/**
+	 * @return SQL별 실행 횟수
+	 */
+	Map<String, Integer> getStatementCountsBySql() {
+
+		return statementCountsBySql;
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.farukgenc.boilerplate.springboot.monitoring.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Objects;
+
+/**
+ * SQL 실행 수 집계 StatementInspector
+ * 
+ * <p>Hibernate가 JDBC Statement를 준비할 때마다 호출되어 현재 요청의 SQL 실행 수와
+ * SQL별 실행 횟수(N+1 감지용)를 기록합니다. SQL은 변경하지 않고 그대로 반환합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+
+		final SqlStatementContext context = SqlStatementContext.current();
+
+		if (Objects.nonNull(context)) {
+			context.recordStatement(sql);
+		}
+
+		return sql;
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.farukgenc.boilerplate.springboot.monitoring.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Objects;
+
+/**
+ * X-DB-Statements 응답 헤더 추가 Advice
+ * 
+ * <p>메시지 컨버터가 응답 본문을 쓰면서 응답을 커밋(flush)하기 때문에, 필터에서는 헤더를 추가할 수 없습니다.
+ * 그래서 본문을 쓰기 직전에 현재까지 실행된 SQL 수를 헤더로 추가합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+	private final SqlMonitoringProperties sqlMonitoringProperties;
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+
+		return sqlMonitoringProperties.isEnabled() && sqlMonitoringProperties.isExposeHeader();
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+								  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+								  ServerHttpRequest request, ServerHttpResponse response) {
+
+		final SqlStatementContext context = SqlStatementContext.current();
+
+		if (Objects.nonNull(context)) {
+			response.getHeaders().set(SqlStatementMonitoringFilter.DB_STATEMENTS_HEADER, String.valueOf(context.getStatementCount()));
+		}
+
+		return body;
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.farukgenc.boilerplate.springboot.monitoring.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 실행 모니터링 필터
+ * 
+ * <p>보안 필터 체인보다 먼저 실행되어, JWT 인증 필터의 사용자 조회까지 포함한 요청 전체의
+ * SQL 실행 수와 DB 시간을 측정합니다.
+ * 
+ * <p>요청 종료 시 다음을 수행합니다:
+ * <ul>
+ *   <li>엔드포인트(HTTP 메서드 + 경로 패턴)별 메트릭 기록
+ *       (http.server.requests.db.statements, http.server.requests.db.time)</li>
+ *   <li>같은 SQL이 반복 실행된 경우 N+1 의심 경고</li>
+ *   <li>엔드포인트별 SQL 실행 수 예산 초과 시 경고 로그와 메트릭 기록 (http.server.requests.db.budget.exceeded)</li>
+ * </ul>
+ * 
+ * <p>예산 초과는 응답이 이미 커밋된 뒤에 확인되므로 요청을 실패시키지 않습니다.
+ * 쿼리 수 회귀는 테스트에서 SQL 실행 수를 직접 확인하여 잡습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementMonitoringFilter extends OncePerRequestFilter {
+
+	/** 응답 헤더 이름 */
+	public static final String DB_STATEMENTS_HEADER = "X-DB-Statements";
+
+	/** 핸들러에 매핑되지 않은 요청의 경로 태그 */
+	private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+	private final SqlMonitoringProperties sqlMonitoringProperties;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+
+		return !sqlMonitoringProperties.isEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		final SqlStatementContext context = SqlStatementContext.begin();
+
+		try {
+			chain.doFilter(request, response);
+		}
+		finally {
+			SqlStatementContext.end();
+		}
+
+		final String route = request.getMethod() + " " + resolveRoutePattern(request);
+
+		recordMetrics(request, context);
+		detectNPlusOne(route, context);
+
+		if (sqlMonitoringProperties.isExposeHeader() && !response.isCommitted()) {
+			response.setIntHeader(DB_STATEMENTS_HEADER, context.getStatementCount());
+		}
+
+		checkBudget(request, route, context);
+	}
+
+	private void recordMetrics(HttpServletRequest request, SqlStatementContext context) {
+
+		final String method = request.getMethod();
+		final String uri = resolveRoutePattern(request);
+
+		DistributionSummary.builder("http.server.requests.db.statements")
+				.description("SQL statements executed per request")
+				.tags("method", method, "uri", uri)
+				.register(meterRegistry)
+				.record(context.getStatementCount());
+
+		Timer.builder("http.server.requests.db.time")
+				.description("Total database time per request")
+				.tags("method", method, "uri", uri)
+				.register(meterRegistry)
+				.record(context.getDbTimeNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	private void detectNPlusOne(String route, SqlStatementContext context) {
+
+		final int threshold = sqlMonitoringProperties.getNPlusOneThreshold();
+
+		for (Map.Entry<String, Integer> entry : context.getStatementCountsBySql().entrySet()) {
+
+			if (entry.getValue() >= threshold) {
+				log.warn("Possible N+1 query on {} : executed {} times -> {}", route, entry.getValue(), entry.getKey());
+			}
+		}
+	}
+
+	private void checkBudget(HttpServletRequest request, String route, SqlStatementContext context) {
+
+		final Integer budget = sqlMonitoringProperties.getBudgets().get(route);
+
+		if (Objects.isNull(budget) || context.getStatementCount() <= budget) {
+			return;
+		}
+
+		log.warn("SQL statement budget exceeded on {} : {} statements (budget : {})", route, context.getStatementCount(), budget);
+
+		Counter.builder("http.server.requests.db.budget.exceeded")
+				.description("Requests that executed more SQL statements than the route budget")
+				.tags("method", request.getMethod(), "uri", resolveRoutePattern(request))
+				.register(meterRegistry)
+				.increment();
+	}
+
+	/**
+	 * 요청을 처리한 핸들러의 경로 패턴 조회 (예: /admin/users/{id})
+	 * 
+	 * <p>실제 URI 대신 패턴을 사용하여 메트릭 태그 수가 폭증하지 않도록 합니다.
+	 * 
+	 * @param request HTTP 요청
+	 * @return 경로 패턴 (핸들러가 없으면 UNKNOWN)
+	 */
+	private static String resolveRoutePattern(HttpServletRequest request) {
+
+		final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return Objects.isNull(pattern) ? UNKNOWN_ROUTE : pattern.toString();
+	}
+
+}
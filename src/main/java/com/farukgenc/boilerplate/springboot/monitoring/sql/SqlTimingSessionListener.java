@@ -0,0 +1,37 @@
+package com.farukgenc.boilerplate.springboot.monitoring.sql;
+
+import org.hibernate.SessionEventListener;
+
+import java.util.Objects;
+
+/**
+ * DB 실행 시간 측정 Hibernate 세션 리스너
+ * 
+ * <p>JDBC Statement 실행 시작/종료 시점을 받아 현재 요청의 누적 DB 시간을 기록합니다.
+ * Hibernate가 세션마다 기본 생성자로 인스턴스를 만들기 때문에 (hibernate.session.events.auto)
+ * Spring Bean이 아니며, 세션은 한 스레드에서만 사용되므로 시작 시각을 필드에 보관합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+	private long executeStartNanos;
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+
+		executeStartNanos = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+
+		final SqlStatementContext context = SqlStatementContext.current();
+
+		if (Objects.nonNull(context)) {
+			context.recordDbTime(System.nanoTime() - executeStartNanos);
+		}
+	}
+
+}
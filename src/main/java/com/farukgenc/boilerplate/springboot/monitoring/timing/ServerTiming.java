@@ -0,0 +1,174 @@
+package com.farukgenc.boilerplate.springboot.monitoring.timing;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 요청별 처리 단계 시간 기록
+ * 
+ * <p>현재 스레드(요청)의 단계별 처리 시간을 기록하여 Server-Timing 응답 헤더로 내보냅니다.
+ * ServerTimingFilter가 Server-Timing을 켠 요청에서만 생성하고 종료 시 제거합니다.
+ * 
+ * <p>사용 방법:
+ * <pre>
+ * final long startNanos = ServerTiming.start();
+ * ... 측정할 작업 ...
+ * ServerTiming.record(ServerTiming.PASSWORD_HASH, startNanos);
+ * </pre>
+ * Server-Timing이 꺼진 요청에서는 start()가 시각을 읽지 않고 0을 반환하고 record()는 바로 반환하므로,
+ * 비용은 ThreadLocal 조회 한 번뿐입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class ServerTiming {
+
+	/** 토큰 검증 (JwtAuthenticationFilter) */
+	public static final String TOKEN_VERIFY = "token-verify";
+
+	/** 요청 인증용 사용자 조회 (JwtAuthenticationFilter) */
+	public static final String USER_LOOKUP = "user-lookup";
+
+	/** 사용자 조회 DB 쿼리 (UserDetailsServiceImpl) */
+	public static final String USER_QUERY = "user-query";
+
+	/** 로그인 인증 (비밀번호 검증 포함, JwtTokenService) */
+	public static final String AUTHENTICATE = "authenticate";
+
+	/** 토큰 발급 (JwtTokenService) */
+	public static final String TOKEN_ISSUE = "token-issue";
+
+	/** 비밀번호 해시 (UserServiceImpl) */
+	public static final String PASSWORD_HASH = "password-hash";
+
+	/** 사용자 저장 (UserServiceImpl) */
+	public static final String USER_INSERT = "user-insert";
+
+	/** 컨트롤러 처리 (응답 본문 직렬화 전까지) */
+	public static final String HANDLER = "handler";
+
+	/** 요청 시작부터 헤더 작성 시점까지 */
+	public static final String TOTAL = "total";
+
+	private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+	private final long startNanos;
+
+	private String[] stages = new String[8];
+
+	private long[] durations = new long[8];
+
+	private int stageCount;
+
+	private ServerTiming(long startNanos) {
+
+		this.startNanos = startNanos;
+	}
+
+	/**
+	 * 현재 스레드에서 기록 시작
+	 */
+	static void begin() {
+
+		CURRENT.set(new ServerTiming(System.nanoTime()));
+	}
+
+	/**
+	 * 현재 스레드의 기록 종료
+	 */
+	static void end() {
+
+		CURRENT.remove();
+	}
+
+	/**
+	 * 현재 스레드의 기록 조회
+	 * 
+	 * @return 현재 기록 (Server-Timing이 꺼진 요청이면 null)
+	 */
+	static ServerTiming current() {
+
+		return CURRENT.get();
+	}
+
+	/**
+	 * 단계 시작 시각
+	 * 
+	 * @return 현재 시각 (나노초), Server-Timing이 꺼진 요청이면 0
+	 */
+	public static long start() {
+
+		return Objects.isNull(CURRENT.get()) ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * 단계 시간 기록 (같은 단계가 여러 번 실행되면 합산)
+	 * 
+	 * @param stage 단계 이름
+	 * @param startNanos start()가 반환한 시작 시각
+	 */
+	public static void record(String stage, long startNanos) {
+
+		if (startNanos == 0) {
+			return;
+		}
+
+		final ServerTiming serverTiming = CURRENT.get();
+
+		if (Objects.nonNull(serverTiming)) {
+			serverTiming.add(stage, System.nanoTime() - startNanos);
+		}
+	}
+
+	private void add(String stage, long elapsedNanos) {
+
+		for (int i = 0; i < stageCount; i++) {
+			if (stages[i].equals(stage)) {
+				durations[i] += elapsedNanos;
+				return;
+			}
+		}
+
+		if (stageCount == stages.length) {
+			stages = Arrays.copyOf(stages, stageCount * 2);
+			durations = Arrays.copyOf(durations, stageCount * 2);
+		}
+
+		stages[stageCount] = stage;
+		durations[stageCount++] = elapsedNanos;
+	}
+
+	/**
+	 * Server-Timing 헤더 값 생성 (예: "token-verify;dur=0.08, user-lookup;dur=2.31, total;dur=5.02")
+	 * 
+	 * @return 헤더 값 (밀리초 단위)
+	 */
+	String toHeaderValue() {
+
+		final StringBuilder builder = new StringBuilder(32 * (stageCount + 1));
+
+		for (int i = 0; i < stageCount; i++) {
+			appendMetric(builder, stages[i], durations[i]).append(", ");
+		}
+
+		return appendMetric(builder, TOTAL, System.nanoTime() - startNanos).toString();
+	}
+
+	private static StringBuilder appendMetric(StringBuilder builder, String stage, long elapsedNanos) {
+
+		final long micros = elapsedNanos / 1_000;
+
+		builder.append(stage).append(";dur=").append(micros / 1_000).append('.');
+
+		final long fraction = micros % 1_000;
+		if (fraction < 100) {
+			builder.append('0');
+		}
+		if (fraction < 10) {
+			builder.append('0');
+		}
+
+		return builder.append(fraction);
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.monitoring.timing;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Server-Timing 설정 클래스
+ * 
+ * <p>Server-Timing 필터를 보안 필터 체인보다 먼저 등록하여 토큰 검증, 사용자 조회 시간도 기록되도록 하고,
+ * 컨트롤러 처리 시간 측정 인터셉터를 등록합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+
+	/** 필터 순서 (동시 처리 제한 필터 다음, 요청 마감 시간 필터보다 먼저 실행) */
+	private static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 25;
+
+	/**
+	 * Server-Timing 필터 등록
+	 * 
+	 * @param serverTimingProperties Server-Timing 설정
+	 * @return 필터 등록 Bean
+	 */
+	@Bean
+	public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties serverTimingProperties) {
+
+		final FilterRegistrationBean<ServerTimingFilter> registrationBean = new FilterRegistrationBean<>(new ServerTimingFilter(serverTimingProperties));
+		registrationBean.setOrder(FILTER_ORDER);
+
+		return registrationBean;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+
+		registry.addInterceptor(new ServerTimingHandlerInterceptor());
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.farukgenc.boilerplate.springboot.monitoring.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Server-Timing 필터
+ * 
+ * <p>다음 경우에만 요청의 단계별 처리 시간을 기록하고 Server-Timing 응답 헤더로 내보냅니다:
+ * <ul>
+ *   <li>monitoring.server-timing.enabled가 true인 경우 (개발 프로필)</li>
+ *   <li>요청에 서명된 디버그 헤더가 있는 경우 (운영 환경에서 특정 요청만 진단)</li>
+ * </ul>
+ * 
+ * <p>디버그 헤더 값은 "epoch초:서명" 형식이며, 서명은 debug-secret 키로 계산한 epoch초 문자열의 HMAC-SHA256(Base64URL)입니다.
+ * 시각이 max-clock-skew를 벗어난 헤더는 무시합니다.
+ * 
+ * <p>JSON 응답은 본문을 쓰기 직전에 ServerTimingHeaderAdvice가 헤더를 추가하고,
+ * 그 밖의 응답(오류 응답 등)은 체인이 끝난 뒤 응답이 아직 커밋되지 않았으면 여기서 추가합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	/** Server-Timing 응답 헤더 */
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	private static final String HMAC_SHA256 = "HmacSHA256";
+
+	private final ServerTimingProperties serverTimingProperties;
+
+	private final SecretKeySpec debugKey;
+
+	public ServerTimingFilter(ServerTimingProperties serverTimingProperties) {
+
+		this.serverTimingProperties = serverTimingProperties;
+
+		final String debugSecret = serverTimingProperties.getDebugSecret();
+		this.debugKey = StringUtils.isEmpty(debugSecret) ? null : new SecretKeySpec(debugSecret.getBytes(StandardCharsets.UTF_8), HMAC_SHA256);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+
+		return !serverTimingProperties.isEnabled() && Objects.isNull(debugKey);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		if (!serverTimingProperties.isEnabled() && !hasValidDebugHeader(request)) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		ServerTiming.begin();
+
+		try {
+			chain.doFilter(request, response);
+
+			final ServerTiming serverTiming = ServerTiming.current();
+
+			if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING_HEADER) && Objects.nonNull(serverTiming)) {
+				response.setHeader(SERVER_TIMING_HEADER, serverTiming.toHeaderValue());
+			}
+		}
+		finally {
+			ServerTiming.end();
+		}
+	}
+
+	private boolean hasValidDebugHeader(HttpServletRequest request) {
+
+		final String headerValue = request.getHeader(serverTimingProperties.getDebugHeader());
+
+		if (Objects.isNull(debugKey) || Objects.isNull(headerValue)) {
+			return false;
+		}
+
+		final int separator = headerValue.indexOf(':');
+
+		if (separator <= 0) {
+			return false;
+		}
+
+		final String timestamp = headerValue.substring(0, separator);
+
+		try {
+			final long epochSeconds = Long.parseLong(timestamp);
+			final long skewSeconds = Math.abs(System.currentTimeMillis() / 1000 - epochSeconds);
+
+			if (skewSeconds > serverTimingProperties.getMaxClockSkew().toSeconds()) {
+				return false;
+			}
+
+			final Mac mac = Mac.getInstance(HMAC_SHA256);
+			mac.init(debugKey);
+
+			final byte[] expected = Base64.getUrlEncoder().withoutPadding()
+					.encode(mac.doFinal(timestamp.getBytes(StandardCharsets.US_ASCII)));
+			final byte[] actual = headerValue.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+
+			return MessageDigest.isEqual(expected, actual);
+		}
+		catch (NumberFormatException | GeneralSecurityException exception) {
+			log.debug("Ignoring invalid {} header : {}", serverTimingProperties.getDebugHeader(), exception.getMessage());
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.farukgenc.boilerplate.springboot.monitoring.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 컨트롤러 처리 시간 측정 인터셉터
+ * 
+ * <p>컨트롤러마다 측정 코드를 넣지 않도록, 핸들러 호출 직전 시각을 요청 속성에 저장하고
+ * 응답 본문을 쓰기 직전(ServerTimingHeaderAdvice)에 handler 단계로 기록합니다.
+ * 본문이 없는 응답은 핸들러 호출이 끝난 뒤(postHandle) 기록합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class ServerTimingHandlerInterceptor implements HandlerInterceptor {
+
+	private static final String HANDLER_START_ATTRIBUTE = ServerTimingHandlerInterceptor.class.getName() + ".handlerStart";
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+		final long startNanos = ServerTiming.start();
+
+		if (startNanos != 0) {
+			request.setAttribute(HANDLER_START_ATTRIBUTE, startNanos);
+		}
+
+		return true;
+	}
+
+	@Override
+	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+						   ModelAndView modelAndView) {
+
+		recordHandler(request);
+	}
+
+	/**
+	 * handler 단계 기록 (한 요청에서 한 번만 기록)
+	 * 
+	 * @param request HTTP 요청
+	 */
+	static void recordHandler(ServerHttpRequest request) {
+
+		if (request instanceof ServletServerHttpRequest servletServerHttpRequest) {
+			recordHandler(servletServerHttpRequest.getServletRequest());
+		}
+	}
+
+	private static void recordHandler(HttpServletRequest request) {
+
+		if (request.getAttribute(HANDLER_START_ATTRIBUTE) instanceof Long startNanos) {
+			request.removeAttribute(HANDLER_START_ATTRIBUTE);
+			ServerTiming.record(ServerTiming.HANDLER, startNanos);
+		}
+	}
+
+}
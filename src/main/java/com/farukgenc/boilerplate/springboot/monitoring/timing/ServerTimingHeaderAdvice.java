@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.monitoring.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Objects;
+
+/**
+ * Server-Timing 응답 헤더 추가 Advice
+ * 
+ * <p>메시지 컨버터가 응답 본문을 쓰면서 응답을 커밋하므로, 본문을 쓰기 직전에 현재까지의 단계별 시간을 헤더로 추가합니다.
+ * 따라서 total에는 응답 본문 직렬화 시간이 포함되지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@ControllerAdvice
+public class ServerTimingHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+								  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+								  ServerHttpRequest request, ServerHttpResponse response) {
+
+		final ServerTiming serverTiming = ServerTiming.current();
+
+		if (Objects.nonNull(serverTiming)) {
+			ServerTimingHandlerInterceptor.recordHandler(request);
+			response.getHeaders().set(ServerTimingFilter.SERVER_TIMING_HEADER, serverTiming.toHeaderValue());
+		}
+
+		return body;
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.farukgenc.boilerplate.springboot.monitoring.timing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Server-Timing 응답 헤더 설정 프로퍼티
+ * 
+ * <p>application.yml의 monitoring.server-timing 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "monitoring.server-timing")
+public class ServerTimingProperties {
+
+	/** 모든 요청에 Server-Timing 헤더 추가 (운영 환경이 아닌 프로파일에서만 사용 권장) */
+	private boolean enabled = false;
+
+	/** 요청 단위로 켜기 위한 서명된 디버그 헤더 이름 */
+	private String debugHeader = "X-Debug-Timing";
+
+	/** 디버그 헤더 서명 키 (비어 있으면 디버그 헤더 무시) */
+	private String debugSecret;
+
+	/** 디버그 헤더 시각과 서버 시각의 허용 차이 (서명 값 재사용 기간 제한) */
+	private Duration maxClockSkew = Duration.ofMinutes(5);
+
+}
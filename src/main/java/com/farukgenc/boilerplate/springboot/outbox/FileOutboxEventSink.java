@@ -0,0 +1,49 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 로컬 파일 전달 대상
+ * 
+ * <p>이벤트를 한 줄에 하나씩 JSON으로 파일 끝에 추가합니다 (로컬 개발/테스트용).
+ * 한 줄을 통째로 쓰도록 쓰기를 직렬화합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class FileOutboxEventSink implements OutboxEventSink {
+
+	private final Path path;
+
+	private final ObjectMapper objectMapper;
+
+	public FileOutboxEventSink(Path path, ObjectMapper objectMapper) {
+
+		this.path = path;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void send(OutboxMessage message) throws IOException {
+
+		final byte[] line = (objectMapper.writeValueAsString(message) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+
+		synchronized (this) {
+
+			final Path parent = path.toAbsolutePath().getParent();
+			if (Objects.nonNull(parent)) {
+				Files.createDirectories(parent);
+			}
+
+			Files.write(path, line, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 메모리 전달 대상
+ * 
+ * <p>전달된 이벤트를 메모리에 보관합니다 (테스트에서 전달 결과를 확인하는 용도).
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+	private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void send(OutboxMessage message) {
+
+		messages.add(message);
+	}
+
+	/**
+	 * 전달된 이벤트 목록
+	 * 
+	 * @return 전달된 순서대로의 이벤트 (읽기 전용 사본)
+	 */
+	public List<OutboxMessage> getMessages() {
+
+		return List.copyOf(messages);
+	}
+
+	/**
+	 * 보관한 이벤트 삭제
+	 */
+	public void clear() {
+
+		messages.clear();
+	}
+
+}
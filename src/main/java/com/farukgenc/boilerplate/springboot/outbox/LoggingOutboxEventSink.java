@@ -0,0 +1,23 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그 출력 전달 대상
+ * 
+ * <p>이벤트를 로그로만 남기는 기본 전달 대상입니다 (실제 대상이 정해지기 전까지 사용).
+ * 페이로드에는 이메일, 이름 등 개인 정보가 들어 있으므로 이벤트 식별 정보(샤드, ID, 종류, 집계)만 남깁니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+	@Override
+	public void send(OutboxMessage message) {
+
+		log.info("Outbox event {}/{} {} {}/{}", message.shard(), message.id(), message.eventType(), message.aggregateType(), message.aggregateId());
+	}
+
+}
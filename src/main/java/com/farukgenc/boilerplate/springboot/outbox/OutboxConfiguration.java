@@ -0,0 +1,42 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 아웃박스 설정 클래스
+ * 
+ * <p>outbox.sink.type에 따라 기본 전달 대상을 등록합니다.
+ * 다른 OutboxEventSink Bean이 있으면 기본 전달 대상은 등록하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+public class OutboxConfiguration {
+
+	/**
+	 * 기본 전달 대상 등록
+	 * 
+	 * @param outboxProperties 아웃박스 설정
+	 * @param objectMapper JSON 직렬화 (FILE 대상)
+	 * @return 전달 대상
+	 */
+	@Bean
+	@ConditionalOnMissingBean(OutboxEventSink.class)
+	public OutboxEventSink outboxEventSink(OutboxProperties outboxProperties, ObjectMapper objectMapper) {
+
+		final OutboxProperties.Sink sink = outboxProperties.getSink();
+
+		return switch (sink.getType()) {
+			case LOG -> new LoggingOutboxEventSink();
+			case FILE -> new FileOutboxEventSink(Path.of(sink.getPath()), objectMapper);
+			case MEMORY -> new InMemoryOutboxEventSink();
+		};
+	}
+
+}
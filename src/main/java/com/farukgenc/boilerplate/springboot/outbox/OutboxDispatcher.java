@@ -0,0 +1,390 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import com.farukgenc.boilerplate.springboot.datasource.ShardRouter;
+import com.farukgenc.boilerplate.springboot.model.outbox.OutboxEvent;
+import com.farukgenc.boilerplate.springboot.repository.outbox.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 이벤트 디스패처
+ * 
+ * <p>OUTBOX_EVENTS 테이블의 이벤트를 백그라운드에서 배치로 가져와 OutboxEventSink에 전달합니다.
+ * 회원가입 요청은 이벤트를 기록만 하고 끝나므로 전달 대상이 느리거나 장애가 나도 가입 응답 시간에 영향이 없습니다.
+ * 
+ * <p>동작 방식:
+ * <ul>
+ *   <li>poll-interval마다 전달할 이벤트를 batch-size만큼 가져와 임대(lease)하고 트랜잭션을 끝냄 (전달하는 동안 DB 연결을 잡지 않음)</li>
+ *   <li>배치를 전용 스레드 풀(parallelism개)에서 동시에 전달하고 send-timeout까지 기다림</li>
+ *   <li>성공한 이벤트는 삭제하고, 실패한 이벤트는 지수 백오프로 다시 시도하며, max-attempts를 넘으면 전달을 포기(dead)</li>
+ *   <li>배치가 가득 차 있었으면 기다리지 않고 바로 다음 배치를 가져옴</li>
+ * </ul>
+ * 
+ * <p>같은 집계(사용자)의 이벤트는 앞선 이벤트가 전달되거나 포기된 뒤에만 가져오므로 기록 순서대로 전달됩니다
+ * (OutboxEventRepository#findDispatchable). 여러 인스턴스가 함께 실행해도 행 잠금과 임대로 같은 이벤트를 동시에 전달하지 않습니다.
+ * 
+ * <p>전달은 최소 한 번(at-least-once) 보장입니다. 전달 후 삭제 전에 인스턴스가 죽거나 시간 초과된 전달이 실제로는 성공한 경우
+ * 같은 이벤트가 다시 전달될 수 있으므로 받는 쪽은 이벤트 ID로 중복을 걸러야 합니다.
+ * 
+ * <p>샤딩을 사용하면 이벤트는 사용자와 같은 샤드의 OUTBOX_EVENTS에 기록되므로 샤드마다 차례로 전달하며,
+ * 이벤트 ID는 샤드 안에서만 고유하므로 받는 쪽은 (샤드 번호, 이벤트 ID)로 중복을 걸러야 합니다.
+ * 
+ * <p>공용 @Scheduled 스레드를 오래 잡지 않도록 자체 스케줄러 스레드를 사용합니다.
+ * 
+ * <p>메트릭:
+ * <ul>
+ *   <li>outbox.dispatched{result=success|retry|dead}: 전달 결과별 이벤트 수</li>
+ *   <li>outbox.delivery.delay: 기록부터 전달 완료까지 걸린 시간</li>
+ *   <li>outbox.pending: 전달되지 않은 이벤트 수 (모든 샤드 합계)</li>
+ *   <li>outbox.lag: 가장 오래된 미전달 이벤트가 기다린 시간 (초, 모든 샤드 중 최대)</li>
+ * </ul>
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher implements InitializingBean, DisposableBean {
+
+	/** 기록할 실패 사유 최대 길이 (LAST_ERROR 컬럼 크기) */
+	private static final int MAX_ERROR_LENGTH = 1024;
+
+	private final OutboxEventRepository outboxEventRepository;
+
+	private final OutboxEventSink outboxEventSink;
+
+	private final OutboxProperties properties;
+
+	private final ShardRouter shardRouter;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Counter successCounter;
+
+	private final Counter retryCounter;
+
+	private final Counter deadCounter;
+
+	private final Timer deliveryDelayTimer;
+
+	private final AtomicLong pending = new AtomicLong();
+
+	private final AtomicLong lagMillis = new AtomicLong();
+
+	private ScheduledExecutorService pollExecutor;
+
+	private ExecutorService sendExecutor;
+
+	public OutboxDispatcher(OutboxEventRepository outboxEventRepository, OutboxEventSink outboxEventSink, OutboxProperties properties,
+			ShardRouter shardRouter, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxEventSink = outboxEventSink;
+		this.properties = properties;
+		this.shardRouter = shardRouter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+		this.successCounter = Counter.builder("outbox.dispatched").tag("result", "success").register(meterRegistry);
+		this.retryCounter = Counter.builder("outbox.dispatched").tag("result", "retry").register(meterRegistry);
+		this.deadCounter = Counter.builder("outbox.dispatched").tag("result", "dead").register(meterRegistry);
+		this.deliveryDelayTimer = Timer.builder("outbox.delivery.delay").register(meterRegistry);
+
+		Gauge.builder("outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("outbox.lag", lagMillis, value -> value.get() / 1000.0).baseUnit("seconds").register(meterRegistry);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (!properties.isEnabled()) {
+			return;
+		}
+
+		final AtomicInteger senderCount = new AtomicInteger();
+
+		sendExecutor = Executors.newFixedThreadPool(properties.getParallelism(), runnable -> {
+			final Thread thread = new Thread(runnable, "outbox-sender-" + senderCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		pollExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "outbox-dispatcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		final long pollIntervalMillis = properties.getPollInterval().toMillis();
+		pollExecutor.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+
+		if (pollExecutor == null) {
+			return;
+		}
+
+		pollExecutor.shutdown();
+		sendExecutor.shutdown();
+
+		// 전달 중인 배치는 결과를 기록할 때까지 기다림 (기다리지 못한 이벤트는 임대가 끝난 뒤 다시 전달됨)
+		final long timeoutMillis = properties.getSendTimeout().toMillis();
+		if (!pollExecutor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+			pollExecutor.shutdownNow();
+		}
+		sendExecutor.shutdownNow();
+	}
+
+	/**
+	 * 샤드마다 전달할 이벤트가 남지 않을 때까지 배치 전달 (한 샤드의 장애가 다른 샤드의 전달을 막지 않음)
+	 */
+	void poll() {
+
+		for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+
+			try {
+				int dispatched;
+
+				do {
+					dispatched = dispatchBatch(shard);
+				}
+				while (dispatched >= properties.getBatchSize() && !pollExecutor.isShutdown());
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (Exception exception) {
+				log.warn("Outbox dispatch failed on shard {}: {}", shard, exception.getMessage());
+			}
+		}
+
+		updateBacklog();
+	}
+
+	/**
+	 * 배치 하나 전달
+	 * 
+	 * @param shard 샤드 번호
+	 * @return 가져온 이벤트 수
+	 * @throws InterruptedException 종료 중 인터럽트된 경우
+	 */
+	int dispatchBatch(int shard) throws InterruptedException {
+
+		final List<Claimed> batch = claimBatch(shard);
+
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		final List<Callable<Void>> tasks = new ArrayList<>(batch.size());
+		for (Claimed claimed : batch) {
+			tasks.add(() -> {
+				outboxEventSink.send(claimed.message());
+				return null;
+			});
+		}
+
+		final List<Future<Void>> futures = sendExecutor.invokeAll(tasks, properties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+		final List<OutboxMessage> delivered = new ArrayList<>(batch.size());
+		final List<Failure> failures = new ArrayList<>();
+
+		for (int i = 0; i < batch.size(); i++) {
+
+			final Claimed claimed = batch.get(i);
+			final Throwable error = errorOf(futures.get(i));
+
+			if (Objects.isNull(error)) {
+				delivered.add(claimed.message());
+			}
+			else {
+				failures.add(new Failure(claimed.message(), claimed.attempts() + 1, error));
+			}
+		}
+
+		recordResults(shard, delivered, failures);
+
+		return batch.size();
+	}
+
+	private List<Claimed> claimBatch(int shard) {
+
+		final List<Claimed> batch = shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+
+			final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+			final List<OutboxEvent> events = outboxEventRepository.findDispatchable(now, properties.getBatchSize());
+
+			if (events.isEmpty()) {
+				return List.of();
+			}
+
+			outboxEventRepository.lease(events.stream().map(OutboxEvent::getId).toList(), now.plus(properties.getLeaseDuration()));
+
+			return events.stream()
+					.map(event -> new Claimed(new OutboxMessage(shard, event.getId(), event.getAggregateType(), event.getAggregateId(),
+							event.getEventType(), event.getPayload(), event.getCreatedAt()), event.getAttempts()))
+					.toList();
+		}));
+
+		return Objects.requireNonNullElse(batch, List.of());
+	}
+
+	private void recordResults(int shard, List<OutboxMessage> delivered, List<Failure> failures) {
+
+		final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+		shardRouter.runOnShard(shard, () -> transactionTemplate.executeWithoutResult(status -> {
+
+			if (!delivered.isEmpty()) {
+				outboxEventRepository.deleteAllByIdInBatch(delivered.stream().map(OutboxMessage::id).toList());
+			}
+
+			for (Failure failure : failures) {
+
+				final Long id = failure.message().id();
+				final String lastError = describe(failure.error());
+
+				if (failure.attempts() >= properties.getMaxAttempts()) {
+					outboxEventRepository.markDead(id, failure.attempts(), now, lastError);
+				}
+				else {
+					outboxEventRepository.reschedule(id, failure.attempts(), now.plus(backoff(failure.attempts())), lastError);
+				}
+			}
+		}));
+
+		for (OutboxMessage message : delivered) {
+			successCounter.increment();
+			deliveryDelayTimer.record(Duration.between(message.createdAt(), now));
+		}
+
+		for (Failure failure : failures) {
+
+			final OutboxMessage message = failure.message();
+
+			if (failure.attempts() >= properties.getMaxAttempts()) {
+				deadCounter.increment();
+				log.error("Outbox event {}/{} ({}) dead after {} attempts: {}", message.shard(), message.id(), message.eventType(), failure.attempts(),
+						failure.error().toString());
+			}
+			else {
+				retryCounter.increment();
+				log.warn("Outbox event {}/{} ({}) failed, attempt {}: {}", message.shard(), message.id(), message.eventType(), failure.attempts(),
+						failure.error().toString());
+			}
+		}
+	}
+
+	private Duration backoff(int attempts) {
+
+		final Duration maxBackoff = properties.getMaxBackoff();
+		final int shift = Math.min(attempts - 1, 30);
+		final Duration backoff = properties.getInitialBackoff().multipliedBy(1L << shift);
+
+		return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+	}
+
+	private void updateBacklog() {
+
+		final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+		long totalPending = 0;
+		long maxLagMillis = 0;
+
+		for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+
+			try {
+				final long[] backlog = shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+
+					final LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+					final long shardLagMillis = Objects.isNull(oldest) ? 0 : Math.max(0, Duration.between(oldest, now).toMillis());
+
+					return new long[] {outboxEventRepository.countByDeadAtIsNull(), shardLagMillis};
+				}));
+
+				totalPending += backlog[0];
+				maxLagMillis = Math.max(maxLagMillis, backlog[1]);
+			}
+			catch (Exception exception) {
+				log.warn("Outbox backlog check failed on shard {}: {}", shard, exception.getMessage());
+			}
+		}
+
+		pending.set(totalPending);
+		lagMillis.set(maxLagMillis);
+	}
+
+	private static Throwable errorOf(Future<Void> future) {
+
+		try {
+			future.get();
+			return null;
+		}
+		catch (CancellationException exception) {
+			return new TimeoutException("Send timed out");
+		}
+		catch (ExecutionException exception) {
+			return Objects.requireNonNullElse(exception.getCause(), exception);
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			return exception;
+		}
+	}
+
+	private static String describe(Throwable error) {
+
+		final String description = error.toString();
+
+		return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+	}
+
+	/**
+	 * 임대한 이벤트
+	 * 
+	 * @param message 전달할 이벤트
+	 * @param attempts 지금까지의 시도 횟수
+	 */
+	private record Claimed(OutboxMessage message, int attempts) {
+
+	}
+
+	/**
+	 * 전달 실패
+	 * 
+	 * @param message 실패한 이벤트
+	 * @param attempts 이번 시도를 포함한 시도 횟수
+	 * @param error 실패 원인
+	 */
+	private record Failure(OutboxMessage message, int attempts, Throwable error) {
+
+	}
+
+}
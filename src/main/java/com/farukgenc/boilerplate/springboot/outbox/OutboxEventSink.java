@@ -0,0 +1,25 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+/**
+ * 아웃박스 이벤트 전달 대상
+ * 
+ * <p>디스패처가 여러 스레드에서 동시에 호출하므로 구현체는 스레드 안전해야 합니다.
+ * 같은 집계의 이벤트는 앞선 이벤트의 전달이 끝난 뒤에만 전달됩니다.
+ * 예외를 던지면 디스패처가 나중에 다시 시도합니다.
+ * 
+ * <p>메시지 브로커 등 다른 대상을 쓰려면 이 인터페이스를 구현한 Bean을 등록하면 됩니다 (기본 대상 대신 사용).
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public interface OutboxEventSink {
+
+	/**
+	 * 이벤트 전달
+	 * 
+	 * @param message 전달할 이벤트
+	 * @throws Exception 전달에 실패한 경우
+	 */
+	void send(OutboxMessage message) throws Exception;
+
+}
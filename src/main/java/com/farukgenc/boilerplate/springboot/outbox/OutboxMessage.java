@@ -0,0 +1,23 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전달할 아웃박스 이벤트
+ * 
+ * <p>디스패처가 OutboxEventSink에 넘기는 값입니다.
+ * 전달은 최소 한 번(at-least-once) 보장이므로 받는 쪽은 (shard, id)로 중복을 걸러야 합니다.
+ * 
+ * @param shard 이벤트가 기록된 샤드 번호 (샤딩을 사용하지 않으면 0)
+ * @param id 이벤트 ID (샤드 안에서 고유)
+ * @param aggregateType 집계 종류 (예: user)
+ * @param aggregateId 집계 ID
+ * @param eventType 이벤트 종류 (예: user.registered)
+ * @param payload 이벤트 내용 (JSON)
+ * @param createdAt 기록 시각 (UTC)
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public record OutboxMessage(int shard, Long id, String aggregateType, String aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+
+}
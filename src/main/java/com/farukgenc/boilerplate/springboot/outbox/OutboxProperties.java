@@ -0,0 +1,85 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 설정 프로퍼티
+ * 
+ * <p>application.yml에서 아웃박스 기록과 디스패처(전달 주기, 배치 크기, 병렬도, 재시도) 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+	/** 사용 여부 (false면 이벤트를 기록하지 않고 디스패처도 실행하지 않음) */
+	private boolean enabled = true;
+
+	/** 전달할 이벤트를 확인하는 주기 */
+	private Duration pollInterval = Duration.ofSeconds(1);
+
+	/** 한 번에 가져오는 최대 이벤트 수 */
+	private int batchSize = 100;
+
+	/** 동시에 전달하는 최대 이벤트 수 */
+	private int parallelism = 4;
+
+	/** 가져간 이벤트를 다른 디스패처가 가져가지 못하는 시간 (전달 도중 인스턴스가 죽으면 이 시간 뒤 다시 전달) */
+	private Duration leaseDuration = Duration.ofSeconds(30);
+
+	/** 배치 하나의 전달을 기다리는 최대 시간 (초과한 이벤트는 실패로 처리) */
+	private Duration sendTimeout = Duration.ofSeconds(10);
+
+	/** 최대 시도 횟수 (초과하면 전달 포기) */
+	private int maxAttempts = 10;
+
+	/** 첫 재시도 대기 시간 (시도마다 두 배) */
+	private Duration initialBackoff = Duration.ofSeconds(1);
+
+	/** 최대 재시도 대기 시간 */
+	private Duration maxBackoff = Duration.ofMinutes(5);
+
+	/** 전달 대상 설정 */
+	private Sink sink = new Sink();
+
+	/**
+	 * 전달 대상 설정
+	 */
+	@Getter
+	@Setter
+	public static class Sink {
+
+		/** 전달 대상 종류 */
+		private SinkType type = SinkType.LOG;
+
+		/** FILE 대상의 파일 경로 (JSON Lines) */
+		private String path = "outbox-events.jsonl";
+
+	}
+
+	/**
+	 * 전달 대상 종류
+	 */
+	public enum SinkType {
+
+		/** 로그로 출력 */
+		LOG,
+
+		/** 로컬 파일에 JSON Lines로 추가 */
+		FILE,
+
+		/** 메모리에 보관 (테스트용) */
+		MEMORY
+
+	}
+
+}
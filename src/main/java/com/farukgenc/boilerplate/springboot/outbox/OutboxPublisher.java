@@ -0,0 +1,82 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import com.farukgenc.boilerplate.springboot.model.outbox.OutboxEvent;
+import com.farukgenc.boilerplate.springboot.repository.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 아웃박스 이벤트 기록 서비스
+ * 
+ * <p>이벤트를 OUTBOX_EVENTS 테이블에 기록만 하고 전달은 OutboxDispatcher가 나중에 합니다.
+ * 원본 데이터와 같은 트랜잭션에서 기록해야 하므로 진행 중인 트랜잭션이 없으면 예외가 발생합니다 (MANDATORY).
+ * 트랜잭션이 롤백되면 이벤트도 함께 사라지고, 커밋되면 반드시 전달됩니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxProperties outboxProperties;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 이벤트 기록
+	 * 
+	 * @param aggregateType 집계 종류 (같은 집계의 이벤트는 기록 순서대로 전달)
+	 * @param aggregateId 집계 ID
+	 * @param eventType 이벤트 종류
+	 * @param payload 이벤트 내용 (JSON으로 직렬화)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(String aggregateType, String aggregateId, String eventType, Object payload) {
+
+		if (!outboxProperties.isEnabled()) {
+			return;
+		}
+
+		final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		final OutboxEvent outboxEvent = OutboxEvent.builder()
+				.aggregateType(aggregateType)
+				.aggregateId(aggregateId)
+				.eventType(eventType)
+				.payload(serialize(payload))
+				.createdAt(now)
+				.nextAttemptAt(now)
+				.build();
+
+		outboxEventRepository.save(outboxEvent);
+	}
+
+	/**
+	 * 회원가입 이벤트 기록
+	 * 
+	 * @param event 회원가입 이벤트
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(UserRegisteredEvent event) {
+
+		append(UserRegisteredEvent.AGGREGATE_TYPE, String.valueOf(event.userId()), UserRegisteredEvent.EVENT_TYPE, event);
+	}
+
+	private String serialize(Object payload) {
+
+		try {
+			return objectMapper.writeValueAsString(payload);
+		}
+		catch (JsonProcessingException exception) {
+			throw new IllegalArgumentException("Outbox payload could not be serialized", exception);
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import com.farukgenc.boilerplate.springboot.model.user.User;
+
+/**
+ * 회원가입 이벤트 내용
+ * 
+ * <p>가입한 사용자의 공개 정보만 담습니다 (비밀번호 해시는 포함하지 않음).
+ * 
+ * @param userId 사용자 ID
+ * @param username 사용자명
+ * @param name 이름
+ * @param email 이메일
+ * @param userRole 사용자 역할
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public record UserRegisteredEvent(Long userId, String username, String name, String email, String userRole) {
+
+	/** 집계 종류 */
+	public static final String AGGREGATE_TYPE = "user";
+
+	/** 이벤트 종류 */
+	public static final String EVENT_TYPE = "user.registered";
+
+	/**
+	 * 저장된 사용자로부터 이벤트 생성
+	 * 
+	 * @param user 저장된 사용자 (ID가 있어야 함)
+	 * @return 회원가입 이벤트
+	 */
+	public static UserRegisteredEvent from(User user) {
+
+		return new UserRegisteredEvent(user.getId(), user.getUsername(), user.getName(), user.getEmail(), user.getUserRole().name());
+	}
+
+}
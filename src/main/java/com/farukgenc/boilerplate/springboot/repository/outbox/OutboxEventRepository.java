@@ -0,0 +1,109 @@
+package com.farukgenc.boilerplate.springboot.repository.outbox;
+
+import com.farukgenc.boilerplate.springboot.model.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 데이터 접근 리포지토리
+ * 
+ * <p>OutboxDispatcher가 전달할 이벤트를 가져오고 전달 결과를 기록하는 데 사용합니다.
+ * 갱신 쿼리(@Modifying)는 호출하는 쪽의 트랜잭션(TransactionTemplate) 안에서 실행해야 합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 전달할 이벤트 조회 및 행 잠금
+	 * 
+	 * <p>조건:
+	 * <ul>
+	 *   <li>전달을 포기하지 않았고 다음 시도 시각이 되었으며 다른 디스패처가 임대 중이 아닌 이벤트</li>
+	 *   <li>같은 집계에 앞선 미전달 이벤트가 없는 이벤트 (집계별 순서 보장, 한 번에 집계당 최대 한 건)</li>
+	 * </ul>
+	 * FOR UPDATE SKIP LOCKED로 다른 인스턴스가 같은 순간 가져가는 행은 건너뛰므로
+	 * 여러 인스턴스가 동시에 실행해도 같은 이벤트를 함께 가져가지 않습니다.
+	 * 
+	 * @param now 현재 시각 (UTC)
+	 * @param limit 최대 개수
+	 * @return 전달할 이벤트 (ID 오름차순)
+	 */
+	@Query(value = """
+			SELECT e.* FROM outbox_events e
+			WHERE e.dead_at IS NULL
+			  AND e.next_attempt_at <= :now
+			  AND (e.lease_until IS NULL OR e.lease_until < :now)
+			  AND NOT EXISTS (
+			      SELECT 1 FROM outbox_events p
+			      WHERE p.aggregate_type = e.aggregate_type
+			        AND p.aggregate_id = e.aggregate_id
+			        AND p.id < e.id
+			        AND p.dead_at IS NULL)
+			ORDER BY e.id
+			LIMIT :limit
+			FOR UPDATE SKIP LOCKED
+			""", nativeQuery = true)
+	List<OutboxEvent> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	/**
+	 * 이벤트 임대 (임대 만료 전까지 다른 디스패처가 가져가지 않음)
+	 * 
+	 * @param ids 이벤트 ID 목록
+	 * @param leaseUntil 임대 만료 시각
+	 * @return 갱신된 행 수
+	 */
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.leaseUntil = :leaseUntil WHERE e.id IN :ids")
+	int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+	/**
+	 * 전달 실패 기록 및 다시 시도 예약
+	 * 
+	 * @param id 이벤트 ID
+	 * @param attempts 지금까지의 시도 횟수
+	 * @param nextAttemptAt 다음 시도 시각
+	 * @param lastError 실패 사유
+	 * @return 갱신된 행 수
+	 */
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError, e.leaseUntil = NULL WHERE e.id = :id")
+	int reschedule(@Param("id") Long id, @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+			@Param("lastError") String lastError);
+
+	/**
+	 * 전달 포기 기록 (최대 시도 횟수 초과)
+	 * 
+	 * @param id 이벤트 ID
+	 * @param attempts 시도 횟수
+	 * @param deadAt 포기 시각
+	 * @param lastError 마지막 실패 사유
+	 * @return 갱신된 행 수
+	 */
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.attempts = :attempts, e.deadAt = :deadAt, e.lastError = :lastError, e.leaseUntil = NULL WHERE e.id = :id")
+	int markDead(@Param("id") Long id, @Param("attempts") int attempts, @Param("deadAt") LocalDateTime deadAt, @Param("lastError") String lastError);
+
+	/**
+	 * 미전달 이벤트 수
+	 * 
+	 * @return 전달을 포기하지 않은 미전달 이벤트 수
+	 */
+	long countByDeadAtIsNull();
+
+	/**
+	 * 가장 오래된 미전달 이벤트의 기록 시각 (디스패처 지연 메트릭용)
+	 * 
+	 * @return 기록 시각 (없으면 null)
+	 */
+	@Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.deadAt IS NULL")
+	LocalDateTime findOldestPendingCreatedAt();
+
+}
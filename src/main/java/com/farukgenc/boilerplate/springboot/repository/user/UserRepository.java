@@ -1,9 +1,17 @@
 package com.farukgenc.boilerplate.springboot.repository.user;
 
 import com.farukgenc.boilerplate.springboot.model.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 사용자 데이터 접근 리포지토리
@@ -15,6 +23,7 @@ import java.util.Optional;
  * <ul>
  *   <li>findBy{필드명}: 특정 필드로 엔티티 조회</li>
  *   <li>existsBy{필드명}: 특정 필드 값의 존재 여부 확인</li>
+ *   <li>streamAllBy...: 결과를 한 번에 메모리에 올리지 않고 커서로 순차 조회</li>
  * </ul>
  * 
  * <p>이 인터페이스는 Spring Data JPA에 의해 자동으로 구현되며,
@@ -42,16 +51,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	/**
 	 * 이메일 존재 여부 확인
 	 * 
-	 * <p>데이터베이스에서 해당 이메일을 가진 사용자가 존재하는지 확인합니다.
+	 * <p>데이터베이스에서 해당 이메일을 가진 사용자가 존재하는지 대소문자 구분 없이 확인합니다.
 	 * 주로 회원가입 시 이메일 중복 검증에 사용됩니다.
 	 * 
-	 * <p>생성되는 쿼리 (예시):
-	 * <pre>SELECT COUNT(u) > 0 FROM User u WHERE u.email = ?1</pre>
+	 * <p>조건식이 USERS 테이블의 lower(email) 고유 인덱스(V1, baseline으로 시작한 기존 DB는 V4 마이그레이션)와 같은 형태이므로
+	 * 테이블 크기와 관계없이 인덱스 탐색으로 처리됩니다.
 	 * 
 	 * @param email 확인할 이메일 주소
 	 * @return 이메일이 존재하면 true, 없으면 false
 	 */
-	boolean existsByEmail(String email);
+	@Query("SELECT COUNT(u) > 0 FROM User u WHERE lower(u.email) = lower(:email)")
+	boolean existsByEmail(@Param("email") String email);
 
 	/**
 	 * 사용자명 존재 여부 확인
@@ -67,4 +77,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	 */
 	boolean existsByUsername(String username);
 
+	/**
+	 * 키셋(Keyset) 페이지 조회
+	 * 
+	 * <p>ID가 커서보다 큰 사용자를 ID 오름차순으로 limit 개수만큼 조회합니다.
+	 * OFFSET을 사용하지 않고 기본 키 인덱스 범위 탐색만 하므로
+	 * 테이블 크기나 페이지 위치와 관계없이 페이지당 조회 비용이 일정합니다.
+	 * 
+	 * <p>생성되는 쿼리 (예시):
+	 * <pre>SELECT u FROM User u WHERE u.id > ?1 ORDER BY u.id ASC LIMIT ?2</pre>
+	 * 
+	 * @param id 이전 페이지의 마지막 사용자 ID (첫 페이지는 0)
+	 * @param limit 조회할 최대 개수
+	 * @return 사용자 목록 (ID 오름차순)
+	 */
+	List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+	/**
+	 * 전체 사용자 스트림 조회 (내보내기용)
+	 * 
+	 * <p>JDBC fetch size 단위로 앞으로만 읽는 커서를 사용하여 전체 사용자를 ID 순서로 조회합니다.
+	 * 읽기 전용 힌트로 Hibernate 스냅샷(dirty checking 용) 생성을 생략합니다.
+	 * 
+	 * <p>주의: 반환된 Stream은 트랜잭션 안에서 사용하고 반드시 닫아야 합니다 (try-with-resources).
+	 * PostgreSQL은 autocommit이 꺼진 트랜잭션 안에서만 fetch size를 적용합니다.
+	 * 
+	 * @return 사용자 스트림 (ID 오름차순)
+	 */
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+	})
+	Stream<User> streamAllByOrderByIdAsc();
+
 }
@@ -0,0 +1,157 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.token.TokenVerificationResult;
+import com.farukgenc.boilerplate.token.TokenVerificationResult.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 잘못된 토큰 캐시
+ * 
+ * <p>검증에 실패한 토큰을 짧은 시간 동안 기억하여, 같은 만료/위조 토큰이 반복해서 들어오면
+ * Base64 디코딩과 HMAC 계산 없이 바로 거절합니다.
+ * 
+ * <p>구조:
+ * <ul>
+ *   <li>고정 크기 배열에 토큰 문자열의 64비트 해시로 슬롯을 정하는 직접 매핑 방식 (락 없음, 크기 고정)</li>
+ *   <li>슬롯 충돌 시 새 항목이 기존 항목을 덮어씀 (별도 제거 작업 불필요)</li>
+ *   <li>항목에 토큰 원문을 함께 보관하여 해시가 같아도 원문이 다르면 캐시를 사용하지 않음 (오탐 없음)</li>
+ *   <li>조회는 헤더 문자열을 잘라내지 않고 위치를 지정하여 비교하므로 할당이 없음</li>
+ * </ul>
+ * 
+ * <p>서명 불일치, 형식 오류, 만료는 다시 검증해도 결과가 바뀌지 않으므로 캐시해도 안전합니다.
+ * 알 수 없는 키(UNKNOWN_KEY)는 키 세트 갱신 후 유효해질 수 있으므로 캐시하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Component
+public class InvalidTokenCache {
+
+	private final InvalidTokenCacheProperties properties;
+
+	private final AtomicReferenceArray<Entry> entries;
+
+	private final int mask;
+
+	private final long ttlMillis;
+
+	private final Map<Status, Counter> rejectedCounters = new EnumMap<>(Status.class);
+
+	private final Map<Status, Counter> cachedRejectedCounters = new EnumMap<>(Status.class);
+
+	public InvalidTokenCache(InvalidTokenCacheProperties properties, MeterRegistry meterRegistry) {
+
+		this.properties = properties;
+
+		final int capacity = Integer.highestOneBit(Math.max(1, properties.getMaxEntries() - 1)) << 1;
+		this.entries = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+		this.ttlMillis = properties.getTtl().toMillis();
+
+		for (Status status : Status.values()) {
+
+			if (status == Status.VALID) {
+				continue;
+			}
+
+			final String reason = status.name().toLowerCase(Locale.ROOT);
+			rejectedCounters.put(status, meterRegistry.counter("token.rejected", "reason", reason, "cached", "false"));
+			cachedRejectedCounters.put(status, meterRegistry.counter("token.rejected", "reason", reason, "cached", "true"));
+		}
+	}
+
+	/**
+	 * 이미 거절된 토큰인지 조회
+	 * 
+	 * @param source 토큰을 포함한 문자열 (Authorization 헤더 값 등)
+	 * @param offset 토큰 시작 위치
+	 * @return 캐시된 실패 결과 (없으면 null)
+	 */
+	public TokenVerificationResult find(String source, int offset) {
+
+		if (!properties.isEnabled()) {
+			return null;
+		}
+
+		final long hash = hash(source, offset);
+		final Entry entry = entries.get(slot(hash));
+
+		if (Objects.isNull(entry) || entry.hash != hash || entry.expiresAtMillis <= System.currentTimeMillis()) {
+			return null;
+		}
+
+		final int length = source.length() - offset;
+
+		if (entry.token.length() != length || !source.regionMatches(offset, entry.token, 0, length)) {
+			return null;
+		}
+
+		cachedRejectedCounters.get(entry.status).increment();
+
+		return TokenVerificationResult.cachedFailure(entry.status);
+	}
+
+	/**
+	 * 검증 실패 결과 기록
+	 * 
+	 * @param source 토큰을 포함한 문자열
+	 * @param offset 토큰 시작 위치
+	 * @param result 검증 실패 결과
+	 */
+	public void put(String source, int offset, TokenVerificationResult result) {
+
+		if (result.isValid()) {
+			return;
+		}
+
+		rejectedCounters.get(result.getStatus()).increment();
+
+		if (!properties.isEnabled() || result.getStatus() == Status.UNKNOWN_KEY) {
+			return;
+		}
+
+		final long hash = hash(source, offset);
+		final Entry entry = new Entry(hash, source.substring(offset), result.getStatus(), System.currentTimeMillis() + ttlMillis);
+
+		entries.set(slot(hash), entry);
+	}
+
+	private int slot(long hash) {
+
+		return (int) (hash ^ hash >>> 32) & mask;
+	}
+
+	/**
+	 * 토큰 문자열의 64비트 해시 (FNV-1a)
+	 * 
+	 * @param source 토큰을 포함한 문자열
+	 * @param offset 토큰 시작 위치
+	 * @return 해시 값
+	 */
+	private static long hash(String source, int offset) {
+
+		long hash = 0xcbf29ce484222325L;
+
+		for (int i = offset; i < source.length(); i++) {
+			hash ^= source.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+
+		return hash;
+	}
+
+	/**
+	 * 캐시 항목
+	 */
+	private record Entry(long hash, String token, Status status, long expiresAtMillis) {
+	}
+
+}
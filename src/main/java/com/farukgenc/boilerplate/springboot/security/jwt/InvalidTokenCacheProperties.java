@@ -0,0 +1,33 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 잘못된 토큰 캐시 설정 프로퍼티
+ * 
+ * <p>application.yml에서 검증에 실패한 토큰 캐시 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "token.invalid-cache")
+public class InvalidTokenCacheProperties {
+
+	/** 사용 여부 */
+	private boolean enabled = true;
+
+	/** 최대 항목 수 (2의 거듭제곱으로 올림) */
+	private int maxEntries = 4096;
+
+	/** 항목 유지 시간 */
+	private Duration ttl = Duration.ofMinutes(1);
+
+}
@@ -1,7 +1,14 @@
 package com.farukgenc.boilerplate.springboot.security.jwt;
 
-import com.farukgenc.boilerplate.springboot.security.service.UserDetailsServiceImpl;
+import com.farukgenc.boilerplate.springboot.deadline.DeadlineExceededException;
+import com.farukgenc.boilerplate.springboot.monitoring.timing.ServerTiming;
+import com.farukgenc.boilerplate.springboot.security.service.ResilientUserDetailsService;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueSession;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueSessionStore;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueTokenProperties;
+import com.farukgenc.boilerplate.springboot.security.utils.PublicRouteMatcher;
 import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import com.farukgenc.boilerplate.token.TokenVerificationResult;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,15 +16,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Objects;
 
 /**
@@ -26,6 +37,18 @@ import java.util.Objects;
  * <p>HTTP 요청의 Authorization 헤더에서 JWT 토큰을 추출하고 검증합니다.
  * 유효한 토큰이면 SecurityContext에 인증 정보를 설정합니다.
  * 
+ * <p>토큰은 헤더 문자열을 잘라내거나 복사하지 않고 TokenVerifier로 한 번만 검증합니다.
+ * 검증 실패는 예외 없이 결과 값으로 처리하며, 이미 거절된 토큰이 반복되면 로그를 남기지 않습니다.
+ * 
+ * <p>사용자 조회는 ResilientUserDetailsService(서킷 브레이커 + 벌크헤드)를 거치므로
+ * DB 장애 시에도 요청 스레드가 DB 대기에 묶이지 않고, 최근 조회한 사용자는 캐시로 인증됩니다.
+ * 
+ * <p>불투명 토큰 모드에서는 점(.)이 없는 토큰을 불투명 토큰 핸들로 보고 OpaqueSessionStore에서 조회합니다.
+ * 세션에 사용자명과 역할이 있으므로 DB 조회 없이 인증 정보를 구성합니다.
+ * 모드 전환 전에 발급된 JWT는 만료될 때까지 계속 사용할 수 있습니다.
+ * 
+ * <p>공개 경로(PublicRouteMatcher)는 필터를 건너뛰므로 헤더에 토큰이 있어도 파싱/검증하지 않습니다.
+ * 
  * @author Faruk
  * @since 2020년 8월
  */
@@ -35,7 +58,22 @@ import java.util.Objects;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenManager jwtTokenManager;
-	private final UserDetailsServiceImpl userDetailsService;
+	private final ResilientUserDetailsService userDetailsService;
+	private final PublicRouteMatcher publicRouteMatcher;
+	private final OpaqueTokenProperties opaqueTokenProperties;
+	private final OpaqueSessionStore opaqueSessionStore;
+
+	/**
+	 * 공개 경로는 토큰 처리 없이 통과
+	 * 
+	 * @param request HTTP 요청
+	 * @return 공개 경로이면 true (필터 건너뜀)
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+
+		return publicRouteMatcher.matches(request);
+	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -43,36 +81,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		final String header = request.getHeader(SecurityConstants.HEADER_STRING);
 
-		String username = null;
-		String authToken = null;
-		if (Objects.nonNull(header) && header.startsWith(SecurityConstants.TOKEN_PREFIX)) {
-
-			authToken = header.replace(SecurityConstants.TOKEN_PREFIX, Strings.EMPTY);
+		if (Objects.isNull(header) || !header.startsWith(SecurityConstants.TOKEN_PREFIX)) {
+			chain.doFilter(request, response);
+			return;
+		}
 
-			try {
-				username = jwtTokenManager.getUsernameFromToken(authToken);
-			}
-			catch (Exception e) {
-				log.error("Authentication Exception : {}", e.getMessage());
-				chain.doFilter(request, response);
-				return;
-			}
+		if (isOpaqueToken(header)) {
+			authenticateWithOpaqueToken(header.substring(SecurityConstants.TOKEN_PREFIX.length()), request);
+			chain.doFilter(request, response);
+			return;
 		}
 
 		final SecurityContext securityContext = SecurityContextHolder.getContext();
 
-		final boolean canBeStartTokenValidation = Objects.nonNull(username) && Objects.isNull(securityContext.getAuthentication());
+		if (Objects.nonNull(securityContext.getAuthentication())) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		final long verifyStartNanos = ServerTiming.start();
+		final TokenVerificationResult verificationResult = jwtTokenManager.verifyBearerToken(header);
+		ServerTiming.record(ServerTiming.TOKEN_VERIFY, verifyStartNanos);
+
+		if (!verificationResult.isValid()) {
+
+			// 같은 토큰이 반복되는 경우(캐시된 결과)는 로그를 남기지 않음 (token.rejected 메트릭으로 집계)
+			if (!verificationResult.isCached()) {
+				log.warn("Authentication Exception : token rejected ({})", verificationResult.getStatus());
+			}
 
-		if (!canBeStartTokenValidation) {
 			chain.doFilter(request, response);
 			return;
 		}
 
+		final String username = verificationResult.getToken().getUsername();
+
 		try {
+			final long lookupStartNanos = ServerTiming.start();
 			final UserDetails user = userDetailsService.loadUserByUsername(username);
-			final boolean validToken = jwtTokenManager.validateToken(authToken, user.getUsername());
+			ServerTiming.record(ServerTiming.USER_LOOKUP, lookupStartNanos);
 
-			if (!validToken) {
+			if (!username.equals(user.getUsername())) {
 				chain.doFilter(request, response);
 				return;
 			}
@@ -83,12 +132,59 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 			log.info("Authentication successful. Logged in username : {} ", username);
 		}
+		catch (AuthenticationServiceException | DeadlineExceededException e) {
+			log.warn("User lookup unavailable for username: {} ({})", username, e.getMessage());
+			chain.doFilter(request, response);
+			return;
+		}
 		catch (Exception e) {
-			log.error("Failed to load user or validate token for username: {}", username, e);
+			log.error("Failed to load user for username: {}", username, e);
 			chain.doFilter(request, response);
 			return;
 		}
 
 		chain.doFilter(request, response);
 	}
+
+	/**
+	 * 불투명 토큰 여부 확인 (JWT는 항상 점(.)으로 구분된 세 부분으로 구성)
+	 * 
+	 * @param header Authorization 헤더 값
+	 * @return 불투명 토큰 모드이고 점이 없는 토큰이면 true
+	 */
+	private boolean isOpaqueToken(String header) {
+
+		return opaqueTokenProperties.isEnabled() && header.indexOf('.', SecurityConstants.TOKEN_PREFIX.length()) < 0;
+	}
+
+	/**
+	 * 불투명 토큰으로 인증
+	 * 
+	 * @param token 토큰 핸들
+	 * @param request HTTP 요청
+	 */
+	private void authenticateWithOpaqueToken(String token, HttpServletRequest request) {
+
+		final SecurityContext securityContext = SecurityContextHolder.getContext();
+
+		if (Objects.nonNull(securityContext.getAuthentication())) {
+			return;
+		}
+
+		final OpaqueSession session = opaqueSessionStore.find(token);
+
+		if (Objects.isNull(session)) {
+			log.debug("Opaque token is unknown, expired or revoked");
+			return;
+		}
+
+		final SimpleGrantedAuthority grantedAuthority = new SimpleGrantedAuthority(session.getUserRole().name());
+		final UserDetails user = new User(session.getUsername(), Strings.EMPTY, Collections.singletonList(grantedAuthority));
+
+		final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+		authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+		securityContext.setAuthentication(authentication);
+
+		log.info("Authentication successful. Logged in username : {} ", session.getUsername());
+	}
 }
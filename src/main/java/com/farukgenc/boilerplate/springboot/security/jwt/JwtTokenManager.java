@@ -1,21 +1,24 @@
 package com.farukgenc.boilerplate.springboot.security.jwt;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.DecodedJWT;
 import com.farukgenc.boilerplate.springboot.model.user.User;
 import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import com.farukgenc.boilerplate.springboot.monitoring.jfr.TokenVerificationEvent;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import com.farukgenc.boilerplate.token.TokenVerificationResult;
+import com.farukgenc.boilerplate.token.TokenVerifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
+import java.util.Objects;
 
 /**
  * JWT 토큰 관리자
  * 
- * <p>JWT 토큰의 생성, 검증, 파싱을 담당하는 컴포넌트입니다.
- * Auth0의 java-jwt 라이브러리를 사용하여 토큰을 처리합니다.
+ * <p>JWT 토큰의 생성, 검증을 담당하는 컴포넌트입니다.
+ * 토큰 생성은 JwtTokenEncoder가, 검증은 token-verifier 모듈의 TokenVerifier가 처리합니다.
+ * 
+ * <p>검증은 예외를 던지지 않고 TokenVerificationResult를 반환하며,
+ * 한 번 거절된 토큰은 InvalidTokenCache로 잠시 기억하여 같은 토큰이 반복되면 검증 없이 바로 거절합니다.
  * 
  * @author Faruk
  * @since 2020년 8월
@@ -24,7 +27,9 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtTokenManager {
 
-	private final JwtProperties jwtProperties;
+	private final JwtTokenEncoder jwtTokenEncoder;
+	private final TokenVerifier tokenVerifier;
+	private final InvalidTokenCache invalidTokenCache;
 
 	/**
 	 * JWT 토큰 생성
@@ -34,96 +39,79 @@ public class JwtTokenManager {
 	 */
 	public String generateToken(User user) {
 
-		final String username = user.getUsername();
-		final UserRole userRole = user.getUserRole();
-
-		//@formatter:off
-		return JWT.create()
-				.withSubject(username)
-				.withIssuer(jwtProperties.getIssuer())
-				.withClaim("role", userRole.name())
-				.withIssuedAt(new Date())
-				.withExpiresAt(new Date(System.currentTimeMillis() + jwtProperties.getExpirationMinute() * 60 * 1000))
-				.sign(Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes()));
-		//@formatter:on
+		return jwtTokenEncoder.encode(user.getUsername(), user.getUserRole());
 	}
 
 	/**
-	 * 토큰에서 사용자명 추출
+	 * JWT 토큰 생성 (인증 결과의 사용자명과 역할로 바로 발급할 때 사용)
 	 * 
-	 * @param token JWT 토큰
-	 * @return 사용자명
+	 * @param username 사용자명
+	 * @param userRole 사용자 역할
+	 * @return JWT 토큰 문자열
 	 */
-	public String getUsernameFromToken(String token) {
+	public String generateToken(String username, UserRole userRole) {
 
-		final DecodedJWT decodedJWT = getDecodedJWT(token);
-		return decodedJWT.getSubject();
+		return jwtTokenEncoder.encode(username, userRole);
 	}
 
 	/**
-	 * 토큰 유효성 검증
+	 * 토큰 서명, 발급자, 만료 검증
 	 * 
 	 * @param token JWT 토큰
-	 * @param authenticatedUsername 인증된 사용자명
-	 * @return 토큰이 유효하면 true
+	 * @return 검증 결과 (성공 시 subject, role, 만료 시간 조회 가능)
 	 */
-	public boolean validateToken(String token, String authenticatedUsername) {
+	public TokenVerificationResult verifyToken(String token) {
 
-		if (token == null || authenticatedUsername == null) {
-			return false;
+		if (Objects.isNull(token)) {
+			return tokenVerifier.verify(null);
 		}
 
-		try {
-			final String usernameFromToken = getUsernameFromToken(token);
-			
-			if (usernameFromToken == null) {
-				return false;
-			}
-			
-			final boolean equalsUsername = usernameFromToken.equals(authenticatedUsername);
-			final boolean tokenExpired = isTokenExpired(token);
-
-			return equalsUsername && !tokenExpired;
-		}
-		catch (Exception e) {
-			return false;
-		}
+		return verify(token, 0);
 	}
 
 	/**
-	 * 토큰 만료 여부 확인
+	 * Authorization 헤더 값의 Bearer 토큰 검증 (헤더 문자열을 잘라내지 않고 검증)
 	 * 
-	 * @param token JWT 토큰
-	 * @return 만료되었으면 true
+	 * @param header Authorization 헤더 값
+	 * @return 검증 결과 (Bearer 토큰이 아니면 MALFORMED)
 	 */
-	private boolean isTokenExpired(String token) {
+	public TokenVerificationResult verifyBearerToken(String header) {
 
-		final Date expirationDateFromToken = getExpirationDateFromToken(token);
-		return expirationDateFromToken.before(new Date());
+		if (Objects.isNull(header) || !header.startsWith(SecurityConstants.TOKEN_PREFIX)) {
+			return tokenVerifier.verifyBearer(header);
+		}
+
+		return verify(header, SecurityConstants.TOKEN_PREFIX.length());
 	}
 
 	/**
-	 * 토큰에서 만료 시간 추출
+	 * 잘못된 토큰 캐시를 먼저 확인하고, 없으면 검증 후 실패 결과를 캐시에 기록
 	 * 
-	 * @param token JWT 토큰
-	 * @return 만료 시간
+	 * @param source 토큰을 포함한 문자열
+	 * @param offset 토큰 시작 위치
+	 * @return 검증 결과
 	 */
-	private Date getExpirationDateFromToken(String token) {
+	private TokenVerificationResult verify(String source, int offset) {
 
-		final DecodedJWT decodedJWT = getDecodedJWT(token);
-		return decodedJWT.getExpiresAt();
-	}
+		final TokenVerificationEvent event = new TokenVerificationEvent();
+		event.begin();
 
-	/**
-	 * 토큰 디코딩 및 검증
-	 * 
-	 * @param token JWT 토큰
-	 * @return 디코딩된 JWT
-	 */
-	private DecodedJWT getDecodedJWT(String token) {
+		TokenVerificationResult result = invalidTokenCache.find(source, offset);
+
+		if (Objects.isNull(result)) {
+
+			result = tokenVerifier.verify(source, offset);
+
+			if (!result.isValid()) {
+				invalidTokenCache.put(source, offset, result);
+			}
+		}
+
+		event.setStatus(result.getStatus().name());
+		event.setCached(result.isCached());
+		event.commit();
 
-		final JWTVerifier jwtVerifier = JWT.require(Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes())).build();
-		return jwtVerifier.verify(token);
+		return result;
 	}
 
 }
@@ -1,15 +1,20 @@
 package com.farukgenc.boilerplate.springboot.security.jwt;
 
-import com.farukgenc.boilerplate.springboot.mapper.user.UserMapper;
-import com.farukgenc.boilerplate.springboot.service.user.UserService;
-import com.farukgenc.boilerplate.springboot.model.user.User;
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import com.farukgenc.boilerplate.springboot.monitoring.jfr.LoginEvent;
+import com.farukgenc.boilerplate.springboot.monitoring.timing.ServerTiming;
 import com.farukgenc.boilerplate.springboot.dto.auth.request.LoginRequest;
 import com.farukgenc.boilerplate.springboot.dto.auth.response.LoginResponse;
-import com.farukgenc.boilerplate.springboot.dto.user.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueSessionStore;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueTokenProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
 /**
@@ -18,6 +23,11 @@ import org.springframework.stereotype.Service;
  * <p>로그인 요청을 처리하고 JWT 토큰을 생성하는 서비스입니다.
  * Spring Security의 AuthenticationManager를 사용하여 사용자 인증을 수행합니다.
  * 
+ * <p>로그인 한 번에 사용자 조회는 한 번만 수행합니다. 인증(UserDetailsServiceImpl)에서 조회한 사용자의
+ * 사용자명과 역할(권한)이 인증 결과에 담겨 오므로, 토큰 발급 시 사용자를 다시 조회하거나 매핑하지 않습니다.
+ * 
+ * <p>불투명 토큰 모드(token.opaque.enabled)에서는 JWT 대신 OpaqueSessionStore에 세션을 만들고 토큰 핸들을 반환합니다.
+ * 
  * @author Faruk
  * @since 2020년 8월
  */
@@ -26,9 +36,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class JwtTokenService {
 
-	private final UserService userService;
 	private final JwtTokenManager jwtTokenManager;
 	private final AuthenticationManager authenticationManager;
+	private final OpaqueTokenProperties opaqueTokenProperties;
+	private final OpaqueSessionStore opaqueSessionStore;
 
 	/**
 	 * 로그인 응답 생성
@@ -40,21 +51,75 @@ public class JwtTokenService {
 	 */
 	public LoginResponse getLoginResponse(LoginRequest loginRequest) {
 
+		final LoginEvent event = new LoginEvent();
+		event.begin();
+
+		try {
+			final LoginResponse loginResponse = login(loginRequest);
+			event.setOutcome(LoginEvent.SUCCESS);
+			return loginResponse;
+		}
+		catch (AuthenticationException exception) {
+			event.setOutcome(LoginEvent.REJECTED);
+			throw exception;
+		}
+		finally {
+			event.commit();
+		}
+	}
+
+	private LoginResponse login(LoginRequest loginRequest) {
+
 		final String username = loginRequest.getUsername();
 		final String password = loginRequest.getPassword();
 
 		final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(username, password);
 
-		authenticationManager.authenticate(usernamePasswordAuthenticationToken);
+		final long authenticateStartNanos = ServerTiming.start();
+
+		final Authentication authentication;
+
+		try {
+			authentication = authenticationManager.authenticate(usernamePasswordAuthenticationToken);
+		}
+		finally {
+			// 인증 실패(비밀번호 불일치)도 비밀번호 검증 비용이 들므로 함께 기록
+			ServerTiming.record(ServerTiming.AUTHENTICATE, authenticateStartNanos);
+		}
 
-		final AuthenticatedUserDto authenticatedUserDto = userService.findAuthenticatedUserByUsername(username);
+		// 인증 결과의 사용자명은 DB에 저장된 값 (요청 값이 아님)
+		final String authenticatedUsername = authentication.getName();
+		final UserRole userRole = resolveUserRole(authentication);
 
-		final User user = UserMapper.INSTANCE.convertToUser(authenticatedUserDto);
-		final String token = jwtTokenManager.generateToken(user);
+		final long issueStartNanos = ServerTiming.start();
+		final String token = opaqueTokenProperties.isEnabled()
+				? opaqueSessionStore.create(authenticatedUsername, userRole)
+				: jwtTokenManager.generateToken(authenticatedUsername, userRole);
+		ServerTiming.record(ServerTiming.TOKEN_ISSUE, issueStartNanos);
 
-		log.info("{} has successfully logged in!", user.getUsername());
+		log.info("{} has successfully logged in!", authenticatedUsername);
 
 		return new LoginResponse(token);
 	}
 
+	/**
+	 * 인증 결과의 권한에서 사용자 역할 조회 (UserDetailsServiceImpl은 역할 이름을 권한으로 사용)
+	 * 
+	 * @param authentication 인증 결과
+	 * @return 사용자 역할
+	 * @throws AuthenticationServiceException 역할 권한이 없는 경우
+	 */
+	private static UserRole resolveUserRole(Authentication authentication) {
+
+		for (GrantedAuthority authority : authentication.getAuthorities()) {
+			for (UserRole userRole : UserRole.values()) {
+				if (userRole.name().equals(authority.getAuthority())) {
+					return userRole;
+				}
+			}
+		}
+
+		throw new AuthenticationServiceException("Authenticated user has no role : " + authentication.getName());
+	}
+
 }
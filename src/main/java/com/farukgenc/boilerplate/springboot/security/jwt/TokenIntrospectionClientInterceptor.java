@@ -0,0 +1,35 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 토큰 일괄 검사 호출자 확인 인터셉터
+ * 
+ * <p>게이트웨이 공유 비밀 값(X-Introspection-Secret 헤더)을 요청 본문을 읽기 전에 확인합니다.
+ * 컨트롤러에서 확인하면 본문 파싱과 @Valid 검증이 먼저 실행되어,
+ * 비밀 값이 없는 호출자도 검증 오류 메시지(토큰 수 제한 등)를 받고 큰 본문의 파싱 비용을 발생시킬 수 있기 때문입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@RequiredArgsConstructor
+public class TokenIntrospectionClientInterceptor implements HandlerInterceptor {
+
+	private final TokenIntrospectionService tokenIntrospectionService;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+		if (tokenIntrospectionService.isTrustedClient(request.getHeader(SecurityConstants.INTROSPECTION_SECRET_HEADER))) {
+			return true;
+		}
+
+		response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+		return false;
+	}
+
+}
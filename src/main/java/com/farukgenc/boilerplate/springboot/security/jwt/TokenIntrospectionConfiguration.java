@@ -0,0 +1,31 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 토큰 일괄 검사 설정 클래스
+ * 
+ * <p>토큰 일괄 검사 엔드포인트에 호출자 확인 인터셉터를 등록합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TokenIntrospectionConfiguration implements WebMvcConfigurer {
+
+	/** 토큰 일괄 검사 경로 */
+	private static final String INTROSPECTION_PATH = "/token/introspect:batch";
+
+	private final TokenIntrospectionService tokenIntrospectionService;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+
+		registry.addInterceptor(new TokenIntrospectionClientInterceptor(tokenIntrospectionService)).addPathPatterns(INTROSPECTION_PATH);
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 토큰 일괄 검사 설정 프로퍼티
+ * 
+ * <p>application.yml에서 게이트웨이용 토큰 일괄 검사 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "token.introspection")
+public class TokenIntrospectionProperties {
+
+	/** 게이트웨이가 X-Introspection-Secret 헤더로 전달할 공유 비밀 값 (비어 있으면 엔드포인트 비활성화) */
+	private String clientSecret;
+
+	/** 병렬 검증에 사용할 스레드 수 (0 이하이면 CPU 코어 수) */
+	private int parallelism = 0;
+
+	/** 이 개수 이상의 토큰(중복 제거 후)부터 병렬로 검증 (작은 배치는 호출 스레드에서 처리) */
+	private int parallelThreshold = 64;
+
+}
@@ -0,0 +1,197 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.dto.token.TokenIntrospectionBatchResponse;
+import com.farukgenc.boilerplate.springboot.dto.token.TokenIntrospectionResponse;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueSession;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueSessionStore;
+import com.farukgenc.boilerplate.springboot.security.session.OpaqueTokenProperties;
+import com.farukgenc.boilerplate.springboot.utils.ProjectConstants;
+import com.farukgenc.boilerplate.token.TokenVerificationResult;
+import com.farukgenc.boilerplate.token.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 토큰 일괄 검사 서비스
+ * 
+ * <p>게이트웨이/사이드카가 JwtTokenManager가 발급한 토큰을 한 번의 호출로 여러 개 검사할 수 있도록 합니다.
+ * 
+ * <p>처리 방식:
+ * <ul>
+ *   <li>배치 안의 중복 토큰을 제거하고 고유 토큰만 한 번씩 검증</li>
+ *   <li>고유 토큰이 parallelThreshold 이상이면 전용 ForkJoinPool에서 CPU 코어 수만큼 나누어 병렬 검증</li>
+ *   <li>결과는 요청 순서대로 다시 펼쳐서 반환</li>
+ * </ul>
+ * 
+ * <p>JWT는 서버에 상태를 저장하지 않으므로 폐기 목록이 없으며, 유효한 토큰은 항상 revoked=false입니다.
+ * 불투명 토큰은 OpaqueSessionStore에서 조회하며, 폐기(로그아웃)된 토큰은 세션이 삭제되므로 active=false입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionService implements InitializingBean, DisposableBean {
+
+	private final JwtTokenManager jwtTokenManager;
+	private final TokenIntrospectionProperties tokenIntrospectionProperties;
+	private final MeterRegistry meterRegistry;
+	private final OpaqueTokenProperties opaqueTokenProperties;
+	private final OpaqueSessionStore opaqueSessionStore;
+
+	private ForkJoinPool verificationPool;
+
+	private DistributionSummary batchSizeSummary;
+
+	private Counter deduplicatedCounter;
+
+	@Override
+	public void afterPropertiesSet() {
+
+		final int configuredParallelism = tokenIntrospectionProperties.getParallelism();
+		final int parallelism = configuredParallelism > 0 ? configuredParallelism : Runtime.getRuntime().availableProcessors();
+
+		verificationPool = new ForkJoinPool(parallelism);
+
+		batchSizeSummary = DistributionSummary.builder("token.introspection.batch.size")
+				.description("Tokens per introspection batch request")
+				.register(meterRegistry);
+		deduplicatedCounter = Counter.builder("token.introspection.deduplicated")
+				.description("Tokens skipped because they were repeated within a batch")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public void destroy() {
+
+		verificationPool.shutdown();
+	}
+
+	/**
+	 * 게이트웨이 공유 비밀 값 확인
+	 * 
+	 * <p>타이밍 공격을 막기 위해 고정 시간 비교를 사용합니다.
+	 * 공유 비밀 값이 설정되지 않았으면 모든 요청을 거부합니다.
+	 * 
+	 * @param clientSecret 요청 헤더로 전달된 비밀 값
+	 * @return 신뢰할 수 있는 호출자이면 true
+	 */
+	public boolean isTrustedClient(String clientSecret) {
+
+		final String expectedSecret = tokenIntrospectionProperties.getClientSecret();
+
+		if (StringUtils.isBlank(expectedSecret) || Objects.isNull(clientSecret)) {
+			return false;
+		}
+
+		final Charset charset = Charset.forName(ProjectConstants.DEFAULT_ENCODING);
+		return MessageDigest.isEqual(expectedSecret.getBytes(charset), clientSecret.getBytes(charset));
+	}
+
+	/**
+	 * 토큰 일괄 검사
+	 * 
+	 * @param tokens 검사할 토큰 목록
+	 * @return 요청 순서대로 정렬된 검사 결과
+	 */
+	public TokenIntrospectionBatchResponse introspect(List<String> tokens) {
+
+		final List<String> normalizedTokens = tokens.stream().map(token -> Objects.requireNonNullElse(token, StringUtils.EMPTY)).toList();
+		final List<String> uniqueTokens = new ArrayList<>(new LinkedHashSet<>(normalizedTokens));
+
+		final Map<String, TokenIntrospectionResponse> resultsByToken = uniqueTokens.size() < tokenIntrospectionProperties.getParallelThreshold()
+				? verifySequentially(uniqueTokens)
+				: verifyInParallel(uniqueTokens);
+
+		final List<TokenIntrospectionResponse> results = normalizedTokens.stream().map(resultsByToken::get).toList();
+
+		batchSizeSummary.record(tokens.size());
+		deduplicatedCounter.increment(tokens.size() - uniqueTokens.size());
+
+		log.debug("Introspected {} tokens ({} unique)", tokens.size(), uniqueTokens.size());
+
+		return new TokenIntrospectionBatchResponse(results, uniqueTokens.size());
+	}
+
+	private Map<String, TokenIntrospectionResponse> verifyInParallel(List<String> uniqueTokens) {
+
+		final int parallelism = verificationPool.getParallelism();
+		final int chunkSize = (uniqueTokens.size() + parallelism - 1) / parallelism;
+
+		final List<CompletableFuture<Map<String, TokenIntrospectionResponse>>> futures = new ArrayList<>(parallelism);
+
+		for (int from = 0; from < uniqueTokens.size(); from += chunkSize) {
+
+			final List<String> chunk = uniqueTokens.subList(from, Math.min(from + chunkSize, uniqueTokens.size()));
+			futures.add(CompletableFuture.supplyAsync(() -> verifySequentially(chunk), verificationPool));
+		}
+
+		final Map<String, TokenIntrospectionResponse> resultsByToken = new HashMap<>(uniqueTokens.size() * 2);
+		futures.forEach(future -> resultsByToken.putAll(future.join()));
+
+		return resultsByToken;
+	}
+
+	private Map<String, TokenIntrospectionResponse> verifySequentially(List<String> tokens) {
+
+		final Map<String, TokenIntrospectionResponse> resultsByToken = new HashMap<>(tokens.size() * 2);
+
+		for (String token : tokens) {
+			resultsByToken.put(token, verify(token));
+		}
+
+		return resultsByToken;
+	}
+
+	private TokenIntrospectionResponse verify(String token) {
+
+		if (token.isEmpty()) {
+			return TokenIntrospectionResponse.inactive();
+		}
+
+		if (opaqueTokenProperties.isEnabled() && token.indexOf('.') < 0) {
+			return verifyOpaque(token);
+		}
+
+		final TokenVerificationResult verificationResult = jwtTokenManager.verifyToken(token);
+
+		if (!verificationResult.isValid()) {
+			return TokenIntrospectionResponse.inactive();
+		}
+
+		final VerifiedToken verifiedToken = verificationResult.getToken();
+
+		return new TokenIntrospectionResponse(true, verifiedToken.getUsername(), verifiedToken.getRole(), verifiedToken.getExpiresAtSeconds(), false);
+	}
+
+	private TokenIntrospectionResponse verifyOpaque(String token) {
+
+		final OpaqueSession session = opaqueSessionStore.find(token);
+
+		if (Objects.isNull(session)) {
+			return TokenIntrospectionResponse.inactive();
+		}
+
+		return new TokenIntrospectionResponse(true, session.getUsername(), session.getUserRole().name(), session.getExpiresAtMillis() / 1000, false);
+	}
+
+}
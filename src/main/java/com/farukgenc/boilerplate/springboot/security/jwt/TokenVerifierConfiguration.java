@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import com.farukgenc.boilerplate.token.KeySet;
+import com.farukgenc.boilerplate.token.TokenVerifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 검증기 설정
+ * 
+ * <p>token-verifier 모듈의 TokenVerifier를 애플리케이션 설정(jwt.*)으로 구성합니다.
+ * 이 애플리케이션은 서명 키를 직접 가지고 있으므로 고정 키 세트를 사용하며,
+ * 다른 서비스는 같은 모듈에 파일/JWKS 키 세트 원본(RefreshingKeySetProvider)을 연결하여 사용합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Configuration
+public class TokenVerifierConfiguration {
+
+	/**
+	 * 토큰 검증기 Bean 생성
+	 * 
+	 * <p>jwt.secretKey로 만든 고정 키 세트(kid 없음)와 jwt.issuer, UserRole의 역할 이름으로 검증하며,
+	 * 검증 결과 캐시는 token.verified-cache 설정을 따릅니다 (비활성화하면 캐시 크기 0).
+	 * 
+	 * @param jwtProperties JWT 설정 (비밀 키, 발급자)
+	 * @param verifiedTokenCacheProperties 검증 결과 캐시 설정
+	 * @return 토큰 검증기
+	 */
+	@Bean
+	public TokenVerifier tokenVerifier(JwtProperties jwtProperties, VerifiedTokenCacheProperties verifiedTokenCacheProperties) {
+
+		return TokenVerifier.builder()
+				.keySet(KeySet.of(jwtProperties.getSecretKey()))
+				.issuer(jwtProperties.getIssuer())
+				.roles(Arrays.stream(UserRole.values()).map(UserRole::name).toList())
+				.cacheSize(verifiedTokenCacheProperties.isEnabled() ? verifiedTokenCacheProperties.getMaxEntries() : 0)
+				.cacheMaxAge(verifiedTokenCacheProperties.getMaxAge())
+				.build();
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 검증된 토큰 캐시 설정 프로퍼티
+ * 
+ * <p>application.yml에서 token-verifier 모듈의 검증 결과 캐시 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "token.verified-cache")
+public class VerifiedTokenCacheProperties {
+
+	/** 사용 여부 */
+	private boolean enabled = true;
+
+	/** 최대 항목 수 (2의 거듭제곱으로 올림) */
+	private int maxEntries = 4096;
+
+	/** 항목 최대 유지 시간 (토큰 만료 시각이 더 이르면 만료 시각까지) */
+	private Duration maxAge = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,229 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.deadline.DeadlineExceededException;
+import com.farukgenc.boilerplate.springboot.monitoring.jfr.UserLookupEvent;
+import com.farukgenc.boilerplate.springboot.utils.SingleFlight;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 장애 격리 사용자 조회 서비스
+ * 
+ * <p>JWT 인증 필터가 요청마다 수행하는 사용자 조회(UserDetailsServiceImpl)를
+ * 서킷 브레이커와 벌크헤드로 감싸, DB가 느려져도 요청 스레드가 모두 DB 대기에 묶이지 않도록 합니다.
+ * 
+ * <p>동작 방식:
+ * <ul>
+ *   <li>벌크헤드: 동시에 DB 조회를 수행하는 요청 수를 제한하고 초과 요청은 기다리지 않고 대체 경로로</li>
+ *   <li>서킷 브레이커: 실패 또는 느린 조회 비율이 임계값을 넘으면 서킷을 열어 DB 호출 없이 즉시 대체 경로로</li>
+ *   <li>대체 경로: 최근 성공한 조회 결과(최대 maxStaleness 이내)를 반환하고, 없으면 즉시 인증 실패</li>
+ * </ul>
+ * 
+ * <p>존재하지 않는 사용자(UsernameNotFoundException)는 DB가 정상 응답한 것이므로,
+ * 요청 마감 시간 초과(DeadlineExceededException)는 DB가 아닌 클라이언트 제한 시간 때문이므로,
+ * 진행 중인 같은 사용자 조회를 기다리다 시간 초과(SingleFlight.WaitTimeoutException)된 경우는 이 호출이 DB를 조회하지 않았으므로 실패로 집계하지 않습니다.
+ * 
+ * <p>캐시에는 비밀번호를 제외한 사용자명/권한만 담은 불변 스냅샷을 보관합니다.
+ * 로그인(비밀번호 검증)은 이 서비스를 거치지 않으므로 캐시가 인증 자체를 대신하지는 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Service
+public class ResilientUserDetailsService {
+
+	/** 서킷 브레이커/벌크헤드 이름 (메트릭 태그) */
+	public static final String USER_LOOKUP = "userLookup";
+
+	private final UserDetailsServiceImpl userDetailsService;
+
+	private final UserLookupResilienceProperties properties;
+
+	private final CircuitBreaker circuitBreaker;
+
+	private final Bulkhead bulkhead;
+
+	private final Map<String, CachedUser> staleCache = new ConcurrentHashMap<>();
+
+	private final Counter staleServedCounter;
+
+	private final Counter staleMissCounter;
+
+	public ResilientUserDetailsService(UserDetailsServiceImpl userDetailsService, UserLookupResilienceProperties properties, MeterRegistry meterRegistry) {
+
+		this.userDetailsService = userDetailsService;
+		this.properties = properties;
+
+		final CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+				.failureRateThreshold(properties.getFailureRateThreshold())
+				.slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+				.slowCallRateThreshold(properties.getSlowCallRateThreshold())
+				.slidingWindowSize(properties.getSlidingWindowSize())
+				.minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+				.waitDurationInOpenState(properties.getWaitDurationInOpenState())
+				.permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+				.ignoreExceptions(UsernameNotFoundException.class, DeadlineExceededException.class, SingleFlight.WaitTimeoutException.class)
+				.build();
+		final BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+				.maxConcurrentCalls(properties.getMaxConcurrentCalls())
+				.maxWaitDuration(properties.getMaxWaitDuration())
+				.build();
+
+		final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+		final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
+
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(USER_LOOKUP);
+		this.bulkhead = bulkheadRegistry.bulkhead(USER_LOOKUP);
+
+		TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+		TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+		this.staleServedCounter = meterRegistry.counter("user.lookup.stale", "result", "served");
+		this.staleMissCounter = meterRegistry.counter("user.lookup.stale", "result", "miss");
+
+		circuitBreaker.getEventPublisher().onStateTransition(event -> log.warn("User lookup circuit breaker : {}", event.getStateTransition()));
+	}
+
+	/**
+	 * 사용자명으로 사용자 정보 로드 (장애 격리)
+	 * 
+	 * @param username 사용자명
+	 * @return UserDetails 객체 (DB 장애 시 캐시된 스냅샷일 수 있음)
+	 * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
+	 * @throws AuthenticationServiceException DB 장애 중이고 사용할 수 있는 캐시가 없는 경우
+	 */
+	public UserDetails loadUserByUsername(String username) {
+
+		final Supplier<UserDetails> lookup = Bulkhead.decorateSupplier(bulkhead,
+				CircuitBreaker.decorateSupplier(circuitBreaker, () -> userDetailsService.loadUserByUsername(username)));
+
+		final UserLookupEvent event = new UserLookupEvent();
+		event.begin();
+
+		try {
+			final UserDetails user = lookup.get();
+			cache(user);
+			event.setOutcome(UserLookupEvent.FOUND);
+			return user;
+		}
+		catch (UsernameNotFoundException exception) {
+			staleCache.remove(username);
+			event.setOutcome(UserLookupEvent.NOT_FOUND);
+			throw exception;
+		}
+		catch (DeadlineExceededException exception) {
+			event.setOutcome(UserLookupEvent.DEADLINE_EXCEEDED);
+			throw exception;
+		}
+		catch (RuntimeException exception) {
+			event.setOutcome(UserLookupEvent.UNAVAILABLE);
+			final UserDetails staleUser = serveStale(username, exception);
+			event.setOutcome(UserLookupEvent.STALE);
+			return staleUser;
+		}
+		finally {
+			event.commit();
+		}
+	}
+
+	/**
+	 * 서킷 브레이커 (헬스 인디케이터에서 상태 조회용)
+	 * 
+	 * @return 사용자 조회 서킷 브레이커
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+
+		return circuitBreaker;
+	}
+
+	/**
+	 * 캐시된 사용자 수
+	 * 
+	 * @return 캐시 항목 수
+	 */
+	public int getStaleCacheSize() {
+
+		return staleCache.size();
+	}
+
+	/**
+	 * 허용 경과 시간이 지난 캐시 항목 정리 (1분마다)
+	 */
+	@Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+	public void purgeExpired() {
+
+		final long oldestAllowed = System.currentTimeMillis() - properties.getMaxStaleness().toMillis();
+		staleCache.values().removeIf(cachedUser -> cachedUser.loadedAtMillis < oldestAllowed);
+	}
+
+	private UserDetails serveStale(String username, RuntimeException exception) {
+
+		final CachedUser cachedUser = staleCache.get(username);
+		final long oldestAllowed = System.currentTimeMillis() - properties.getMaxStaleness().toMillis();
+
+		if (Objects.isNull(cachedUser) || cachedUser.loadedAtMillis < oldestAllowed) {
+			staleMissCounter.increment();
+			throw new AuthenticationServiceException("User lookup is unavailable : " + exception.getClass().getSimpleName(), exception);
+		}
+
+		staleServedCounter.increment();
+		log.debug("Serving cached user {} while user lookup is unavailable ({})", username, exception.getClass().getSimpleName());
+
+		return cachedUser.user;
+	}
+
+	private void cache(UserDetails user) {
+
+		final String username = user.getUsername();
+
+		if (!staleCache.containsKey(username) && staleCache.size() >= properties.getStaleCacheMaxEntries()) {
+			evictOne();
+		}
+
+		final UserDetails snapshot = new User(username, StringUtils.EMPTY, user.getAuthorities());
+		staleCache.put(username, new CachedUser(snapshot, System.currentTimeMillis()));
+	}
+
+	/**
+	 * 캐시가 가득 찼을 때 임의의 항목 하나 제거 (정확한 LRU 대신 비용이 일정한 방식 사용)
+	 */
+	private void evictOne() {
+
+		final Iterator<String> iterator = staleCache.keySet().iterator();
+
+		if (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * 캐시 항목 (불변 사용자 스냅샷과 조회 시각)
+	 */
+	private record CachedUser(UserDetails user, long loadedAtMillis) {
+	}
+
+}
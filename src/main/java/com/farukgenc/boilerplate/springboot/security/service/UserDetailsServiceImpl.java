@@ -1,9 +1,15 @@
 package com.farukgenc.boilerplate.springboot.security.service;
 
+import com.farukgenc.boilerplate.springboot.datasource.ReadYourWritesTracker;
+import com.farukgenc.boilerplate.springboot.deadline.DeadlineExceededException;
+import com.farukgenc.boilerplate.springboot.deadline.RequestDeadline;
 import com.farukgenc.boilerplate.springboot.model.user.UserRole;
 import com.farukgenc.boilerplate.springboot.dto.user.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.monitoring.timing.ServerTiming;
 import com.farukgenc.boilerplate.springboot.service.user.UserService;
-import lombok.RequiredArgsConstructor;
+import com.farukgenc.boilerplate.springboot.utils.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -14,6 +20,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Spring Security 사용자 정보 서비스 구현체
@@ -21,18 +28,48 @@ import java.util.Objects;
  * <p>Spring Security의 UserDetailsService를 구현하여 사용자 인증 정보를 제공합니다.
  * 사용자명을 기준으로 사용자 정보를 조회하고, Spring Security가 사용할 수 있는 UserDetails 객체로 변환합니다.
  * 
+ * <p>UserExistenceFilter(블룸 필터)는 사용하지 않고 항상 DB에서 조회합니다.
+ * 필터는 다른 인스턴스에서 방금 가입한 사용자나 늦게 커밋된 사용자를 아직 모를 수 있어서,
+ * 필터의 "없음"으로 로그인을 거절하면 실제 사용자의 로그인이 실패할 수 있기 때문입니다.
+ * 
+ * <p>같은 사용자명의 동시 조회(배포 직후, 인기 계정의 캐시 만료 등)는 SingleFlight로 병합하여
+ * DB 조회는 한 번만 하고 그 결과를 함께 사용합니다.
+ * 먼저 시작한 조회가 실패하면 (예: 그 요청의 짧은 마감 시간 초과) 기다리던 요청은 각자의 마감 시간으로 직접 조회합니다.
+ * 병합하는 것은 조회 결과(AuthenticatedUserDto)이고, UserDetails는 호출마다 새로 만듭니다
+ * (인증 후 eraseCredentials()가 UserDetails의 비밀번호를 지우므로 여러 요청이 같은 객체를 쓰면 안 됨).
+ * 
+ * <p>메트릭: user.lookup.single.flight{result=executed|shared|retried|timeout}
+ * (shared: DB 조회 없이 진행 중인 조회의 결과를 받은 호출 수, retried: 진행 중인 조회가 실패하여 직접 조회한 호출 수)
+ * 
  * @author Faruk
  * @since 2020년 8월
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
 	/** 사용자명 또는 비밀번호가 잘못되었을 때 사용하는 메시지 */
 	private static final String USERNAME_OR_PASSWORD_INVALID = "Invalid username or password.";
 
 	private final UserService userService;
+	private final ReadYourWritesTracker readYourWritesTracker;
+	private final UserLookupResilienceProperties properties;
+
+	/** 사용자명별 진행 중인 조회 */
+	private final SingleFlight<String, AuthenticatedUserDto> singleFlight = new SingleFlight<>();
+
+	public UserDetailsServiceImpl(UserService userService, ReadYourWritesTracker readYourWritesTracker, UserLookupResilienceProperties properties,
+			MeterRegistry meterRegistry) {
+
+		this.userService = userService;
+		this.readYourWritesTracker = readYourWritesTracker;
+		this.properties = properties;
+
+		FunctionCounter.builder("user.lookup.single.flight", singleFlight, SingleFlight::getExecutedCount).tag("result", "executed").register(meterRegistry);
+		FunctionCounter.builder("user.lookup.single.flight", singleFlight, SingleFlight::getSharedCount).tag("result", "shared").register(meterRegistry);
+		FunctionCounter.builder("user.lookup.single.flight", singleFlight, SingleFlight::getRetriedCount).tag("result", "retried").register(meterRegistry);
+		FunctionCounter.builder("user.lookup.single.flight", singleFlight, SingleFlight::getTimeoutCount).tag("result", "timeout").register(meterRegistry);
+	}
 
 	/**
 	 * 사용자명으로 사용자 정보 로드
@@ -47,7 +84,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 	@Override
 	public UserDetails loadUserByUsername(String username) {
 
-		final AuthenticatedUserDto authenticatedUser = userService.findAuthenticatedUserByUsername(username);
+		final long queryStartNanos = ServerTiming.start();
+		final AuthenticatedUserDto authenticatedUser = findAuthenticatedUser(username);
+		ServerTiming.record(ServerTiming.USER_QUERY, queryStartNanos);
 
 		if (Objects.isNull(authenticatedUser)) {
 			throw new UsernameNotFoundException(USERNAME_OR_PASSWORD_INVALID);
@@ -60,4 +99,35 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
 		return new User(authenticatedUsername, authenticatedPassword, Collections.singletonList(grantedAuthority));
 	}
+
+	/**
+	 * 사용자 조회 (같은 사용자명의 진행 중인 조회가 있으면 그 결과를 함께 사용)
+	 * 
+	 * @param username 사용자명
+	 * @return 인증된 사용자 DTO (없으면 null)
+	 * @throws SingleFlight.WaitTimeoutException 진행 중인 조회의 결과를 시간 안에 받지 못한 경우
+	 * @throws DeadlineExceededException 기다리는 동안 요청 마감 시간이 지난 경우
+	 */
+	private AuthenticatedUserDto findAuthenticatedUser(String username) {
+
+		// 방금 가입한 사용자는 복제 지연을 피하기 위해 primary에서 조회
+		final Supplier<AuthenticatedUserDto> lookup = () -> readYourWritesTracker.read(() -> userService.findAuthenticatedUserByUsername(username), username);
+
+		if (!properties.isSingleFlightEnabled()) {
+			return lookup.get();
+		}
+
+		final long timeoutMillis = properties.getSingleFlightTimeout().toMillis();
+		final long waitMillis = RequestDeadline.isPresent() ? Math.min(timeoutMillis, RequestDeadline.remainingMillis()) : timeoutMillis;
+
+		try {
+			return singleFlight.execute(username, lookup, waitMillis);
+		}
+		catch (SingleFlight.WaitTimeoutException exception) {
+			// 요청 마감 시간 때문에 기다림을 멈춘 경우는 마감 초과로 응답
+			RequestDeadline.check(DeadlineExceededException.STAGE_QUERY);
+			throw exception;
+		}
+	}
+
 }
@@ -0,0 +1,51 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 사용자 조회 헬스 인디케이터
+ * 
+ * <p>/actuator/health의 userLookup 항목으로 사용자 조회 서킷 브레이커 상태를 노출합니다.
+ * 서킷이 열리면 CIRCUIT_OPEN 상태가 되지만, 캐시로 인증 트래픽을 계속 처리하므로
+ * HTTP 상태 코드는 200을 유지합니다 (application.yml의 management.endpoint.health.status 참고).
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLookupHealthIndicator implements HealthIndicator {
+
+	/** 서킷이 열린 상태 */
+	public static final Status CIRCUIT_OPEN = new Status("CIRCUIT_OPEN", "User lookups are served from the stale cache");
+
+	private final ResilientUserDetailsService resilientUserDetailsService;
+
+	@Override
+	public Health health() {
+
+		final CircuitBreaker circuitBreaker = resilientUserDetailsService.getCircuitBreaker();
+		final CircuitBreaker.State state = circuitBreaker.getState();
+		final CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+
+		final Health.Builder builder = state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN
+				? Health.status(CIRCUIT_OPEN)
+				: Health.up();
+
+		//@formatter:off
+		return builder.withDetail("state", state)
+					  .withDetail("failureRate", metrics.getFailureRate())
+					  .withDetail("slowCallRate", metrics.getSlowCallRate())
+					  .withDetail("bufferedCalls", metrics.getNumberOfBufferedCalls())
+					  .withDetail("notPermittedCalls", metrics.getNumberOfNotPermittedCalls())
+					  .withDetail("staleCacheSize", resilientUserDetailsService.getStaleCacheSize())
+					  .build();
+		//@formatter:on
+	}
+
+}
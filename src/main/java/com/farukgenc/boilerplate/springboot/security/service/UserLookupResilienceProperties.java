@@ -0,0 +1,64 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 인증 사용자 조회 장애 격리 설정 프로퍼티
+ * 
+ * <p>application.yml에서 JWT 인증 필터의 사용자 조회에 적용할
+ * 서킷 브레이커, 벌크헤드, 오래된(stale) 캐시 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security.user-lookup")
+public class UserLookupResilienceProperties {
+
+	/** 서킷을 여는 실패율 (%) */
+	private float failureRateThreshold = 50;
+
+	/** 이 시간보다 오래 걸린 조회는 느린 호출로 집계 */
+	private Duration slowCallDurationThreshold = Duration.ofMillis(500);
+
+	/** 서킷을 여는 느린 호출 비율 (%) */
+	private float slowCallRateThreshold = 50;
+
+	/** 실패율 계산에 사용하는 최근 호출 수 */
+	private int slidingWindowSize = 50;
+
+	/** 실패율을 계산하기 위한 최소 호출 수 */
+	private int minimumNumberOfCalls = 20;
+
+	/** 서킷이 열린 뒤 반열림(half-open)으로 전환하기까지 대기 시간 */
+	private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+	/** 반열림 상태에서 허용하는 시험 호출 수 */
+	private int permittedCallsInHalfOpenState = 5;
+
+	/** 동시에 DB 조회를 수행할 수 있는 최대 요청 수 (나머지는 즉시 대체 경로로) */
+	private int maxConcurrentCalls = 10;
+
+	/** 동시 호출 한도에 도달했을 때 대기할 최대 시간 */
+	private Duration maxWaitDuration = Duration.ofMillis(20);
+
+	/** DB 장애 시 캐시된 사용자 정보를 허용하는 최대 경과 시간 */
+	private Duration maxStaleness = Duration.ofMinutes(5);
+
+	/** 캐시할 최대 사용자 수 */
+	private int staleCacheMaxEntries = 100_000;
+
+	/** 같은 사용자명의 동시 조회를 DB 조회 한 번으로 병합할지 여부 */
+	private boolean singleFlightEnabled = true;
+
+	/** 병합된 조회가 진행 중인 조회의 결과를 기다리는 최대 시간 (요청 마감 시간이 더 짧으면 마감 시간까지) */
+	private Duration singleFlightTimeout = Duration.ofSeconds(2);
+
+}
@@ -0,0 +1,40 @@
+package com.farukgenc.boilerplate.springboot.security.session;
+
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 불투명 토큰 세션
+ * 
+ * <p>토큰 핸들에 연결된 서버 측 인증 정보입니다.
+ * 요청마다 DB를 조회하지 않고 인증 정보를 구성할 수 있도록 사용자명과 역할을 함께 보관합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@RequiredArgsConstructor
+public final class OpaqueSession {
+
+	/** 사용자명 */
+	private final String username;
+
+	/** 사용자 역할 */
+	private final UserRole userRole;
+
+	/** 만료 시각 (epoch 밀리초) */
+	private final long expiresAtMillis;
+
+	/**
+	 * 만료 여부 확인
+	 * 
+	 * @param nowMillis 현재 시각 (epoch 밀리초)
+	 * @return 만료되었으면 true
+	 */
+	public boolean isExpired(long nowMillis) {
+
+		return expiresAtMillis <= nowMillis;
+	}
+
+}
@@ -0,0 +1,472 @@
+package com.farukgenc.boilerplate.springboot.security.session;
+
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 불투명 토큰 세션 저장소
+ * 
+ * <p>짧은 난수 토큰 핸들과 서버 측 세션을 연결하는 메모리 저장소입니다.
+ * JWT와 달리 세션을 지우면 토큰이 즉시 무효화됩니다.
+ * 
+ * <p>구조:
+ * <ul>
+ *   <li>핸들의 SHA-256 앞 128비트를 키로 사용 (메모리/스냅샷에 원본 핸들을 남기지 않음)</li>
+ *   <li>키 해시로 나눈 스트라이프마다 별도의 락과 삽입 순서 LinkedHashMap을 두어 조회/발급 경합 분산</li>
+ *   <li>유효 시간이 모두 같으므로 삽입 순서가 곧 만료 순서 - 만료 정리는 각 스트라이프 앞쪽만 확인</li>
+ *   <li>스트라이프당 최대 세션 수를 넘으면 가장 오래된 세션부터 제거하여 메모리 상한 보장</li>
+ *   <li>스냅샷 파일을 지정하면 주기적으로, 그리고 종료 시 저장하고 시작 시 다시 읽음</li>
+ * </ul>
+ * 
+ * <p>세션 하나당 대략 200바이트 (키, 세션, 맵 엔트리, 사용자명 문자열)를 사용하므로
+ * 100만 세션 기준 약 200MB가 필요합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Component
+public final class OpaqueSessionStore implements InitializingBean, DisposableBean {
+
+	/** 스냅샷 파일 식별자 및 형식 버전 ("OPS1") */
+	private static final int SNAPSHOT_MAGIC = 0x4F505331;
+
+	private static final Base64.Encoder HANDLE_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(OpaqueSessionStore::newSha256);
+
+	private final OpaqueTokenProperties properties;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	private final Stripe[] stripes;
+
+	private final int stripeMask;
+
+	/** 발급되는 핸들 길이 (길이가 다른 토큰은 해시 계산 없이 거부) */
+	private final int handleLength;
+
+	private final Counter expiredCounter;
+
+	private final Counter capacityEvictedCounter;
+
+	public OpaqueSessionStore(OpaqueTokenProperties properties, MeterRegistry meterRegistry) {
+
+		this.properties = properties;
+
+		final int stripeCount = roundUpToPowerOfTwo(properties.getStripes());
+		final int capacityPerStripe = Math.max(1, (properties.getMaxSessions() + stripeCount - 1) / stripeCount);
+
+		this.expiredCounter = meterRegistry.counter("token.opaque.evicted", "reason", "expired");
+		this.capacityEvictedCounter = meterRegistry.counter("token.opaque.evicted", "reason", "capacity");
+
+		this.stripes = new Stripe[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new Stripe(capacityPerStripe, capacityEvictedCounter);
+		}
+		this.stripeMask = stripeCount - 1;
+		this.handleLength = HANDLE_ENCODER.encodeToString(new byte[properties.getHandleBytes()]).length();
+
+		Gauge.builder("token.opaque.sessions", this, OpaqueSessionStore::size)
+				.description("Live opaque token sessions")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (isSnapshotEnabled()) {
+			loadSnapshot(Path.of(properties.getSnapshotFile()));
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		if (isSnapshotEnabled()) {
+			writeSnapshot();
+		}
+	}
+
+	/**
+	 * 세션 생성 및 토큰 핸들 발급
+	 * 
+	 * @param username 사용자명
+	 * @param userRole 사용자 역할
+	 * @return 토큰 핸들 (Base64 URL, 패딩 없음)
+	 */
+	public String create(String username, UserRole userRole) {
+
+		final byte[] randomBytes = new byte[properties.getHandleBytes()];
+		secureRandom.nextBytes(randomBytes);
+
+		final String handle = HANDLE_ENCODER.encodeToString(randomBytes);
+		final SessionKey key = keyOf(handle);
+		final OpaqueSession session = new OpaqueSession(username, userRole, System.currentTimeMillis() + properties.getTtl().toMillis());
+
+		stripeFor(key).put(key, session);
+
+		return handle;
+	}
+
+	/**
+	 * 토큰 핸들로 세션 조회
+	 * 
+	 * @param handle 토큰 핸들
+	 * @return 유효한 세션 (없거나 만료되었으면 null)
+	 */
+	public OpaqueSession find(String handle) {
+
+		if (Objects.isNull(handle) || handle.length() != handleLength) {
+			return null;
+		}
+
+		final SessionKey key = keyOf(handle);
+		final Stripe stripe = stripeFor(key);
+		final OpaqueSession session = stripe.get(key);
+
+		if (Objects.isNull(session)) {
+			return null;
+		}
+
+		if (session.isExpired(System.currentTimeMillis())) {
+			stripe.remove(key);
+			expiredCounter.increment();
+			return null;
+		}
+
+		return session;
+	}
+
+	/**
+	 * 세션 폐기
+	 * 
+	 * @param handle 토큰 핸들
+	 * @return 폐기된 세션이 있으면 true
+	 */
+	public boolean revoke(String handle) {
+
+		if (Objects.isNull(handle) || handle.length() != handleLength) {
+			return false;
+		}
+
+		final SessionKey key = keyOf(handle);
+		return Objects.nonNull(stripeFor(key).remove(key));
+	}
+
+	/**
+	 * 현재 세션 수
+	 * 
+	 * @return 만료되었지만 아직 정리되지 않은 세션을 포함한 세션 수
+	 */
+	public int size() {
+
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	/**
+	 * 만료 세션 정리
+	 */
+	@Scheduled(fixedDelayString = "${token.opaque.eviction-interval-millis:10000}", initialDelayString = "${token.opaque.eviction-interval-millis:10000}")
+	public void evictExpired() {
+
+		final long now = System.currentTimeMillis();
+
+		int evicted = 0;
+		for (Stripe stripe : stripes) {
+			evicted += stripe.evictExpired(now);
+		}
+
+		if (evicted > 0) {
+			expiredCounter.increment(evicted);
+			log.debug("Evicted {} expired opaque token sessions", evicted);
+		}
+	}
+
+	/**
+	 * 세션 스냅샷 저장 (스냅샷 파일이 지정된 경우)
+	 */
+	@Scheduled(fixedDelayString = "${token.opaque.snapshot-interval-millis:60000}", initialDelayString = "${token.opaque.snapshot-interval-millis:60000}")
+	public void snapshot() {
+
+		if (isSnapshotEnabled()) {
+			writeSnapshot();
+		}
+	}
+
+	private boolean isSnapshotEnabled() {
+
+		return properties.isEnabled() && StringUtils.isNotBlank(properties.getSnapshotFile());
+	}
+
+	/**
+	 * 스냅샷 파일 기록
+	 * 
+	 * <p>임시 파일에 쓴 뒤 교체하여, 기록 중 종료되어도 이전 스냅샷이 손상되지 않도록 합니다.
+	 */
+	private void writeSnapshot() {
+
+		final Path snapshotPath = Path.of(properties.getSnapshotFile());
+		final Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+		final long now = System.currentTimeMillis();
+
+		int written = 0;
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+
+			output.writeInt(SNAPSHOT_MAGIC);
+
+			for (Stripe stripe : stripes) {
+				for (Map.Entry<SessionKey, OpaqueSession> entry : stripe.copyEntries()) {
+
+					final OpaqueSession session = entry.getValue();
+					if (session.isExpired(now)) {
+						continue;
+					}
+
+					output.writeBoolean(true);
+					output.writeLong(entry.getKey().high());
+					output.writeLong(entry.getKey().low());
+					output.writeLong(session.getExpiresAtMillis());
+					output.writeUTF(session.getUsername());
+					output.writeUTF(session.getUserRole().name());
+					written++;
+				}
+			}
+
+			output.writeBoolean(false);
+		}
+		catch (IOException exception) {
+			log.warn("Failed to write opaque token session snapshot to {} : {}", temporaryPath, exception.getMessage());
+			return;
+		}
+
+		try {
+			Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			log.debug("Wrote {} opaque token sessions to {}", written, snapshotPath);
+		}
+		catch (IOException exception) {
+			log.warn("Failed to replace opaque token session snapshot {} : {}", snapshotPath, exception.getMessage());
+		}
+	}
+
+	/**
+	 * 스냅샷 파일 읽기
+	 * 
+	 * <p>만료된 세션은 건너뛰고, 파일이 없거나 손상되었으면 빈 저장소로 시작합니다.
+	 * 
+	 * @param snapshotPath 스냅샷 파일 경로
+	 */
+	private void loadSnapshot(Path snapshotPath) {
+
+		if (Files.notExists(snapshotPath)) {
+			return;
+		}
+
+		final long now = System.currentTimeMillis();
+
+		int loaded = 0;
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+
+			if (input.readInt() != SNAPSHOT_MAGIC) {
+				log.warn("Ignoring opaque token session snapshot {} : unknown format", snapshotPath);
+				return;
+			}
+
+			while (input.readBoolean()) {
+
+				final SessionKey key = new SessionKey(input.readLong(), input.readLong());
+				final long expiresAtMillis = input.readLong();
+				final String username = input.readUTF();
+				final UserRole userRole = UserRole.valueOf(input.readUTF());
+
+				if (expiresAtMillis > now) {
+					stripeFor(key).put(key, new OpaqueSession(username, userRole, expiresAtMillis));
+					loaded++;
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException exception) {
+			log.warn("Failed to read opaque token session snapshot {} : {}", snapshotPath, exception.getMessage());
+		}
+
+		log.info("Restored {} opaque token sessions from {}", loaded, snapshotPath);
+	}
+
+	private Stripe stripeFor(SessionKey key) {
+
+		return stripes[(int) key.low() & stripeMask];
+	}
+
+	private static SessionKey keyOf(String handle) {
+
+		final byte[] digest = SHA_256.get().digest(handle.getBytes(StandardCharsets.US_ASCII));
+		final ByteBuffer buffer = ByteBuffer.wrap(digest);
+
+		return new SessionKey(buffer.getLong(), buffer.getLong());
+	}
+
+	private static MessageDigest newSha256() {
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256 is not available", exception);
+		}
+	}
+
+	private static int roundUpToPowerOfTwo(int value) {
+
+		final int positive = Math.max(1, value);
+		return positive == 1 ? 1 : Integer.highestOneBit(positive - 1) << 1;
+	}
+
+	/**
+	 * 세션 키 (토큰 핸들 SHA-256의 앞 128비트)
+	 */
+	private record SessionKey(long high, long low) {
+	}
+
+	/**
+	 * 락 스트라이프
+	 * 
+	 * <p>삽입 순서를 유지하는 LinkedHashMap과 이를 보호하는 락으로 구성됩니다.
+	 */
+	private static final class Stripe {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Map<SessionKey, OpaqueSession> sessions;
+
+		private Stripe(int capacity, Counter capacityEvictedCounter) {
+
+			this.sessions = new LinkedHashMap<>() {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<SessionKey, OpaqueSession> eldest) {
+
+					if (size() > capacity) {
+						capacityEvictedCounter.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		private OpaqueSession get(SessionKey key) {
+
+			lock.lock();
+			try {
+				return sessions.get(key);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void put(SessionKey key, OpaqueSession session) {
+
+			lock.lock();
+			try {
+				sessions.put(key, session);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private OpaqueSession remove(SessionKey key) {
+
+			lock.lock();
+			try {
+				return sessions.remove(key);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int size() {
+
+			lock.lock();
+			try {
+				return sessions.size();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private List<Map.Entry<SessionKey, OpaqueSession>> copyEntries() {
+
+			lock.lock();
+			try {
+				return sessions.entrySet().stream().map(entry -> Map.entry(entry.getKey(), entry.getValue())).toList();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 앞쪽(가장 먼저 발급된)부터 만료된 세션 제거
+		 * 
+		 * @param now 현재 시각 (epoch 밀리초)
+		 * @return 제거된 세션 수
+		 */
+		private int evictExpired(long now) {
+
+			lock.lock();
+			try {
+				int evicted = 0;
+				final Iterator<OpaqueSession> iterator = sessions.values().iterator();
+
+				while (iterator.hasNext() && iterator.next().isExpired(now)) {
+					iterator.remove();
+					evicted++;
+				}
+
+				return evicted;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.farukgenc.boilerplate.springboot.security.session;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 불투명(Opaque) 토큰 설정 프로퍼티
+ * 
+ * <p>application.yml에서 불투명 토큰 모드와 서버 측 세션 저장소 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "token.opaque")
+public class OpaqueTokenProperties {
+
+	/** 불투명 토큰 모드 사용 여부 (false이면 로그인 시 JWT 발급) */
+	private boolean enabled = false;
+
+	/** 세션 유효 시간 */
+	private Duration ttl = Duration.ofMinutes(10);
+
+	/** 토큰 핸들의 난수 바이트 수 (24바이트 = Base64 URL 32자) */
+	private int handleBytes = 24;
+
+	/** 최대 세션 수 (초과 시 가장 오래된 세션부터 제거) */
+	private int maxSessions = 1_000_000;
+
+	/** 락 스트라이프 수 (2의 거듭제곱으로 올림) */
+	private int stripes = 64;
+
+	/** 만료 세션 정리 주기 (밀리초) */
+	private long evictionIntervalMillis = 10_000;
+
+	/** 세션 스냅샷 파일 경로 (비어 있으면 스냅샷 비활성화) */
+	private String snapshotFile;
+
+	/** 세션 스냅샷 저장 주기 (밀리초) */
+	private long snapshotIntervalMillis = 60_000;
+
+}
@@ -0,0 +1,118 @@
+package com.farukgenc.boilerplate.springboot.security.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공개 경로 매처
+ * 
+ * <p>SecurityConstants.PUBLIC_ROUTES를 한 번만 컴파일하여 빠르게 매칭하는 RequestMatcher입니다.
+ * <ul>
+ *   <li>정확히 일치해야 하는 경로: HashSet 조회 (O(1))</li>
+ *   <li>"/**" 패턴: 접두사 비교 (경로 수가 적으므로 선형 탐색)</li>
+ * </ul>
+ * 
+ * <p>AntPath/PathPattern 매칭과 달리 요청마다 패턴을 해석하거나 경로를 분해하지 않으므로
+ * 2초마다 호출되는 Actuator 프로브, Swagger, 로그인 요청이 토큰 처리를 완전히 건너뛸 수 있습니다.
+ * 
+ * <p>공개 경로 패턴 아래에 있더라도 SecurityConstants.ADMIN_ROUTES에 해당하는 경로는 공개 경로로 보지 않습니다.
+ * 
+ * <p>요청 경로는 RequestURI를 그대로 쓰지 않고 UrlPathHelper로 디코딩/정규화한 애플리케이션 내부 경로(컨텍스트 경로 제외)를 사용합니다.
+ * StrictHttpFirewall은 "..", ";", 인코딩된 "/"와 "." 등은 거부하지만 퍼센트 인코딩된 일반 문자("%6A" 등)는 디코딩하지 않으므로,
+ * RequestURI로 비교하면 "/actuator/%6Afr"가 ADMIN 경로("/actuator/jfr/**")를 피해 공개 경로("/actuator/**")로 판단되는 반면
+ * Spring MVC는 디코딩한 경로로 JFR 엔드포인트에 디스패치합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Component
+public class PublicRouteMatcher implements RequestMatcher {
+
+	/** 하위 경로 전체를 의미하는 패턴 접미사 */
+	private static final String WILDCARD_SUFFIX = "/**";
+
+	private final Set<String> exactPaths = new HashSet<>();
+
+	private final List<String> prefixPaths = new ArrayList<>();
+
+	private final List<String> adminPrefixPaths = new ArrayList<>();
+
+	public PublicRouteMatcher() {
+
+		for (String route : SecurityConstants.ADMIN_ROUTES) {
+			adminPrefixPaths.add(route.endsWith(WILDCARD_SUFFIX) ? route.substring(0, route.length() - WILDCARD_SUFFIX.length()) : route);
+		}
+
+		for (String route : SecurityConstants.PUBLIC_ROUTES) {
+
+			if (route.endsWith(WILDCARD_SUFFIX)) {
+				prefixPaths.add(route.substring(0, route.length() - WILDCARD_SUFFIX.length()));
+				continue;
+			}
+
+			exactPaths.add(route);
+		}
+	}
+
+	@Override
+	public boolean matches(HttpServletRequest request) {
+
+		// 디코딩, ";" 이후 내용 제거, 중복 "/" 정리 후 컨텍스트 경로를 제외한 경로 (MVC가 디스패치에 사용하는 경로와 동일)
+		return matches(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+	}
+
+	/**
+	 * 경로가 공개 경로인지 확인
+	 * 
+	 * @param path 컨텍스트 경로를 제외하고 디코딩한 요청 경로
+	 * @return 공개 경로이면 true
+	 */
+	public boolean matches(String path) {
+
+		if (exactPaths.contains(path)) {
+			return true;
+		}
+
+		for (String prefix : prefixPaths) {
+
+			if (matchesPrefix(path, prefix)) {
+				return !isAdminRoute(path);
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * ADMIN 권한이 필요한 경로인지 확인 (공개 경로 패턴 아래에 있는 관리 기능 제외용)
+	 * 
+	 * @param path 컨텍스트 경로를 제외한 요청 경로
+	 * @return ADMIN 경로이면 true
+	 */
+	private boolean isAdminRoute(String path) {
+
+		for (String prefix : adminPrefixPaths) {
+			if (matchesPrefix(path, prefix)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * "/actuator/**"는 "/actuator" 자체와 "/actuator/..." 하위 경로에 매칭됨 ("/actuatorX"는 제외)
+	 */
+	private static boolean matchesPrefix(String path, String prefix) {
+
+		return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+	}
+
+}
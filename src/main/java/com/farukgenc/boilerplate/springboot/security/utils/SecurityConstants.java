@@ -17,6 +17,38 @@ public class SecurityConstants {
 	/** Authorization 헤더 이름 */
 	public static final String HEADER_STRING = "Authorization";
 
+	/** 토큰 일괄 검사 호출자(게이트웨이) 공유 비밀 값 헤더 이름 */
+	public static final String INTROSPECTION_SECRET_HEADER = "X-Introspection-Secret";
+
+	/**
+	 * 인증 없이 접근 가능한 공개 경로 목록
+	 * 
+	 * <p>SecurityConfiguration(permitAll)과 JwtAuthenticationFilter(필터 건너뛰기)가 함께 사용합니다.
+	 * "/**"로 끝나는 패턴은 하위 경로 전체, 그 외는 정확히 일치하는 경로만 허용합니다.
+	 */
+	public static final String[] PUBLIC_ROUTES = {
+			"/register",         // 회원가입
+			"/register/availability",  // 사용자명/이메일 가용성 조회
+			"/login",            // 로그인
+			"/token/introspect:batch",  // 토큰 일괄 검사 (게이트웨이 공유 비밀 값으로 확인)
+			"/v3/api-docs/**",   // Swagger API 문서
+			"/swagger-ui/**",    // Swagger UI
+			"/swagger-ui.html",  // Swagger UI
+			"/actuator/**"       // Actuator 엔드포인트
+	};
+
+	/**
+	 * ADMIN 권한이 필요한 경로 목록
+	 * 
+	 * <p>공개 경로 패턴에 포함되더라도 ADMIN 권한이 필요합니다 (예: "/actuator/**" 아래의 JFR 녹화, 시작 단계 기록 엔드포인트).
+	 * PublicRouteMatcher는 이 경로를 공개 경로에서 제외하고, SecurityConfiguration은 ADMIN 권한을 요구합니다.
+	 */
+	public static final String[] ADMIN_ROUTES = {
+			"/admin/**",         // 관리자 API
+			"/actuator/jfr/**",  // JFR 녹화 시작/중지/다운로드
+			"/actuator/startup/**"  // 시작 단계 기록 조회 (POST는 기록 버퍼를 비움)
+	};
+
 	/** 인스턴스 생성 방지 */
 	private SecurityConstants() {
 
@@ -0,0 +1,35 @@
+package com.farukgenc.boilerplate.springboot.service.user;
+
+import com.farukgenc.boilerplate.springboot.dto.user.UserPageResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 관리자용 사용자 서비스 인터페이스
+ * 
+ * <p>관리자(UserRole.ADMIN) 전용 사용자 목록 조회 및 내보내기 기능의 계약을 정의합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public interface UserAdminService {
+
+	/**
+	 * 키셋 페이지네이션으로 사용자 목록 조회
+	 * 
+	 * @param cursor 이전 페이지의 nextCursor (샤딩을 사용하지 않으면 마지막 사용자 ID, 첫 페이지는 null 또는 0)
+	 * @param size 페이지 크기
+	 * @return 사용자 페이지 응답 (다음 커서 포함)
+	 */
+	UserPageResponse getUsers(Long cursor, int size);
+
+	/**
+	 * 전체 사용자를 NDJSON 형식으로 내보내기
+	 * 
+	 * @param outputStream 사용자 한 명당 한 줄(JSON)을 기록할 출력 스트림
+	 * @throws IOException 출력 스트림 기록 실패 시
+	 */
+	void exportUsers(OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,215 @@
+package com.farukgenc.boilerplate.springboot.service.user;
+
+import com.farukgenc.boilerplate.springboot.datasource.ShardRouter;
+import com.farukgenc.boilerplate.springboot.dto.user.UserPageResponse;
+import com.farukgenc.boilerplate.springboot.dto.user.UserSummaryResponse;
+import com.farukgenc.boilerplate.springboot.mapper.user.UserMapper;
+import com.farukgenc.boilerplate.springboot.model.user.User;
+import com.farukgenc.boilerplate.springboot.repository.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 관리자용 사용자 서비스 구현체
+ * 
+ * <p>사용자 목록은 OFFSET 대신 ID 키셋 커서로 페이지를 나누어 테이블 크기와 관계없이
+ * 페이지당 비용이 일정하도록 합니다.
+ * 
+ * <p>내보내기는 fetch size 단위로 읽는 커서(Stream)를 사용하고, 한 행씩 NDJSON으로 기록한 뒤
+ * 영속성 컨텍스트에서 분리(detach)하여 사용자 수와 관계없이 메모리 사용량을 일정하게 유지합니다.
+ * 
+ * <p>샤딩을 사용하면 목록과 내보내기 모두 샤드마다 별도의 읽기 전용 트랜잭션으로 조회합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserAdminServiceImpl implements UserAdminService {
+
+	/** 기본 페이지 크기 */
+	private static final int DEFAULT_PAGE_SIZE = 50;
+
+	/** 최대 페이지 크기 */
+	private static final int MAX_PAGE_SIZE = 500;
+
+	/** 내보내기 시 출력 스트림을 flush하는 행 간격 (repository fetch size와 동일) */
+	private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+	/** NDJSON 행 구분자 */
+	private static final int LINE_SEPARATOR = '\n';
+
+	private final UserRepository userRepository;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final ShardRouter shardRouter;
+	private final PlatformTransactionManager transactionManager;
+
+	/**
+	 * 키셋 페이지네이션으로 사용자 목록 조회
+	 * 
+	 * <p>샤딩을 사용하면 샤드마다 커서 이후의 사용자를 한 페이지씩 읽어 (ID, 샤드 번호) 순서로 병합합니다.
+	 * 샤드마다 ID가 따로 증가하므로 커서에는 마지막 사용자의 ID와 샤드 번호를 함께 담습니다 (ID * MAX_SHARDS + 샤드 번호).
+	 * 샤딩을 사용하지 않으면 커서는 이전과 같이 마지막 사용자 ID입니다.
+	 * 
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null 또는 0)
+	 * @param size 페이지 크기 (1 ~ 500, 범위를 벗어나면 보정)
+	 * @return 사용자 페이지 응답 (다음 커서 포함)
+	 */
+	@Override
+	public UserPageResponse getUsers(Long cursor, int size) {
+
+		final long afterCursor = Objects.isNull(cursor) ? 0L : cursor;
+		final int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+		final int shardCount = shardRouter.getShardCount();
+
+		final long afterId = shardCount == 1 ? afterCursor : Math.floorDiv(afterCursor, ShardRouter.MAX_SHARDS);
+		final int afterShard = shardCount == 1 ? 0 : Math.floorMod(afterCursor, ShardRouter.MAX_SHARDS);
+
+		final List<ShardUser> merged = new ArrayList<>();
+
+		for (int shard = 0; shard < shardCount; shard++) {
+
+			// 커서의 샤드보다 뒤 샤드는 같은 ID도 커서 이후이므로 ID가 같거나 큰 사용자부터 읽음
+			final long shardAfterId = shard <= afterShard ? afterId : afterId - 1;
+			final List<User> users = readOnShard(shard, () -> userRepository.findByIdGreaterThanOrderByIdAsc(shardAfterId, Limit.of(pageSize)));
+
+			for (User user : users) {
+				merged.add(new ShardUser(user, shard));
+			}
+		}
+
+		merged.sort(Comparator.comparing((ShardUser shardUser) -> shardUser.user().getId()).thenComparingInt(ShardUser::shard));
+		final List<ShardUser> page = merged.size() > pageSize ? merged.subList(0, pageSize) : merged;
+
+		final List<UserSummaryResponse> userSummaries = page.stream().map(shardUser -> UserMapper.INSTANCE.convertToUserSummaryResponse(shardUser.user())).toList();
+
+		// 페이지가 가득 찬 경우에만 다음 페이지가 있을 수 있음
+		final Long nextCursor = page.size() == pageSize ? encodeCursor(page.get(page.size() - 1), shardCount) : null;
+
+		return new UserPageResponse(userSummaries, nextCursor);
+	}
+
+	/**
+	 * 전체 사용자를 NDJSON 형식으로 내보내기
+	 * 
+	 * <p>샤딩을 사용하면 샤드 순서대로, 샤드 안에서는 ID 순서대로 내보냅니다.
+	 * 
+	 * @param outputStream 사용자 한 명당 한 줄(JSON)을 기록할 출력 스트림
+	 * @throws IOException 출력 스트림 기록 실패 시 (클라이언트 연결 종료 등)
+	 */
+	@Override
+	public void exportUsers(OutputStream outputStream) throws IOException {
+
+		final ObjectWriter objectWriter = objectMapper.writerFor(UserSummaryResponse.class);
+
+		long exportedCount = 0;
+
+		try {
+			for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+
+				final long shardStartCount = exportedCount;
+				exportedCount = readOnShard(shard, () -> exportShard(outputStream, objectWriter, shardStartCount));
+			}
+		}
+		catch (UncheckedIOException exception) {
+			throw exception.getCause();
+		}
+
+		outputStream.flush();
+
+		log.info("{} users exported", exportedCount);
+	}
+
+	/**
+	 * 현재 샤드의 전체 사용자 내보내기 (읽기 전용 트랜잭션 안에서 호출)
+	 * 
+	 * @param outputStream 출력 스트림
+	 * @param objectWriter 사용자 요약 JSON 변환기
+	 * @param exportedCount 지금까지 내보낸 사용자 수
+	 * @return 이 샤드까지 내보낸 사용자 수
+	 */
+	private long exportShard(OutputStream outputStream, ObjectWriter objectWriter, long exportedCount) {
+
+		long count = exportedCount;
+
+		try (Stream<User> users = userRepository.streamAllByOrderByIdAsc()) {
+
+			final Iterator<User> iterator = users.iterator();
+
+			while (iterator.hasNext()) {
+
+				final User user = iterator.next();
+				final UserSummaryResponse userSummary = UserMapper.INSTANCE.convertToUserSummaryResponse(user);
+
+				outputStream.write(objectWriter.writeValueAsBytes(userSummary));
+				outputStream.write(LINE_SEPARATOR);
+
+				// 이미 기록한 엔티티는 영속성 컨텍스트에 쌓이지 않도록 즉시 분리
+				entityManager.detach(user);
+
+				if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+					outputStream.flush();
+				}
+			}
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+
+		return count;
+	}
+
+	/**
+	 * 샤드에서 읽기 전용 트랜잭션으로 작업 실행 (샤드마다 별도 트랜잭션과 연결 사용)
+	 * 
+	 * @param shard 샤드 번호
+	 * @param action 실행할 작업
+	 * @param <T> 결과 타입
+	 * @return 작업 결과
+	 */
+	private <T> T readOnShard(int shard, Supplier<T> action) {
+
+		final TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+
+		return shardRouter.onShard(shard, () -> readOnlyTransaction.execute(status -> action.get()));
+	}
+
+	private static Long encodeCursor(ShardUser shardUser, int shardCount) {
+
+		final long id = shardUser.user().getId();
+
+		return shardCount == 1 ? id : id * ShardRouter.MAX_SHARDS + shardUser.shard();
+	}
+
+	/**
+	 * 샤드에서 읽은 사용자
+	 * 
+	 * @param user 사용자
+	 * @param shard 샤드 번호
+	 */
+	private record ShardUser(User user, int shard) {
+
+	}
+
+}
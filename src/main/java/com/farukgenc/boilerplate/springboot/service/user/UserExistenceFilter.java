@@ -0,0 +1,298 @@
+package com.farukgenc.boilerplate.springboot.service.user;
+
+import com.farukgenc.boilerplate.springboot.datasource.ShardRouter;
+import com.farukgenc.boilerplate.springboot.model.user.User;
+import com.farukgenc.boilerplate.springboot.repository.user.UserRepository;
+import com.farukgenc.boilerplate.springboot.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 사용자 존재 여부 필터
+ * 
+ * <p>사용자명과 이메일에 대한 메모리 블룸 필터를 관리합니다.
+ * 필터가 "확실히 없음"이라고 답하면 DB 조회를 생략할 수 있으므로,
+ * 무작위 사용자명으로 가입/로그인/가용성 조회를 반복하는 봇 트래픽이 DB 부하로 이어지지 않습니다.
+ * 
+ * <p>동작 방식:
+ * <ul>
+ *   <li>애플리케이션 시작 후 별도 스레드에서 UserRepository의 전체 사용자를 키셋 페이지 단위로 읽어 필터 구축
+ *       (전체 테이블을 읽는 동안 시작 완료와 readiness 전환을 붙잡지 않도록)</li>
+ *   <li>회원가입 시 즉시 필터에 추가</li>
+ *   <li>다른 인스턴스에서 가입한 사용자는 마지막으로 읽은 ID 이후만 주기적으로 읽어 반영</li>
+ *   <li>샤딩을 사용하면 샤드마다 따로 읽고 마지막으로 읽은 ID도 샤드별로 관리</li>
+ *   <li>주기적으로 전체를 다시 읽어 새 필터로 교체 (재구축 중에는 기존 필터로 응답)</li>
+ *   <li>처음 구축이 끝나기 전에는 항상 "있을 수도 있음"으로 답하여 DB 조회로 대체</li>
+ * </ul>
+ * 
+ * <p>주의: "없음"은 필터가 읽은 사용자 기준입니다. 다음 사용자는 반영 전까지 필터에 없으므로
+ * 거짓 음성이 생겨도 결과가 틀리지 않는 곳(DB 유일 제약 조건이 뒤에서 막는 회원가입 중복 검사, 참고용 가용성 조회)에서만 사용해야 합니다:
+ * <ul>
+ *   <li>다른 인스턴스에서 가입한 사용자 (다음 증분 갱신까지)</li>
+ *   <li>ID 순서와 다르게 늦게 커밋된 사용자 (증분 갱신은 마지막으로 읽은 ID 이후만 읽으므로 다음 전체 재구축까지)</li>
+ * </ul>
+ * 로그인 사용자 조회(UserDetailsServiceImpl)는 실제 사용자를 거절하지 않도록 필터를 사용하지 않습니다.
+ * 
+ * <p>이메일은 대소문자를 구분하지 않도록 소문자로 정규화하여 저장합니다.
+ * 정규화는 필터가 더 많은 값을 "있을 수도 있음"으로 답하게 할 뿐이므로 거짓 음성은 생기지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter {
+
+	private final UserRepository userRepository;
+	private final UserExistenceFilterProperties properties;
+	private final ShardRouter shardRouter;
+
+	private final Counter absentCounter;
+	private final Counter mightExistCounter;
+
+	/** 현재 사용 중인 필터 (재구축 시 통째로 교체) */
+	private volatile FilterState state;
+
+	/** 재구축 중인 필터 (재구축 중에 가입한 사용자도 추가하기 위함, 재구축 중이 아니면 null) */
+	private volatile FilterState building;
+
+	public UserExistenceFilter(UserRepository userRepository, UserExistenceFilterProperties properties, ShardRouter shardRouter, MeterRegistry meterRegistry) {
+
+		this.userRepository = userRepository;
+		this.properties = properties;
+		this.shardRouter = shardRouter;
+		this.absentCounter = meterRegistry.counter("user.existence.filter", "result", "absent");
+		this.mightExistCounter = meterRegistry.counter("user.existence.filter", "result", "might_exist");
+		this.state = newState();
+	}
+
+	/**
+	 * 사용자명 존재 가능성 확인
+	 * 
+	 * @param username 사용자명
+	 * @return false이면 확실히 없음 (DB 조회 생략 가능), true이면 DB 확인 필요
+	 */
+	public boolean mightContainUsername(String username) {
+
+		final FilterState currentState = state;
+
+		if (!currentState.ready || Objects.isNull(username)) {
+			return true;
+		}
+
+		return record(currentState.usernames.mightContain(username));
+	}
+
+	/**
+	 * 이메일 존재 가능성 확인
+	 * 
+	 * @param email 이메일 주소
+	 * @return false이면 확실히 없음 (DB 조회 생략 가능), true이면 DB 확인 필요
+	 */
+	public boolean mightContainEmail(String email) {
+
+		final FilterState currentState = state;
+
+		if (!currentState.ready || Objects.isNull(email)) {
+			return true;
+		}
+
+		return record(currentState.emails.mightContain(normalizeEmail(email)));
+	}
+
+	/**
+	 * 가입한 사용자를 필터에 추가
+	 * 
+	 * @param user 저장된 사용자
+	 */
+	public void add(User user) {
+
+		addTo(state, user);
+
+		final FilterState buildingState = building;
+
+		if (Objects.nonNull(buildingState)) {
+			addTo(buildingState, user);
+		}
+	}
+
+	/**
+	 * 처음 필터 구축을 별도 스레드에서 시작
+	 * 
+	 * <p>ApplicationReadyEvent 리스너가 끝나야 readiness가 ACCEPTING_TRAFFIC으로 전환되므로 여기서 전체 테이블을 읽지 않습니다.
+	 * 구축이 끝날 때까지 필터는 "있을 수도 있음"으로 답합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildInBackground() {
+
+		if (!properties.isEnabled()) {
+			return;
+		}
+
+		final Thread thread = new Thread(this::buildInitialFilter, "user-existence-filter-build");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void buildInitialFilter() {
+
+		try {
+			rebuild();
+		}
+		catch (RuntimeException exception) {
+			// 다음 정기 재구축(rebuild-interval-millis)까지 "있을 수도 있음"으로 응답 (DB 조회로 대체)
+			log.warn("Initial user existence filter build failed", exception);
+		}
+	}
+
+	/**
+	 * 필터 구축 (처음에는 buildInBackground에서, 이후 rebuild-interval-millis마다)
+	 * 
+	 * <p>새 필터를 따로 만든 뒤 교체하므로 재구축 중에도 기존 필터로 응답합니다.
+	 */
+	@Scheduled(fixedDelayString = "${user.existence-filter.rebuild-interval-millis:3600000}", initialDelayString = "${user.existence-filter.rebuild-interval-millis:3600000}")
+	public void rebuild() {
+
+		if (!properties.isEnabled()) {
+			return;
+		}
+
+		synchronized (this) {
+
+			final FilterState newState = newState();
+			building = newState;
+
+			long loadedCount = 0;
+			try {
+				for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+					loadedCount += loadUsersAfter(newState, shard, 0L);
+				}
+			}
+			finally {
+				building = null;
+			}
+
+			newState.ready = true;
+			state = newState;
+
+			if (loadedCount > properties.getExpectedInsertions()) {
+				log.warn("User existence filter holds {} users, more than expected {}. False positive rate will increase.", loadedCount, properties.getExpectedInsertions());
+			}
+
+			log.info("User existence filter built with {} users", loadedCount);
+		}
+	}
+
+	/**
+	 * 다른 인스턴스에서 가입한 사용자 증분 반영
+	 */
+	@Scheduled(fixedDelayString = "${user.existence-filter.refresh-interval-millis:5000}", initialDelayString = "${user.existence-filter.refresh-interval-millis:5000}")
+	public void refresh() {
+
+		if (!properties.isEnabled() || !state.ready) {
+			return;
+		}
+
+		synchronized (this) {
+
+			final FilterState currentState = state;
+
+			for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+				loadUsersAfter(currentState, shard, currentState.lastLoadedIds[shard]);
+			}
+		}
+	}
+
+	/**
+	 * 샤드에서 지정한 ID 이후의 사용자를 키셋 페이지 단위로 읽어 필터에 추가
+	 * 
+	 * @param targetState 사용자를 추가할 필터
+	 * @param shard 샤드 번호
+	 * @param afterId 마지막으로 읽은 사용자 ID
+	 * @return 읽은 사용자 수
+	 */
+	private long loadUsersAfter(FilterState targetState, int shard, long afterId) {
+
+		final Limit pageLimit = Limit.of(properties.getLoadPageSize());
+
+		long cursor = afterId;
+		long loadedCount = 0;
+
+		List<User> page;
+		do {
+			final long pageCursor = cursor;
+			page = shardRouter.onShard(shard, () -> userRepository.findByIdGreaterThanOrderByIdAsc(pageCursor, pageLimit));
+
+			for (User user : page) {
+				addTo(targetState, user);
+				cursor = user.getId();
+			}
+
+			loadedCount += page.size();
+		}
+		while (page.size() == properties.getLoadPageSize());
+
+		targetState.lastLoadedIds[shard] = cursor;
+
+		return loadedCount;
+	}
+
+	private static void addTo(FilterState targetState, User user) {
+
+		targetState.usernames.put(user.getUsername());
+		targetState.emails.put(normalizeEmail(user.getEmail()));
+	}
+
+	private boolean record(boolean mightContain) {
+
+		(mightContain ? mightExistCounter : absentCounter).increment();
+		return mightContain;
+	}
+
+	private FilterState newState() {
+
+		final long expectedInsertions = properties.getExpectedInsertions();
+		final double falsePositiveProbability = properties.getFalsePositiveProbability();
+
+		return new FilterState(new BloomFilter(expectedInsertions, falsePositiveProbability), new BloomFilter(expectedInsertions, falsePositiveProbability),
+				shardRouter.getShardCount());
+	}
+
+	private static String normalizeEmail(String email) {
+
+		return email.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 필터 상태 (사용자명/이메일 필터, 구축 완료 여부, 샤드별 마지막으로 읽은 ID)
+	 */
+	private static final class FilterState {
+
+		private final BloomFilter usernames;
+
+		private final BloomFilter emails;
+
+		private volatile boolean ready;
+
+		/** 샤드별 마지막으로 읽은 ID (rebuild/refresh의 동기화 블록 안에서만 접근) */
+		private final long[] lastLoadedIds;
+
+		private FilterState(BloomFilter usernames, BloomFilter emails, int shardCount) {
+			this.usernames = usernames;
+			this.emails = emails;
+			this.lastLoadedIds = new long[shardCount];
+		}
+
+	}
+
+}
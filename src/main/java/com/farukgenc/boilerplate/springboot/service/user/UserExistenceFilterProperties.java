@@ -0,0 +1,40 @@
+package com.farukgenc.boilerplate.springboot.service.user;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자 존재 여부 필터 설정 프로퍼티
+ * 
+ * <p>application.yml에서 사용자명/이메일 블룸 필터 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user.existence-filter")
+public class UserExistenceFilterProperties {
+
+	/** 블룸 필터 사용 여부 (false이면 항상 DB 조회) */
+	private boolean enabled = true;
+
+	/** 예상 사용자 수 (초과 시 거짓 양성 확률 증가) */
+	private long expectedInsertions = 1_000_000;
+
+	/** 목표 거짓 양성 확률 */
+	private double falsePositiveProbability = 0.01;
+
+	/** 재구축/갱신 시 한 번에 읽는 사용자 수 */
+	private int loadPageSize = 1_000;
+
+	/** 다른 인스턴스에서 가입한 사용자를 반영하기 위한 증분 갱신 주기 (밀리초) */
+	private long refreshIntervalMillis = 5_000;
+
+	/** 증분 갱신이 놓친 사용자(늦게 커밋된 ID)를 반영하고 삭제된 사용자를 비우기 위한 전체 재구축 주기 (밀리초) */
+	private long rebuildIntervalMillis = 3_600_000;
+
+}
@@ -1,7 +1,14 @@
 package com.farukgenc.boilerplate.springboot.service.user;
 
+import com.farukgenc.boilerplate.springboot.datasource.ReadYourWritesTracker;
+import com.farukgenc.boilerplate.springboot.datasource.ShardRouter;
+import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
 import com.farukgenc.boilerplate.springboot.model.user.User;
 import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import com.farukgenc.boilerplate.springboot.monitoring.jfr.RegistrationEvent;
+import com.farukgenc.boilerplate.springboot.monitoring.timing.ServerTiming;
+import com.farukgenc.boilerplate.springboot.outbox.OutboxPublisher;
+import com.farukgenc.boilerplate.springboot.outbox.UserRegisteredEvent;
 import com.farukgenc.boilerplate.springboot.repository.user.UserRepository;
 import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
 import com.farukgenc.boilerplate.springboot.dto.auth.response.RegistrationResponse;
@@ -10,9 +17,11 @@ import com.farukgenc.boilerplate.springboot.mapper.user.UserMapper;
 import com.farukgenc.boilerplate.springboot.utils.GeneralMessageAccessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 사용자 서비스 구현체
@@ -41,12 +50,18 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	private final BCryptPasswordEncoder bCryptPasswordEncoder;
 	private final UserValidationService userValidationService;
+	private final UserExistenceFilter userExistenceFilter;
+	private final ReadYourWritesTracker readYourWritesTracker;
 	private final GeneralMessageAccessor generalMessageAccessor;
+	private final OutboxPublisher outboxPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final ShardRouter shardRouter;
 
 	/**
 	 * 사용자명으로 사용자 조회
 	 * 
 	 * <p>데이터베이스에서 사용자명을 기준으로 사용자 정보를 조회합니다.
+	 * 샤딩을 사용하면 사용자명으로 정해지는 샤드에서 조회합니다.
 	 * 
 	 * @param username 조회할 사용자명
 	 * @return 사용자 엔티티 (없으면 null)
@@ -55,23 +70,55 @@ public class UserServiceImpl implements UserService {
 	@Transactional(readOnly = true)
 	public User findByUsername(String username) {
 
-		return userRepository.findByUsername(username).orElse(null);
+		return shardRouter.onUserShard(username, () -> userRepository.findByUsername(username).orElse(null));
 	}
 
 	/**
 	 * 회원가입 처리
 	 * 
+	 * <p>비밀번호 해시(수십~수백 ms의 CPU 작업)를 하는 동안 DB 연결을 잡고 있지 않도록 트랜잭션으로 감싸지 않습니다:
+	 * <ul>
+	 *   <li>중복 검사: UserValidationService의 읽기 전용 트랜잭션, 항상 primary에서 확인 (검사가 끝나면 연결 반납)</li>
+	 *   <li>비밀번호 해시: 트랜잭션 밖에서 수행 (연결 없음)</li>
+	 *   <li>저장: 사용자 INSERT와 회원가입 이벤트(아웃박스) INSERT를 한 트랜잭션으로 묶음 (연결은 두 INSERT 동안만 사용)</li>
+	 * </ul>
+	 * 회원가입 이벤트는 아웃박스에 기록만 하고 OutboxDispatcher가 나중에 전달하므로 전달 대상의 지연/장애는 가입에 영향이 없습니다.
+	 * 검사와 저장 사이에 같은 사용자명/이메일이 먼저 저장되는 경우는 DB 유일 제약 조건이 막고, 중복 검사와 같은 RegistrationException으로 응답합니다.
+	 * 
+	 * <p>샤딩을 사용하면 사용자명으로 정해지는 샤드에 저장하고, 이메일은 저장 전에 이메일 디렉터리에 선점합니다
+	 * (저장에 실패하면 선점 취소).
+	 * 
 	 * @param registrationRequest 회원가입 요청 정보
 	 * @return 회원가입 응답 (성공 메시지 포함)
 	 * @throws RegistrationException 사용자명 또는 이메일이 이미 존재하는 경우
 	 */
 	@Override
-	@Transactional
 	public RegistrationResponse registration(RegistrationRequest registrationRequest) {
 
+		final RegistrationEvent event = new RegistrationEvent();
+		event.begin();
+
+		try {
+			final RegistrationResponse registrationResponse = register(registrationRequest);
+			event.setOutcome(RegistrationEvent.SUCCESS);
+			return registrationResponse;
+		}
+		catch (RegistrationException exception) {
+			event.setOutcome(RegistrationEvent.REJECTED);
+			throw exception;
+		}
+		finally {
+			event.commit();
+		}
+	}
+
+	private RegistrationResponse register(RegistrationRequest registrationRequest) {
+
 		userValidationService.validateUser(registrationRequest);
 
+		final long hashStartNanos = ServerTiming.start();
 		final String encodedPassword = bCryptPasswordEncoder.encode(registrationRequest.getPassword());
+		ServerTiming.record(ServerTiming.PASSWORD_HASH, hashStartNanos);
 		
 		final User user = User.builder()
 				.name(registrationRequest.getName())
@@ -81,7 +128,28 @@ public class UserServiceImpl implements UserService {
 				.userRole(UserRole.USER)
 				.build();
 
-		userRepository.save(user);
+		final int shard = shardRouter.shardOf(user.getUsername());
+		userValidationService.reserveEmail(user.getEmail(), user.getUsername(), shard);
+
+		final long insertStartNanos = ServerTiming.start();
+		try {
+			shardRouter.runOnShard(shard, () -> transactionTemplate.executeWithoutResult(status -> {
+				userRepository.save(user);
+				outboxPublisher.append(UserRegisteredEvent.from(user));
+			}));
+		}
+		catch (DataIntegrityViolationException exception) {
+			userValidationService.releaseEmail(user.getEmail(), user.getUsername());
+			throw userValidationService.translateDuplicate(exception);
+		}
+		catch (RuntimeException exception) {
+			userValidationService.releaseEmail(user.getEmail(), user.getUsername());
+			throw exception;
+		}
+		ServerTiming.record(ServerTiming.USER_INSERT, insertStartNanos);
+		userExistenceFilter.add(user);
+		// 복제 지연 동안 방금 가입한 사용자의 조회(로그인, 중복 확인)는 primary에서 읽도록 고정
+		readYourWritesTracker.markWritten(user.getUsername(), user.getEmail());
 
 		final String username = registrationRequest.getUsername();
 		final String registrationSuccessMessage = generalMessageAccessor.getMessage(REGISTRATION_SUCCESSFUL, username);
@@ -1,14 +1,24 @@
 package com.farukgenc.boilerplate.springboot.service.user;
 
+import com.farukgenc.boilerplate.springboot.datasource.EmailDirectory;
+import com.farukgenc.boilerplate.springboot.datasource.ReadYourWritesTracker;
+import com.farukgenc.boilerplate.springboot.datasource.RoutingContext;
+import com.farukgenc.boilerplate.springboot.datasource.ShardRouter;
 import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
 import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
 import com.farukgenc.boilerplate.springboot.repository.user.UserRepository;
 import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+import java.util.Objects;
+
 /**
  * 사용자 유효성 검증 서비스
  * 
@@ -20,8 +30,21 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>사용자명 중복 검증</li>
  *   <li>이메일 중복 검증</li>
  *   <li>검증 실패 시 다국어 예외 메시지 제공</li>
+ *   <li>사용자명/이메일 가용성 조회</li>
  * </ul>
  * 
+ * <p>UserExistenceFilter(블룸 필터)가 "확실히 없음"이라고 답하면 DB 조회를 생략합니다.
+ * 필터가 아직 모르는 사용자(다른 인스턴스에서 방금 가입, 늦게 커밋됨)는 중복 검사를 통과할 수 있지만
+ * 저장 시 DB 유일 제약 조건에 걸리고 같은 회원가입 예외로 응답하므로 중복 가입은 생기지 않습니다.
+ * 가용성 조회는 이 경우 "사용 가능"으로 답할 수 있는 참고용 응답입니다.
+ * 
+ * <p>회원가입 중복 검사는 복제본 라우팅을 사용해도 항상 primary에서 확인합니다.
+ * 복제 지연 중이거나 다른 인스턴스에서 방금 가입한 사용자명/이메일은 복제본에 아직 없을 수 있기 때문입니다.
+ * 검사와 저장 사이에 먼저 저장된 경우는 DB 유일 제약 조건이 막고 translateDuplicate로 같은 회원가입 예외로 변환합니다.
+ * 
+ * <p>샤딩을 사용하면 사용자명은 사용자가 저장될 샤드에서, 이메일은 EmailDirectory에서 확인하고,
+ * 저장 직전에 reserveEmail로 이메일을 선점하여 샤드 사이의 이메일 중복을 막습니다.
+ * 
  * <p>이 서비스는 회원가입 프로세스의 일부로 사용되며,
  * 중복된 사용자명이나 이메일이 발견되면 RegistrationException을 발생시킵니다.
  * 
@@ -39,8 +62,18 @@ public class UserValidationService {
 	/** 사용자명 중복 예외 메시지 키 */
 	private static final String USERNAME_ALREADY_EXISTS = "username_already_exists";
 
+	/** 이메일 유일 제약 조건(인덱스) 이름에 포함된 컬럼명 (ux_users_email_lower) */
+	private static final String EMAIL_CONSTRAINT_COLUMN = "email";
+
+	/** 사용자명 유일 제약 조건 이름에 포함된 컬럼명 (uk_users_username) */
+	private static final String USERNAME_CONSTRAINT_COLUMN = "username";
+
 	private final UserRepository userRepository;
+	private final UserExistenceFilter userExistenceFilter;
+	private final ReadYourWritesTracker readYourWritesTracker;
 	private final ExceptionMessageAccessor exceptionMessageAccessor;
+	private final ShardRouter shardRouter;
+	private final ObjectProvider<EmailDirectory> emailDirectory;
 
 	/**
 	 * 사용자 정보 유효성 검증
@@ -54,8 +87,127 @@ public class UserValidationService {
 		final String email = registrationRequest.getEmail();
 		final String username = registrationRequest.getUsername();
 
-		checkEmail(email);
-		checkUsername(username);
+		// 복제본에는 아직 없는 사용자명/이메일(복제 지연, 다른 인스턴스의 가입)을 놓치지 않도록 primary에서 확인
+		RoutingContext.onPrimary(() -> {
+			checkEmail(email);
+			checkUsername(username);
+			return null;
+		});
+	}
+
+	/**
+	 * 사용자 저장 시 유일 제약 조건 위반을 회원가입 예외로 변환
+	 * 
+	 * <p>중복 검사와 저장 사이에 같은 사용자명/이메일이 먼저 저장된 경우(다른 인스턴스 포함)
+	 * 중복 검사에서 걸린 경우와 같은 메시지로 응답하도록 합니다.
+	 * 
+	 * @param exception 사용자 저장 중 발생한 예외
+	 * @return 사용자명/이메일 유일 제약 조건 위반이면 RegistrationException, 그 밖에는 전달받은 예외
+	 */
+	public RuntimeException translateDuplicate(DataIntegrityViolationException exception) {
+
+		final String constraintName = constraintNameOf(exception);
+
+		if (Objects.isNull(constraintName)) {
+			return exception;
+		}
+
+		if (constraintName.contains(EMAIL_CONSTRAINT_COLUMN)) {
+
+			log.warn("Email already being used! (unique constraint: {})", constraintName);
+
+			return new RegistrationException(exceptionMessageAccessor.getMessage(EMAIL_ALREADY_EXISTS));
+		}
+
+		if (constraintName.contains(USERNAME_CONSTRAINT_COLUMN)) {
+
+			log.warn("Username already being used! (unique constraint: {})", constraintName);
+
+			return new RegistrationException(exceptionMessageAccessor.getMessage(USERNAME_ALREADY_EXISTS));
+		}
+
+		return exception;
+	}
+
+	/**
+	 * 사용자명 사용 가능 여부 조회
+	 * 
+	 * @param username 확인할 사용자명
+	 * @return 사용 가능하면 true
+	 */
+	@Transactional(readOnly = true)
+	public boolean isUsernameAvailable(String username) {
+
+		return !readYourWritesTracker.read(() -> existsByUsername(username), username);
+	}
+
+	/**
+	 * 이메일 사용 가능 여부 조회
+	 * 
+	 * @param email 확인할 이메일 주소
+	 * @return 사용 가능하면 true
+	 */
+	@Transactional(readOnly = true)
+	public boolean isEmailAvailable(String email) {
+
+		return !readYourWritesTracker.read(() -> existsByEmail(email), email);
+	}
+
+	/**
+	 * 이메일 선점 (샤딩 사용 시)
+	 * 
+	 * <p>검증과 저장 사이에 다른 샤드에서 같은 이메일로 가입하는 경우를 막습니다.
+	 * 샤딩을 사용하지 않으면 USERS 테이블의 이메일 고유 인덱스가 같은 역할을 하므로 아무것도 하지 않습니다.
+	 * 
+	 * @param email 이메일 주소
+	 * @param username 가입할 사용자명
+	 * @param shard 사용자를 저장할 샤드 번호
+	 * @throws RegistrationException 이메일이 이미 사용 중인 경우
+	 */
+	public void reserveEmail(String email, String username, int shard) {
+
+		final EmailDirectory directory = emailDirectory.getIfAvailable();
+
+		if (Objects.nonNull(directory) && !directory.reserve(email, username, shard)) {
+
+			log.warn("Email: {} already being used!", email);
+
+			final String existsEmail = exceptionMessageAccessor.getMessage(EMAIL_ALREADY_EXISTS);
+			throw new RegistrationException(existsEmail);
+		}
+	}
+
+	/**
+	 * 이메일 선점 취소 (사용자 저장에 실패한 경우)
+	 * 
+	 * @param email 이메일 주소
+	 * @param username 선점한 사용자명
+	 */
+	public void releaseEmail(String email, String username) {
+
+		final EmailDirectory directory = emailDirectory.getIfAvailable();
+
+		if (Objects.nonNull(directory)) {
+			directory.release(email, username);
+		}
+	}
+
+	/**
+	 * 예외 원인에서 위반된 제약 조건 이름 찾기
+	 * 
+	 * @param exception 사용자 저장 중 발생한 예외
+	 * @return 제약 조건 이름 (소문자, 알 수 없으면 null)
+	 */
+	private static String constraintNameOf(DataIntegrityViolationException exception) {
+
+		for (Throwable cause = exception; Objects.nonNull(cause); cause = cause.getCause()) {
+
+			if (cause instanceof ConstraintViolationException constraintViolation && Objects.nonNull(constraintViolation.getConstraintName())) {
+				return constraintViolation.getConstraintName().toLowerCase(Locale.ROOT);
+			}
+		}
+
+		return null;
 	}
 
 	/**
@@ -66,7 +218,7 @@ public class UserValidationService {
 	 */
 	private void checkUsername(String username) {
 
-		final boolean existsByUsername = userRepository.existsByUsername(username);
+		final boolean existsByUsername = existsByUsername(username);
 
 		if (existsByUsername) {
 
@@ -86,7 +238,7 @@ public class UserValidationService {
 	 */
 	private void checkEmail(String email) {
 
-		final boolean existsByEmail = userRepository.existsByEmail(email);
+		final boolean existsByEmail = existsByEmail(email);
 
 		if (existsByEmail) {
 
@@ -97,4 +249,33 @@ public class UserValidationService {
 		}
 	}
 
+	/**
+	 * 사용자명 존재 여부 확인 (필터가 "확실히 없음"이면 DB 조회 생략, 사용자가 저장될 샤드에서 조회)
+	 * 
+	 * @param username 확인할 사용자명
+	 * @return 존재하면 true
+	 */
+	private boolean existsByUsername(String username) {
+
+		return userExistenceFilter.mightContainUsername(username)
+				&& shardRouter.onUserShard(username, () -> userRepository.existsByUsername(username));
+	}
+
+	/**
+	 * 이메일 존재 여부 확인 (필터가 "확실히 없음"이면 DB 조회 생략, 샤딩 사용 시 이메일 디렉터리에서 조회)
+	 * 
+	 * @param email 확인할 이메일 주소
+	 * @return 존재하면 true
+	 */
+	private boolean existsByEmail(String email) {
+
+		if (!userExistenceFilter.mightContainEmail(email)) {
+			return false;
+		}
+
+		final EmailDirectory directory = emailDirectory.getIfAvailable();
+
+		return Objects.nonNull(directory) ? directory.exists(email) : userRepository.existsByEmail(email);
+	}
+
 }
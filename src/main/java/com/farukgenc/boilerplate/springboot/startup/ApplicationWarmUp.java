@@ -0,0 +1,275 @@
+package com.farukgenc.boilerplate.springboot.startup;
+
+import com.farukgenc.boilerplate.springboot.dto.auth.request.LoginRequest;
+import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.dto.auth.response.AvailabilityResponse;
+import com.farukgenc.boilerplate.springboot.dto.auth.response.LoginResponse;
+import com.farukgenc.boilerplate.springboot.dto.auth.response.RegistrationResponse;
+import com.farukgenc.boilerplate.springboot.dto.user.UserPageResponse;
+import com.farukgenc.boilerplate.springboot.dto.user.UserSummaryResponse;
+import com.farukgenc.boilerplate.springboot.exceptions.ApiExceptionResponse;
+import com.farukgenc.boilerplate.springboot.model.user.User;
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.user.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtTokenManager;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 준비 전 워밍업
+ * 
+ * <p>Spring Boot는 ApplicationReadyEvent 리스너가 모두 끝난 뒤 readiness를 ACCEPTING_TRAFFIC으로 전환하므로,
+ * 이 리스너가 끝나기 전까지 /actuator/health/readiness는 OUT_OF_SERVICE를 반환하고 트래픽이 들어오지 않습니다.
+ * 그 사이에 첫 요청들이 치르던 비용을 미리 치릅니다:
+ * <ul>
+ *   <li>DB 연결 풀 미리 채우기 (연결 수립, 인증, 서버 측 세션 준비)</li>
+ *   <li>토큰 서명/검증 반복 (JwtTokenManager 코드 JIT 컴파일)</li>
+ *   <li>DTO 직렬화/역직렬화 (Jackson serializer/deserializer 생성 및 캐시)</li>
+ *   <li>가상 사용자로 리포지토리 쿼리 실행 (Hibernate 쿼리 계획 컴파일, JDBC prepared statement 준비)</li>
+ *   <li>로컬 HTTP 요청 (Tomcat, 보안 필터 체인, JwtAuthenticationFilter, MVC 경로 전체)</li>
+ * </ul>
+ * 
+ * <p>가상 사용자는 DB에 저장하지 않으며, 실패한 단계는 경고만 남기고 다음 단계로 넘어갑니다.
+ * 전체 시간이 timeLimit을 넘으면 남은 반복을 건너뛰어 배포가 워밍업 때문에 멈추지 않도록 합니다.
+ * 
+ * <p>시작 시간 예산(StartupTimeBudgetListener)에 워밍업 시간이 포함되도록 가장 먼저 실행합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApplicationWarmUp implements ApplicationListener<ApplicationReadyEvent> {
+
+	private final WarmUpProperties warmUpProperties;
+	private final JwtTokenManager jwtTokenManager;
+	private final UserRepository userRepository;
+	private final ObjectMapper objectMapper;
+	private final DataSource dataSource;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+
+		if (!warmUpProperties.isEnabled()) {
+			return;
+		}
+
+		final long deadlineNanos = System.nanoTime() + warmUpProperties.getTimeLimit().toNanos();
+		final long startNanos = System.nanoTime();
+
+		runStep("connection pool", deadlineNanos, this::prefillConnectionPool);
+		runStep("token sign/verify", deadlineNanos, () -> warmUpTokens(deadlineNanos));
+		runStep("json serialization", deadlineNanos, () -> warmUpSerialization(deadlineNanos));
+		runStep("repository queries", deadlineNanos, () -> warmUpQueries(deadlineNanos));
+		runStep("http requests", deadlineNanos, () -> warmUpHttp(event.getApplicationContext(), deadlineNanos));
+
+		log.info("Warm-up finished in {} ms", Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+	}
+
+	private void runStep(String name, long deadlineNanos, WarmUpStep step) {
+
+		if (System.nanoTime() >= deadlineNanos) {
+			log.warn("Warm-up time limit reached, skipping : {}", name);
+			return;
+		}
+
+		final long stepStartNanos = System.nanoTime();
+
+		try {
+			step.run();
+			log.info("Warm-up step : {} took {} ms", name, Duration.ofNanos(System.nanoTime() - stepStartNanos).toMillis());
+		}
+		catch (Exception exception) {
+			log.warn("Warm-up step failed : {} ({})", name, exception.getMessage());
+		}
+	}
+
+	/**
+	 * DB 연결 풀 미리 채우기
+	 * 
+	 * <p>연결을 동시에 열어 둔 상태로 각 연결에서 쿼리를 한 번 실행하여 실제 연결이 수립되도록 합니다.
+	 * (LazyConnectionDataSourceProxy를 사용하는 경우 쿼리를 실행해야 실제 연결을 가져옴)
+	 */
+	private void prefillConnectionPool() throws SQLException {
+
+		final int connectionCount = Math.min(warmUpProperties.getPrefillConnections(), maximumPoolSize());
+		final List<Connection> connections = new ArrayList<>(connectionCount);
+
+		try {
+			for (int i = 0; i < connectionCount; i++) {
+
+				final Connection connection = dataSource.getConnection();
+				connections.add(connection);
+
+				try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+					statement.execute();
+				}
+			}
+		}
+		finally {
+			for (Connection connection : connections) {
+				connection.close();
+			}
+		}
+	}
+
+	/**
+	 * HikariCP 최대 풀 크기 (풀 크기보다 많은 연결을 열면 연결 대기 시간 초과까지 멈추므로 상한으로 사용)
+	 * 
+	 * @return 최대 풀 크기 (확인할 수 없으면 설정된 미리 채울 연결 수)
+	 */
+	private int maximumPoolSize() {
+
+		try {
+			if (dataSource.isWrapperFor(HikariDataSource.class)) {
+				return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+			}
+		}
+		catch (SQLException exception) {
+			log.debug("Could not determine connection pool size : {}", exception.getMessage());
+		}
+
+		return warmUpProperties.getPrefillConnections();
+	}
+
+	private void warmUpTokens(long deadlineNanos) {
+
+		final User syntheticUser = User.builder().username(warmUpProperties.getSyntheticUsername()).userRole(UserRole.USER).build();
+
+		for (int i = 0; i < warmUpProperties.getIterations() && System.nanoTime() < deadlineNanos; i++) {
+
+			final String token = jwtTokenManager.generateToken(syntheticUser);
+			jwtTokenManager.verifyToken(token);
+			jwtTokenManager.verifyBearerToken(SecurityConstants.TOKEN_PREFIX + token);
+		}
+	}
+
+	private void warmUpSerialization(long deadlineNanos) throws IOException {
+
+		final String username = warmUpProperties.getSyntheticUsername();
+
+		final UserSummaryResponse userSummaryResponse = new UserSummaryResponse();
+		userSummaryResponse.setId(1L);
+		userSummaryResponse.setUsername(username);
+		userSummaryResponse.setUserRole(UserRole.USER);
+
+		final List<Object> responses = List.of(
+				new LoginResponse(username),
+				new RegistrationResponse(username),
+				new AvailabilityResponse(true, true),
+				new UserPageResponse(List.of(userSummaryResponse), 1L),
+				new ApiExceptionResponse(username, HttpStatus.UNAUTHORIZED, LocalDateTime.now()));
+
+		final byte[] loginRequest = objectMapper.writeValueAsBytes(new LoginRequest());
+		final byte[] registrationRequest = objectMapper.writeValueAsBytes(new RegistrationRequest());
+
+		for (int i = 0; i < warmUpProperties.getIterations() && System.nanoTime() < deadlineNanos; i++) {
+
+			for (Object response : responses) {
+				objectMapper.writeValueAsBytes(response);
+			}
+
+			objectMapper.readValue(loginRequest, LoginRequest.class);
+			objectMapper.readValue(registrationRequest, RegistrationRequest.class);
+		}
+	}
+
+	private void warmUpQueries(long deadlineNanos) {
+
+		final String username = warmUpProperties.getSyntheticUsername();
+		final String email = username + "@warm-up.invalid";
+
+		for (int i = 0; i < warmUpProperties.getQueryIterations() && System.nanoTime() < deadlineNanos; i++) {
+
+			userRepository.findByUsername(username);
+			userRepository.existsByUsername(username);
+			userRepository.existsByEmail(email);
+			userRepository.findByIdGreaterThanOrderByIdAsc(Long.MAX_VALUE, Limit.of(1));
+		}
+	}
+
+	/**
+	 * 로컬 HTTP 요청으로 웹 요청 경로 워밍업
+	 * 
+	 * <p>가상 사용자는 존재하지 않으므로 인증이 필요한 요청은 401, 로그인은 인증 실패로 끝나지만
+	 * 요청 파싱, 보안 필터 체인, 토큰 검증, 유효성 검증, 응답 직렬화 코드는 모두 실행됩니다.
+	 * 
+	 * @param applicationContext 애플리케이션 컨텍스트 (웹 서버 포트 조회용)
+	 * @param deadlineNanos 워밍업 마감 시각
+	 */
+	private void warmUpHttp(ApplicationContext applicationContext, long deadlineNanos) throws IOException, InterruptedException {
+
+		if (warmUpProperties.getHttpIterations() <= 0 || !(applicationContext instanceof WebServerApplicationContext webServerApplicationContext)) {
+			return;
+		}
+
+		final String baseUrl = "http://localhost:" + webServerApplicationContext.getWebServer().getPort();
+		final String username = warmUpProperties.getSyntheticUsername();
+		final String token = jwtTokenManager.generateToken(User.builder().username(username).userRole(UserRole.USER).build());
+
+		final LoginRequest loginRequest = new LoginRequest();
+		loginRequest.setUsername(username);
+		loginRequest.setPassword(username);
+		final String loginBody = objectMapper.writeValueAsString(loginRequest);
+
+		final List<HttpRequest> requests = List.of(
+				HttpRequest.newBuilder(URI.create(baseUrl + "/register/availability?username=" + username)).GET().build(),
+				HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+						.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+						.POST(HttpRequest.BodyPublishers.ofString(loginBody))
+						.build(),
+				HttpRequest.newBuilder(URI.create(baseUrl + "/hello"))
+						.header(SecurityConstants.HEADER_STRING, SecurityConstants.TOKEN_PREFIX + token)
+						.GET()
+						.build());
+
+		try (HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build()) {
+
+			for (int i = 0; i < warmUpProperties.getHttpIterations() && System.nanoTime() < deadlineNanos; i++) {
+				for (HttpRequest request : requests) {
+					httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 워밍업 단계
+	 */
+	@FunctionalInterface
+	private interface WarmUpStep {
+
+		void run() throws Exception;
+
+	}
+
+}
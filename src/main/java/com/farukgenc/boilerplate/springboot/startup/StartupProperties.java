@@ -0,0 +1,33 @@
+package com.farukgenc.boilerplate.springboot.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 애플리케이션 시작 설정 프로퍼티
+ * 
+ * <p>application.yml에서 시작 시간 예산(budget) 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "startup")
+public class StartupProperties {
+
+	/** 시작부터 요청 처리 준비(readiness)까지 허용하는 최대 시간 */
+	private Duration budget = Duration.ofSeconds(20);
+
+	/** 예산 초과 시 애플리케이션 기동을 실패 처리할지 여부 (CI 벤치마크용) */
+	private boolean failOnBudgetExceeded = false;
+
+	/** 시작 단계 중 소요 시간이 긴 상위 N개를 로그로 출력 */
+	private int slowestStepsToLog = 10;
+
+}
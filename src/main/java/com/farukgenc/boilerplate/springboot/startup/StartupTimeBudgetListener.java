@@ -0,0 +1,88 @@
+package com.farukgenc.boilerplate.springboot.startup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 시작 시간 예산 검사 리스너
+ * 
+ * <p>애플리케이션이 준비(ApplicationReadyEvent)되면 JVM 시작부터 준비 완료까지의 시간을
+ * 설정된 예산과 비교합니다. 예산을 초과하면 경고 로그를 남기고,
+ * {@code startup.fail-on-budget-exceeded}가 true이면 기동을 실패시켜 CI 벤치마크가 실패하도록 합니다.
+ * 
+ * <p>BufferingApplicationStartup이 등록되어 있으면 가장 오래 걸린 시작 단계들을 함께 출력하여
+ * 시작 시간이 어디에 쓰였는지(Hibernate, springdoc, Actuator, Security 등) 바로 확인할 수 있게 합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimeBudgetListener implements ApplicationListener<ApplicationReadyEvent> {
+
+	private final StartupProperties startupProperties;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+
+		// JVM 시작 시점부터 측정해야 클래스 로딩/CDS 효과까지 포함된 실제 콜드 스타트 시간이 됨
+		final Duration timeToReady = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+		final Duration budget = startupProperties.getBudget();
+
+		logSlowestSteps(event.getApplicationContext().getApplicationStartup());
+
+		if (timeToReady.compareTo(budget) <= 0) {
+			log.info("Application ready in {} ms (budget : {} ms)", timeToReady.toMillis(), budget.toMillis());
+			return;
+		}
+
+		log.warn("Application startup exceeded budget! ready in {} ms, budget : {} ms", timeToReady.toMillis(), budget.toMillis());
+
+		if (startupProperties.isFailOnBudgetExceeded()) {
+			throw new IllegalStateException("Startup time budget exceeded : " + timeToReady.toMillis() + " ms > " + budget.toMillis() + " ms");
+		}
+	}
+
+	/**
+	 * 가장 오래 걸린 시작 단계 출력
+	 * 
+	 * <p>버퍼를 비우지 않도록 getBufferedTimeline()을 사용하므로
+	 * /actuator/startup 엔드포인트에서도 동일한 정보를 다시 조회할 수 있습니다.
+	 * 
+	 * @param applicationStartup 등록된 ApplicationStartup
+	 */
+	private void logSlowestSteps(ApplicationStartup applicationStartup) {
+
+		if (!(applicationStartup instanceof BufferingApplicationStartup bufferingApplicationStartup)) {
+			return;
+		}
+
+		final List<StartupTimeline.TimelineEvent> slowestSteps = bufferingApplicationStartup.getBufferedTimeline()
+				.getEvents()
+				.stream()
+				.sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+				.limit(startupProperties.getSlowestStepsToLog())
+				.toList();
+
+		for (StartupTimeline.TimelineEvent step : slowestSteps) {
+
+			final StringBuilder tags = new StringBuilder();
+			step.getStartupStep().getTags().forEach(tag -> tags.append(tag.getKey()).append('=').append(tag.getValue()).append(' '));
+
+			log.info("Startup step : {} [{}] took {} ms", step.getStartupStep().getName(), tags.toString().trim(), step.getDuration().toMillis());
+		}
+	}
+
+}
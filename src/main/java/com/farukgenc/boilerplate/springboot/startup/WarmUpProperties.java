@@ -0,0 +1,45 @@
+package com.farukgenc.boilerplate.springboot.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 준비 전 워밍업(Warm-up) 설정 프로퍼티
+ * 
+ * <p>application.yml에서 readiness 전환 전에 실행하는 워밍업 관련 설정을 바인딩하는 클래스입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "startup.warm-up")
+public class WarmUpProperties {
+
+	/** 워밍업 사용 여부 */
+	private boolean enabled = true;
+
+	/** 워밍업 전체에 허용하는 최대 시간 (초과하면 남은 반복을 건너뛰고 준비 완료) */
+	private Duration timeLimit = Duration.ofSeconds(10);
+
+	/** 토큰 서명/검증, DTO 직렬화 반복 횟수 */
+	private int iterations = 500;
+
+	/** 리포지토리 쿼리 반복 횟수 */
+	private int queryIterations = 50;
+
+	/** 로컬 HTTP 요청 반복 횟수 (0이면 HTTP 워밍업 생략) */
+	private int httpIterations = 20;
+
+	/** 미리 채울 DB 연결 수 (HikariCP 최대 풀 크기와 같게 설정 권장) */
+	private int prefillConnections = 10;
+
+	/** 워밍업에 사용하는 가상 사용자명 (DB에 저장하지 않음) */
+	private String syntheticUsername = "__warmup__";
+
+}
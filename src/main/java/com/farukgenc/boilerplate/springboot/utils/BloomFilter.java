@@ -0,0 +1,139 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터
+ * 
+ * <p>원소가 "확실히 없음" 또는 "있을 수도 있음"을 판단하는 확률적 자료구조입니다.
+ * 거짓 음성(false negative)은 없으며, 거짓 양성(false positive) 확률은 생성 시 지정한 값 이하로 유지됩니다.
+ * (단, 예상 원소 수를 초과하여 추가하면 거짓 양성 확률이 증가합니다)
+ * 
+ * <p>비트 배열은 AtomicLongArray로 관리하여 락 없이 여러 스레드에서 동시에 추가/조회할 수 있습니다.
+ * 해시 함수 k개는 64비트 해시 두 개를 조합하는 방식(Kirsch-Mitzenmacher)으로 만듭니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class BloomFilter {
+
+	/** 비트 배열 (long 하나당 64비트) */
+	private final AtomicLongArray bits;
+
+	/** 전체 비트 수 */
+	private final long bitCount;
+
+	/** 해시 함수 개수 */
+	private final int hashFunctionCount;
+
+	/**
+	 * 블룸 필터 생성
+	 * 
+	 * @param expectedInsertions 예상 원소 수
+	 * @param falsePositiveProbability 목표 거짓 양성 확률 (0 초과 1 미만)
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions must be positive : " + expectedInsertions);
+		}
+
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1 : " + falsePositiveProbability);
+		}
+
+		// m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+		final long optimalBitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		final int arrayLength = (int) Math.min(Integer.MAX_VALUE, (optimalBitCount + Long.SIZE - 1) / Long.SIZE);
+
+		this.bits = new AtomicLongArray(arrayLength);
+		this.bitCount = (long) arrayLength * Long.SIZE;
+		this.hashFunctionCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * 원소 추가
+	 * 
+	 * @param value 추가할 문자열
+	 */
+	public void put(String value) {
+
+		final long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		final long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+
+		for (int i = 0; i < hashFunctionCount; i++) {
+
+			final long bitIndex = Math.floorMod(hash1 + i * hash2, bitCount);
+			setBit(bitIndex);
+		}
+	}
+
+	/**
+	 * 원소 포함 가능성 확인
+	 * 
+	 * @param value 확인할 문자열
+	 * @return false이면 확실히 없음, true이면 있을 수도 있음
+	 */
+	public boolean mightContain(String value) {
+
+		final long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		final long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+
+		for (int i = 0; i < hashFunctionCount; i++) {
+
+			final long bitIndex = Math.floorMod(hash1 + i * hash2, bitCount);
+
+			if (!isBitSet(bitIndex)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void setBit(long bitIndex) {
+
+		final int arrayIndex = (int) (bitIndex >>> 6);
+		final long mask = 1L << bitIndex;
+
+		long current;
+		do {
+			current = bits.get(arrayIndex);
+
+			if ((current & mask) != 0) {
+				return;
+			}
+		}
+		while (!bits.compareAndSet(arrayIndex, current, current | mask));
+	}
+
+	private boolean isBitSet(long bitIndex) {
+
+		return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+	}
+
+	/**
+	 * 시드 기반 64비트 문자열 해시 (문자 단위 곱셈 해시 + MurmurHash3 fmix64 마무리)
+	 * 
+	 * @param value 문자열
+	 * @param seed 시드
+	 * @return 64비트 해시 값
+	 */
+	private static long hash(String value, long seed) {
+
+		long hash = seed ^ value.length();
+
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+}
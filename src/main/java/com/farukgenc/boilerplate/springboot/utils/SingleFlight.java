@@ -0,0 +1,185 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 중복 호출 병합(Single-flight)
+ * 
+ * <p>같은 키로 동시에 들어온 호출 중 처음 호출한 스레드(leader)만 실제 작업을 실행하고,
+ * 실행 중에 들어온 같은 키의 호출은 그 결과를 함께 받습니다.
+ * 작업이 끝나면 키를 바로 제거하므로 결과를 캐시하지는 않습니다 (끝난 뒤 들어온 호출은 다시 실행).
+ * 
+ * <p>진행 중인 호출은 키별로 ConcurrentHashMap에 보관하므로 전역 락 없이 서로 다른 키는 서로 기다리지 않습니다.
+ * 기다리는 호출은 지정한 시간까지만 기다리고, 초과하면 WaitTimeoutException이 발생합니다 (실행 중인 작업은 취소하지 않음).
+ * 
+ * <p>leader의 작업이 예외로 끝나면 기다리던 호출은 그 예외를 받지 않고 각자 작업을 직접 실행합니다.
+ * 실패 원인이 leader에게만 해당할 수 있고 (예: leader 요청의 마감 시간 초과),
+ * 같은 예외 객체를 여러 스레드가 던지면 스택 트레이스/suppressed 예외가 서로 섞이기 때문입니다.
+ * 
+ * <p>결과 객체는 기다린 모든 호출이 함께 받으므로 호출한 쪽에서 변경하지 않는 값이어야 합니다.
+ * 
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class SingleFlight<K, V> {
+
+	/** leader 실패 신호 (대기 중인 호출은 이 예외를 받으면 직접 실행하므로 밖으로 던져지지 않음) */
+	private static final LeaderFailedException LEADER_FAILED = new LeaderFailedException();
+
+	/** 진행 중인 호출 (키별 결과) */
+	private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	/** 실제로 실행한 호출 수 */
+	private final LongAdder executedCount = new LongAdder();
+
+	/** 진행 중인 호출의 결과를 함께 받은 호출 수 */
+	private final LongAdder sharedCount = new LongAdder();
+
+	/** leader가 실패하여 직접 다시 실행한 호출 수 */
+	private final LongAdder retriedCount = new LongAdder();
+
+	/** 기다리다 시간이 초과된 호출 수 */
+	private final LongAdder timeoutCount = new LongAdder();
+
+	/**
+	 * 같은 키의 진행 중인 호출과 병합하여 실행
+	 * 
+	 * @param key 병합 기준 키
+	 * @param action 실행할 작업 (같은 키의 진행 중인 호출이 없거나 진행 중인 호출이 실패한 경우 현재 스레드에서 실행)
+	 * @param timeoutMillis 진행 중인 호출의 결과를 기다리는 최대 시간 (밀리초)
+	 * @return 작업 결과
+	 * @throws WaitTimeoutException 진행 중인 호출의 결과를 시간 안에 받지 못한 경우
+	 */
+	public V execute(K key, Supplier<V> action, long timeoutMillis) {
+
+		final CompletableFuture<V> flight = new CompletableFuture<>();
+		final CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+		if (existing != null) {
+			return awaitOrRetry(existing, action, timeoutMillis);
+		}
+
+		executedCount.increment();
+
+		try {
+			final V result = action.get();
+			flight.complete(result);
+			return result;
+		}
+		catch (RuntimeException | Error exception) {
+			// 기다리는 호출에는 실패 사실만 알리고 예외 객체는 넘기지 않음
+			flight.completeExceptionally(LEADER_FAILED);
+			throw exception;
+		}
+		finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * 실제로 실행한 호출 수
+	 * 
+	 * @return 누적 실행 수
+	 */
+	public long getExecutedCount() {
+
+		return executedCount.sum();
+	}
+
+	/**
+	 * 진행 중인 호출의 결과를 함께 받은 호출 수 (병합으로 생략된 실행 수)
+	 * 
+	 * @return 누적 병합 수
+	 */
+	public long getSharedCount() {
+
+		return sharedCount.sum();
+	}
+
+	/**
+	 * 진행 중인 호출이 실패하여 직접 다시 실행한 호출 수
+	 * 
+	 * @return 누적 재실행 수
+	 */
+	public long getRetriedCount() {
+
+		return retriedCount.sum();
+	}
+
+	/**
+	 * 기다리다 시간이 초과된 호출 수
+	 * 
+	 * @return 누적 시간 초과 수
+	 */
+	public long getTimeoutCount() {
+
+		return timeoutCount.sum();
+	}
+
+	/**
+	 * 진행 중인 호출 수
+	 * 
+	 * @return 현재 실행 중인 키의 수
+	 */
+	public int getInFlightCount() {
+
+		return inFlight.size();
+	}
+
+	private V awaitOrRetry(CompletableFuture<V> flight, Supplier<V> action, long timeoutMillis) {
+
+		try {
+			final V result = flight.get(Math.max(0, timeoutMillis), TimeUnit.MILLISECONDS);
+			sharedCount.increment();
+			return result;
+		}
+		catch (ExecutionException exception) {
+
+			// leader가 실패하면 현재 호출의 조건(마감 시간 등)으로 직접 실행 (다른 대기 호출과 다시 병합하지 않음)
+			retriedCount.increment();
+			return action.get();
+		}
+		catch (TimeoutException exception) {
+			timeoutCount.increment();
+			throw new WaitTimeoutException(timeoutMillis);
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new WaitTimeoutException(timeoutMillis);
+		}
+	}
+
+	/**
+	 * leader 실패 신호 (대기 중인 호출에 leader의 예외 객체를 넘기지 않기 위한 공용 표식, 스택 트레이스 없음)
+	 */
+	private static final class LeaderFailedException extends RuntimeException {
+
+		private LeaderFailedException() {
+
+			super("In-flight call failed", null, false, false);
+		}
+
+	}
+
+	/**
+	 * 진행 중인 호출의 결과를 기다리다 시간이 초과된 경우의 예외
+	 */
+	public static final class WaitTimeoutException extends RuntimeException {
+
+		private WaitTimeoutException(long timeoutMillis) {
+
+			super("Timed out after " + timeoutMillis + "ms waiting for an in-flight call");
+		}
+
+	}
+
+}
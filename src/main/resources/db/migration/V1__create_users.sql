@@ -0,0 +1,17 @@
+-- ========== USERS 테이블 ==========
+-- 기존 ddl-auto: create 스키마와 같은 구조
+-- 이미 Hibernate가 생성한 테이블이 있는 개발 DB에서도 실행되도록 IF NOT EXISTS 사용
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name      VARCHAR(255),
+    username  VARCHAR(255),
+    password  VARCHAR(255),
+    email     VARCHAR(255),
+    user_role VARCHAR(255),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+-- 이메일 중복 확인 (UserRepository.existsByEmail: lower(email) = lower(?)) 및 대소문자 구분 없는 고유성 보장
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email));
@@ -0,0 +1,25 @@
+-- ========== OUTBOX_EVENTS 테이블 ==========
+-- 트랜잭셔널 아웃박스: 사용자 저장과 같은 트랜잭션에서 이벤트를 기록하고 OutboxDispatcher가 비동기로 전달
+-- 전달에 성공한 행은 삭제하고, 최대 시도 횟수를 넘긴 행은 dead_at을 기록하여 조사용으로 남김
+-- 시각은 모두 UTC 기준
+
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type  VARCHAR(64)  NOT NULL,
+    aggregate_id    VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(128) NOT NULL,
+    payload         TEXT         NOT NULL,
+    created_at      TIMESTAMP    NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    lease_until     TIMESTAMP,
+    last_error      VARCHAR(1024),
+    dead_at         TIMESTAMP
+);
+
+-- 전달 대상 조회 (OutboxEventRepository.findDispatchable: 시도 시각이 된 미전달 이벤트를 ID 순서로)
+CREATE INDEX IF NOT EXISTS ix_outbox_events_pending ON outbox_events (next_attempt_at, id) WHERE dead_at IS NULL;
+
+-- 집계(사용자)별 순서 보장 (같은 집계의 앞선 미전달 이벤트 존재 여부 확인)
+CREATE INDEX IF NOT EXISTS ix_outbox_events_aggregate ON outbox_events (aggregate_type, aggregate_id, id) WHERE dead_at IS NULL;
@@ -0,0 +1,12 @@
+-- ========== USER_EMAIL_DIRECTORY 테이블 ==========
+-- 샤딩 사용 시 이메일 고유성을 샤드 전체에서 보장하기 위한 이메일 -> 샤드 디렉터리 (EmailDirectory)
+-- 모든 샤드에 생성되지만 0번 샤드의 테이블만 사용하며, 샤딩을 사용하지 않으면 비어 있음
+-- 시각은 UTC 기준
+
+CREATE TABLE IF NOT EXISTS user_email_directory
+(
+    email      VARCHAR(255) PRIMARY KEY, -- 소문자로 정규화한 이메일
+    username   VARCHAR(255) NOT NULL,
+    shard      INTEGER      NOT NULL,
+    created_at TIMESTAMP    NOT NULL
+);
@@ -0,0 +1,6 @@
+-- ========== USERS 이메일 인덱스 ==========
+-- Flyway 도입 전에 Hibernate(ddl-auto)가 만든 기존 DB는 baseline(버전 1)으로 시작하므로 V1이 실행되지 않음
+-- V1의 lower(email) 고유 인덱스를 이런 DB에도 만들기 위해 별도 마이그레이션으로 다시 생성 (V1을 실행한 DB에서는 아무 작업 없음)
+-- 주의: 대소문자만 다른 중복 이메일이 이미 있으면 실패하므로 먼저 정리해야 함
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email));
@@ -0,0 +1,71 @@
+package com.farukgenc.boilerplate.springboot.controller.auth;
+
+import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.monitoring.sql.SqlStatementMonitoringFilter;
+import com.farukgenc.boilerplate.springboot.service.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인 SQL 실행 수 테스트
+ * 
+ * <p>로그인은 인증 중 사용자 조회 한 번으로 토큰까지 발급해야 합니다 (SQL 1회).
+ * Hibernate StatementInspector(SqlStatementCountingInspector)가 센 요청별 SQL 실행 수를 X-DB-Statements 헤더로 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@SpringBootTest(properties = "monitoring.sql.expose-header=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginQueryCountTest {
+
+	private static final String USERNAME = "login-count-user";
+
+	private static final String PASSWORD = "password";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserService userService;
+
+	@BeforeEach
+	void registerUser() {
+
+		if (userService.findByUsername(USERNAME) != null) {
+			return;
+		}
+
+		final RegistrationRequest request = new RegistrationRequest();
+		request.setName("Login Count User");
+		request.setUsername(USERNAME);
+		request.setEmail(USERNAME + "@example.com");
+		request.setPassword(PASSWORD);
+
+		userService.registration(request);
+	}
+
+	@Test
+	void loginRunsSingleStatement() throws Exception {
+
+		mockMvc.perform(post("/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.token").isNotEmpty())
+				.andExpect(header().string(SqlStatementMonitoringFilter.DB_STATEMENTS_HEADER, "1"));
+	}
+
+}
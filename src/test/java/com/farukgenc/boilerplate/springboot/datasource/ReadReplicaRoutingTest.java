@@ -0,0 +1,123 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.service.UserDetailsServiceImpl;
+import com.farukgenc.boilerplate.springboot.service.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 읽기 전용 복제본 라우팅 테스트
+ * 
+ * <p>primary와 복제본을 서로 다른 H2 메모리 DB로 두고 (복제 없음) 어느 DB에서 읽고 쓰는지 확인합니다:
+ * 읽기 전용 트랜잭션은 복제본, 쓰기와 primary 고정(RoutingContext, ReadYourWritesTracker)은 primary.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+		"datasource.routing.enabled=true",
+		"datasource.routing.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL,
+		"datasource.routing.replicas[0].username=sa",
+		"datasource.routing.replicas[0].password=",
+		"datasource.routing.replicas[0].maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+	static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+			+ "DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/h2-schema.sql'";
+
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+			+ "DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/h2-schema.sql'";
+
+	private static final String INSERT_USER_SQL = "INSERT INTO users (name, username, password, email, user_role) VALUES (?, ?, 'password', ?, 'USER')";
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserDetailsServiceImpl userDetailsService;
+
+	@Test
+	void readOnlyTransactionsReadFromReplica() {
+
+		insertUser(replica(), "replica-only");
+		insertUser(primary(), "primary-only");
+
+		assertThat(userService.findByUsername("replica-only")).isNotNull();
+		assertThat(userService.findByUsername("primary-only")).isNull();
+	}
+
+	@Test
+	void pinnedReadsUsePrimary() {
+
+		insertUser(primary(), "pinned-user");
+
+		assertThat(RoutingContext.onPrimary(() -> userService.findByUsername("pinned-user"))).isNotNull();
+	}
+
+	@Test
+	void registrationWritesToPrimaryAndReadsItsOwnWrite() {
+
+		final RegistrationRequest request = new RegistrationRequest();
+		request.setName("Routing User");
+		request.setUsername("routing-fresh");
+		request.setEmail("routing-fresh@example.com");
+		request.setPassword("password");
+
+		userService.registration(request);
+
+		assertThat(countUsers(primary(), "routing-fresh")).isEqualTo(1);
+		assertThat(countUsers(replica(), "routing-fresh")).isZero();
+
+		// 이 인스턴스에서 방금 가입한 사용자는 복제되기 전에도 primary에서 조회
+		assertThat(userDetailsService.loadUserByUsername("routing-fresh").getUsername()).isEqualTo("routing-fresh");
+	}
+
+	@Test
+	void unpinnedLookupDoesNotSeeUnreplicatedUser() {
+
+		// 다른 인스턴스에서 가입하여 이 인스턴스의 추적기에 없는 사용자는 복제 전까지 보이지 않음
+		insertUser(primary(), "other-instance-user");
+
+		assertThatThrownBy(() -> userDetailsService.loadUserByUsername("other-instance-user")).isInstanceOf(UsernameNotFoundException.class);
+	}
+
+	private JdbcTemplate primary() {
+
+		return new JdbcTemplate(primaryDataSource);
+	}
+
+	private static JdbcTemplate replica() {
+
+		return new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+	}
+
+	private static void insertUser(JdbcTemplate jdbcTemplate, String username) {
+
+		jdbcTemplate.update(INSERT_USER_SQL, username, username, username + "@example.com");
+	}
+
+	private static int countUsers(JdbcTemplate jdbcTemplate, String username) {
+
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username = ?", Integer.class, username);
+	}
+
+}
@@ -0,0 +1,173 @@
+package com.farukgenc.boilerplate.springboot.datasource;
+
+import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.dto.user.UserPageResponse;
+import com.farukgenc.boilerplate.springboot.dto.user.UserSummaryResponse;
+import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
+import com.farukgenc.boilerplate.springboot.service.user.UserAdminService;
+import com.farukgenc.boilerplate.springboot.service.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자 샤딩 테스트
+ * 
+ * <p>0번/1번 샤드를 서로 다른 H2 메모리 DB로 두고 회원가입의 샤드 선택, 샤드 전체 이메일 고유성(이메일 디렉터리),
+ * 관리자 목록의 병합 키셋 커서를 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ShardingTest.SHARD_0_URL,
+		"datasource.sharding.enabled=true",
+		"datasource.sharding.shards[0].url=" + ShardingTest.SHARD_1_URL,
+		"datasource.sharding.shards[0].username=sa",
+		"datasource.sharding.shards[0].password=",
+		"datasource.sharding.shards[0].maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+class ShardingTest {
+
+	static final String SHARD_0_URL = "jdbc:h2:mem:shard-0;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+			+ "DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/h2-schema.sql'";
+
+	static final String SHARD_1_URL = "jdbc:h2:mem:shard-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+			+ "DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/h2-schema.sql'";
+
+	private static final String INSERT_USER_SQL = "INSERT INTO users (name, username, password, email, user_role) VALUES (?, ?, 'password', ?, 'USER')";
+
+	@Autowired
+	private ShardRouter shardRouter;
+
+	@Autowired
+	private EmailDirectory emailDirectory;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserAdminService userAdminService;
+
+	@Test
+	void registrationStoresUserOnItsShard() {
+
+		final String shard0User = usernameOnShard("register-", 0);
+		final String shard1User = usernameOnShard("register-", 1);
+
+		register(shard0User, shard0User + "@example.com");
+		register(shard1User, shard1User + "@example.com");
+
+		assertThat(countUsers(shard(0), shard0User)).isEqualTo(1);
+		assertThat(countUsers(shard(1), shard0User)).isZero();
+		assertThat(countUsers(shard(1), shard1User)).isEqualTo(1);
+		assertThat(countUsers(shard(0), shard1User)).isZero();
+
+		// 이메일 디렉터리는 0번 샤드에만 기록되고 사용자의 샤드 번호를 담음
+		assertThat(directoryShardOf(shard0User + "@example.com")).isZero();
+		assertThat(directoryShardOf(shard1User + "@example.com")).isEqualTo(1);
+		assertThat(shard(1).queryForObject("SELECT COUNT(*) FROM user_email_directory", Integer.class)).isZero();
+
+		assertThat(userService.findByUsername(shard0User)).isNotNull();
+		assertThat(userService.findByUsername(shard1User)).isNotNull();
+	}
+
+	@Test
+	void emailIsUniqueAcrossShards() {
+
+		final String shard0User = usernameOnShard("email-", 0);
+		final String shard1User = usernameOnShard("email-", 1);
+
+		register(shard0User, "shared@example.com");
+
+		// 다른 샤드에 저장될 사용자도 같은 이메일(대소문자 무시)로는 가입할 수 없음
+		assertThatThrownBy(() -> register(shard1User, "Shared@Example.com")).isInstanceOf(RegistrationException.class);
+		assertThat(countUsers(shard(1), shard1User)).isZero();
+
+		// 중복 확인과 저장 사이에 끼어든 경우에도 디렉터리 선점이 충돌로 실패
+		assertThat(emailDirectory.reserve("SHARED@example.com", shard1User, 1)).isFalse();
+		assertThat(directoryShardOf("shared@example.com")).isZero();
+
+		// 선점 취소는 선점한 사용자의 것만 지움
+		emailDirectory.release("shared@example.com", shard1User);
+		assertThat(emailDirectory.exists("shared@example.com")).isTrue();
+	}
+
+	@Test
+	void mergedCursorPagesThroughAllShards() {
+
+		IntStream.rangeClosed(1, 7).forEach(i -> insertUser(shard(0), "cursor-0-" + i));
+		IntStream.rangeClosed(1, 5).forEach(i -> insertUser(shard(1), "cursor-1-" + i));
+
+		final List<UserSummaryResponse> users = new ArrayList<>();
+		Long cursor = null;
+
+		do {
+			final UserPageResponse page = userAdminService.getUsers(cursor, 3);
+			users.addAll(page.getUsers());
+			cursor = page.getNextCursor();
+		}
+		while (cursor != null);
+
+		final int totalUsers = shard(0).queryForObject("SELECT COUNT(*) FROM users", Integer.class)
+				+ shard(1).queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+
+		// 샤드마다 ID가 따로 증가하므로 같은 ID의 사용자가 있어도 빠지거나 중복되지 않아야 함
+		assertThat(users).hasSize(totalUsers);
+		assertThat(users).extracting(UserSummaryResponse::getUsername).doesNotHaveDuplicates()
+				.contains("cursor-0-1", "cursor-0-7", "cursor-1-1", "cursor-1-5");
+		assertThat(users).extracting(UserSummaryResponse::getId).isSorted();
+	}
+
+	private String usernameOnShard(String prefix, int shard) {
+
+		return IntStream.iterate(0, i -> i + 1)
+				.mapToObj(i -> prefix + i)
+				.filter(username -> shardRouter.shardOf(username) == shard)
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private void register(String username, String email) {
+
+		final RegistrationRequest request = new RegistrationRequest();
+		request.setName("Sharding User");
+		request.setUsername(username);
+		request.setEmail(email);
+		request.setPassword("password");
+
+		userService.registration(request);
+	}
+
+	private static JdbcTemplate shard(int shard) {
+
+		return new JdbcTemplate(new DriverManagerDataSource(shard == 0 ? SHARD_0_URL : SHARD_1_URL, "sa", ""));
+	}
+
+	private static void insertUser(JdbcTemplate jdbcTemplate, String username) {
+
+		jdbcTemplate.update(INSERT_USER_SQL, username, username, username + "@example.com");
+	}
+
+	private static int countUsers(JdbcTemplate jdbcTemplate, String username) {
+
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username = ?", Integer.class, username);
+	}
+
+	private static int directoryShardOf(String email) {
+
+		return shard(0).queryForObject("SELECT shard FROM user_email_directory WHERE email = ?", Integer.class, email);
+	}
+
+}
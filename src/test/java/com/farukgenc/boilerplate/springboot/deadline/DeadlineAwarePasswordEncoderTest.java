@@ -0,0 +1,81 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마감 시간 반영 비밀번호 인코더 테스트
+ * 
+ * <p>해시 대기열이 가득 찬 경우 마감 시간이 충분히 남아 있으면 마감 시간 초과가 아닌 과부하(HashingOverloadedException)로 실패하는지 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class DeadlineAwarePasswordEncoderTest {
+
+	private static final int CALLERS = 8;
+
+	/** 해시 스레드 1개, 대기열 1개 (동시에 2개까지만 받음) */
+	private final DeadlineAwarePasswordEncoder encoder = new DeadlineAwarePasswordEncoder(1, 1);
+
+	private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+	@AfterEach
+	void shutdown() {
+
+		callers.shutdownNow();
+		encoder.destroy();
+	}
+
+	@Test
+	void fullQueueIsReportedAsOverload() throws Exception {
+
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Future<Class<?>>> outcomes = new ArrayList<>();
+
+		for (int i = 0; i < CALLERS; i++) {
+			outcomes.add(callers.submit(() -> {
+				RequestDeadline.start(30_000);
+				try {
+					start.await();
+					encoder.encode("password");
+					return null;
+				}
+				catch (RuntimeException exception) {
+					return exception.getClass();
+				}
+				finally {
+					RequestDeadline.clear();
+				}
+			}));
+		}
+
+		start.countDown();
+
+		final List<Class<?>> failures = new ArrayList<>();
+		for (Future<Class<?>> outcome : outcomes) {
+			final Class<?> failure = outcome.get();
+			if (failure != null) {
+				failures.add(failure);
+			}
+		}
+
+		assertThat(failures).isNotEmpty().containsOnly(HashingOverloadedException.class);
+	}
+
+	@Test
+	void hashesOnCallerThreadOutsideRequest() {
+
+		assertThat(encoder.matches("password", encoder.encode("password"))).isTrue();
+	}
+
+}
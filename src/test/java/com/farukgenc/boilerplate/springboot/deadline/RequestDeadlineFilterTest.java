@@ -0,0 +1,83 @@
+package com.farukgenc.boilerplate.springboot.deadline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 마감 시간 필터 테스트
+ * 
+ * <p>해시 대기열 포화는 503과 Retry-After로, 마감 시간 초과는 504로 변환하여 서로 다른 지표로 집계하는지,
+ * 제외한 경로(스트리밍 내보내기)에는 마감 시간을 설정하지 않는지 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class RequestDeadlineFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final RequestDeadlineFilter filter = new RequestDeadlineFilter(properties(), new DeadlineMissRecorder(meterRegistry));
+
+	@Test
+	void overloadBecomesServiceUnavailable() throws Exception {
+
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/login"), response, (request, ignored) -> {
+			throw new HashingOverloadedException(new RejectedExecutionException());
+		});
+
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo(HashingOverloadedException.RETRY_AFTER_SECONDS);
+		assertThat(meterRegistry.counter("request.overloaded", "stage", HashingOverloadedException.STAGE).count()).isEqualTo(1);
+		assertThat(meterRegistry.find("request.deadline.exceeded").counter()).isNull();
+	}
+
+	@Test
+	void deadlineMissBecomesGatewayTimeout() throws Exception {
+
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/login"), response, (request, ignored) -> {
+			throw new DeadlineExceededException(DeadlineExceededException.STAGE_HASHING);
+		});
+
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+		assertThat(meterRegistry.counter("request.deadline.exceeded", "stage", DeadlineExceededException.STAGE_HASHING).count()).isEqualTo(1);
+		assertThat(meterRegistry.find("request.overloaded").counter()).isNull();
+	}
+
+	@Test
+	void excludedRouteHasNoDeadline() throws Exception {
+
+		final AtomicBoolean exportDeadline = new AtomicBoolean(true);
+		final AtomicBoolean usersDeadline = new AtomicBoolean(false);
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/admin/users/export"), new MockHttpServletResponse(),
+				(request, response) -> exportDeadline.set(RequestDeadline.isPresent()));
+		filter.doFilter(new MockHttpServletRequest("GET", "/admin/users"), new MockHttpServletResponse(),
+				(request, response) -> usersDeadline.set(RequestDeadline.isPresent()));
+
+		assertThat(exportDeadline).isFalse();
+		assertThat(usersDeadline).isTrue();
+	}
+
+	private static DeadlineProperties properties() {
+
+		final DeadlineProperties properties = new DeadlineProperties();
+		properties.setExcludedRoutes(Set.of("GET /admin/users/export"));
+
+		return properties;
+	}
+
+}
@@ -0,0 +1,173 @@
+package com.farukgenc.boilerplate.springboot.idempotency;
+
+import com.farukgenc.boilerplate.springboot.service.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 멱등성 키 필터 테스트
+ * 
+ * <p>/register 요청으로 재시도 응답 재전송, 다른 본문의 키 재사용(422), 5xx 응답 미보관,
+ * 대기 한도 초과(409, Retry-After), 큰 본문의 필터 우회를 하나씩 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+	private static final String KEY_HEADER = "Idempotency-Key";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private IdempotencyStore idempotencyStore;
+
+	@Autowired
+	private IdempotencyProperties idempotencyProperties;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void retryReplaysStoredResponse() throws Exception {
+
+		final String key = UUID.randomUUID().toString();
+		final String body = registrationBody("idempotent-replay");
+
+		final MvcResult first = mockMvc.perform(register(key, body))
+				.andExpect(status().isCreated())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+				.andReturn();
+
+		// 다시 처리했다면 이미 있는 사용자명으로 실패했을 것
+		mockMvc.perform(register(key, body))
+				.andExpect(status().isCreated())
+				.andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+				.andExpect(result -> assertThat(result.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString()));
+
+		assertThat(userService.findByUsername("idempotent-replay")).isNotNull();
+	}
+
+	@Test
+	void sameKeyWithDifferentBodyIsRejected() throws Exception {
+
+		final String key = UUID.randomUUID().toString();
+
+		mockMvc.perform(register(key, registrationBody("idempotent-first"))).andExpect(status().isCreated());
+
+		mockMvc.perform(register(key, registrationBody("idempotent-second")))
+				.andExpect(status().isUnprocessableEntity());
+
+		assertThat(userService.findByUsername("idempotent-second")).isNull();
+	}
+
+	@Test
+	void serverErrorIsNotStored() throws Exception {
+
+		final String key = UUID.randomUUID().toString();
+		final String body = registrationBody("idempotent-timeout");
+
+		// 1ms 마감 시간은 비밀번호 해시를 끝낼 수 없으므로 504
+		mockMvc.perform(register(key, body).header("X-Request-Timeout-Ms", "1"))
+				.andExpect(status().isGatewayTimeout());
+
+		// 504는 보관하지 않으므로 같은 키의 재시도는 다시 처리됨
+		mockMvc.perform(register(key, body))
+				.andExpect(status().isCreated())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+	}
+
+	@Test
+	void waiterLimitRejectsWithRetryAfter() throws Exception {
+
+		final String key = UUID.randomUUID().toString();
+		final String body = registrationBody("idempotent-waiter");
+
+		// 같은 키의 요청이 처리 중이고 기다릴 자리가 모두 찬 상태를 만듦
+		final IdempotencyStore.Claim inProgress = idempotencyStore.claim("/register " + key, fingerprint("/register", body));
+		assertThat(inProgress.owner()).isTrue();
+
+		for (int i = 0; i < idempotencyProperties.getMaxWaitersPerKey(); i++) {
+			assertThat(idempotencyStore.acquireWaiter(inProgress.entry())).isTrue();
+		}
+
+		try {
+			mockMvc.perform(register(key, body))
+					.andExpect(status().isConflict())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+		}
+		finally {
+			for (int i = 0; i < idempotencyProperties.getMaxWaitersPerKey(); i++) {
+				idempotencyStore.releaseWaiter(inProgress.entry());
+			}
+			idempotencyStore.abandon("/register " + key, inProgress.entry());
+		}
+
+		assertThat(userService.findByUsername("idempotent-waiter")).isNull();
+	}
+
+	@Test
+	void oversizedBodyBypassesFilter() throws Exception {
+
+		final double bypassedBefore = meterRegistry.counter("idempotency.requests", "result", "bypassed").count();
+		final String key = UUID.randomUUID().toString();
+		final String padding = "x".repeat(idempotencyProperties.getMaxBodySize());
+		final String body = registrationBody("idempotent-large").replace("}", ",\"padding\":\"" + padding + "\"}");
+
+		mockMvc.perform(register(key, body))
+				.andExpect(status().isCreated())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+		// 보관하지 않았으므로 재시도는 다시 처리되어 이미 있는 사용자명으로 실패
+		mockMvc.perform(register(key, body))
+				.andExpect(status().isBadRequest())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+		assertThat(meterRegistry.counter("idempotency.requests", "result", "bypassed").count()).isEqualTo(bypassedBefore + 2);
+	}
+
+	private static MockHttpServletRequestBuilder register(String key, String body) {
+
+		return post("/register").header(KEY_HEADER, key).contentType(MediaType.APPLICATION_JSON).content(body);
+	}
+
+	private static String registrationBody(String username) {
+
+		return "{\"name\":\"Idempotent User\",\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"password\"}";
+	}
+
+	/** IdempotencyFilter와 같은 요청 지문 (메서드, 경로, 본문의 SHA-256) */
+	private static byte[] fingerprint(String path, String body) throws Exception {
+
+		final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+		messageDigest.update(("POST " + path + "\n").getBytes(StandardCharsets.UTF_8));
+
+		return messageDigest.digest(body.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,136 @@
+package com.farukgenc.boilerplate.springboot.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vegas 방식 동시 처리 한도 테스트
+ * 
+ * <p>실제 시간을 재지 않고 응답 시간 표본을 직접 넣어 한도 계산을 확인합니다.
+ * 한도만큼 슬롯을 채운 상태에서 표본을 넣으므로 항상 "부하가 있는" 상태로 반영됩니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class VegasLimitTest {
+
+	private static final long NO_LOAD_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+	@Test
+	void growsWhileQueueingIsLow() {
+
+		final VegasLimit limit = new VegasLimit(partition(20, 1, 200));
+
+		// 응답 시간이 무부하 응답 시간과 같으면 추정 대기열은 0
+		feed(limit, 50, NO_LOAD_RTT);
+
+		assertThat(limit.getLimit()).isGreaterThan(20);
+	}
+
+	@Test
+	void shrinksWhenQueueingIsHigh() {
+
+		final VegasLimit limit = new VegasLimit(partition(20, 1, 200));
+		feed(limit, 1, NO_LOAD_RTT);
+
+		// 응답 시간이 5배면 추정 대기열은 한도의 80% (beta = 6·log10(limit) 이상)
+		feed(limit, 50, 5 * NO_LOAD_RTT);
+
+		assertThat(limit.getLimit()).isLessThan(20);
+	}
+
+	@Test
+	void holdsBetweenAlphaAndBeta() {
+
+		final VegasLimit limit = new VegasLimit(partition(100, 1, 200));
+		feed(limit, 1, NO_LOAD_RTT);
+
+		// 한도 100: alpha 6, beta 12 - 응답 시간 10% 증가는 추정 대기열 10 (그대로 유지)
+		feed(limit, 20, NO_LOAD_RTT * 11 / 10);
+
+		assertThat(limit.getLimit()).isEqualTo(100);
+	}
+
+	@Test
+	void shrinksOnDrop() {
+
+		final VegasLimit limit = new VegasLimit(partition(20, 1, 200));
+
+		for (int i = 0; i < 10; i++) {
+			fill(limit);
+			limit.release(NO_LOAD_RTT, true);
+		}
+
+		assertThat(limit.getLimit()).isLessThan(20);
+	}
+
+	@Test
+	void ignoresSamplesWhenMostlyIdle() {
+
+		final VegasLimit limit = new VegasLimit(partition(20, 1, 200));
+
+		// 동시 처리 수가 한도의 절반 미만이면 응답이 빨라도 한도를 늘리지 않음
+		for (int i = 0; i < 50; i++) {
+			assertThat(limit.tryAcquire()).isTrue();
+			limit.release(NO_LOAD_RTT, false);
+		}
+
+		assertThat(limit.getLimit()).isEqualTo(20);
+	}
+
+	@Test
+	void staysWithinBounds() {
+
+		final VegasLimit growing = new VegasLimit(partition(20, 1, 25));
+		feed(growing, 500, NO_LOAD_RTT);
+		assertThat(growing.getLimit()).isEqualTo(25);
+
+		final VegasLimit shrinking = new VegasLimit(partition(20, 15, 200));
+		feed(shrinking, 1, NO_LOAD_RTT);
+		feed(shrinking, 500, 5 * NO_LOAD_RTT);
+		assertThat(shrinking.getLimit()).isEqualTo(15);
+	}
+
+	@Test
+	void rejectsAboveLimit() {
+
+		final VegasLimit limit = new VegasLimit(partition(3, 1, 200));
+
+		fill(limit);
+
+		assertThat(limit.getInFlight()).isEqualTo(3);
+		assertThat(limit.tryAcquire()).isFalse();
+	}
+
+	/**
+	 * 한도만큼 슬롯을 채운 상태에서 표본을 하나씩 반영
+	 */
+	private static void feed(VegasLimit limit, int samples, long rttNanos) {
+
+		for (int i = 0; i < samples; i++) {
+			fill(limit);
+			limit.release(rttNanos, false);
+		}
+	}
+
+	private static void fill(VegasLimit limit) {
+
+		while (limit.tryAcquire()) {
+			// 한도까지 슬롯 획득
+		}
+	}
+
+	private static ConcurrencyLimitProperties.Partition partition(int initialLimit, int minLimit, int maxLimit) {
+
+		final ConcurrencyLimitProperties.Partition partition = new ConcurrencyLimitProperties.Partition();
+		partition.setInitialLimit(initialLimit);
+		partition.setMinLimit(minLimit);
+		partition.setMaxLimit(maxLimit);
+
+		return partition;
+	}
+
+}
@@ -0,0 +1,193 @@
+package com.farukgenc.boilerplate.springboot.outbox;
+
+import com.farukgenc.boilerplate.springboot.dto.auth.request.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.service.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 전달 테스트
+ * 
+ * <p>이벤트 기록부터 디스패처의 전달, 실패한 전달의 재시도, 집계별 순서 보장까지 H2 메모리 DB로 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@SpringBootTest(properties = "spring.datasource.url=" + OutboxDispatcherTest.DATABASE_URL)
+@ActiveProfiles("test")
+class OutboxDispatcherTest {
+
+	/** 전용 DB (캐시된 다른 테스트 컨텍스트의 디스패처가 같은 OUTBOX_EVENTS를 가져가지 않도록) */
+	static final String DATABASE_URL = "jdbc:h2:mem:outbox;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+			+ "DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/h2-schema.sql'";
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	@Autowired
+	private FlakyOutboxEventSink sink;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private OutboxPublisher outboxPublisher;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void clearSink() {
+
+		sink.clear();
+	}
+
+	@Test
+	void registrationDeliversUserRegisteredEvent() {
+
+		final RegistrationRequest request = new RegistrationRequest();
+		request.setName("Outbox User");
+		request.setUsername("outbox-user");
+		request.setEmail("outbox-user@example.com");
+		request.setPassword("password");
+
+		userService.registration(request);
+
+		final Long userId = userService.findByUsername("outbox-user").getId();
+
+		awaitUntil(() -> !messagesOf(String.valueOf(userId)).isEmpty());
+
+		final OutboxMessage message = messagesOf(String.valueOf(userId)).get(0);
+		assertThat(message.aggregateType()).isEqualTo(UserRegisteredEvent.AGGREGATE_TYPE);
+		assertThat(message.eventType()).isEqualTo(UserRegisteredEvent.EVENT_TYPE);
+		assertThat(message.payload()).contains("\"username\":\"outbox-user\"").doesNotContain("password");
+	}
+
+	@Test
+	void retriesFailedDelivery() {
+
+		final double retriedBefore = meterRegistry.counter("outbox.dispatched", "result", "retry").count();
+		sink.failOnce("test.retried");
+
+		transactionTemplate.executeWithoutResult(status -> outboxPublisher.append("test", "retry-1", "test.retried", Map.of("value", 1)));
+
+		awaitUntil(() -> !messagesOf("retry-1").isEmpty());
+
+		assertThat(sink.getFailureCount()).isEqualTo(1);
+		assertThat(messagesOf("retry-1")).extracting(OutboxMessage::eventType).containsExactly("test.retried");
+		assertThat(meterRegistry.counter("outbox.dispatched", "result", "retry").count()).isEqualTo(retriedBefore + 1);
+	}
+
+	@Test
+	void keepsOrderPerAggregate() {
+
+		// 첫 이벤트가 한 번 실패해도 뒤 이벤트가 먼저 전달되지 않아야 함
+		sink.failOnce("test.first");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			outboxPublisher.append("test", "order-1", "test.first", Map.of("value", 1));
+			outboxPublisher.append("test", "order-1", "test.second", Map.of("value", 2));
+			outboxPublisher.append("test", "order-1", "test.third", Map.of("value", 3));
+		});
+
+		awaitUntil(() -> messagesOf("order-1").size() == 3);
+
+		assertThat(messagesOf("order-1")).extracting(OutboxMessage::eventType).containsExactly("test.first", "test.second", "test.third");
+	}
+
+	private List<OutboxMessage> messagesOf(String aggregateId) {
+
+		return sink.getMessages().stream().filter(message -> message.aggregateId().equals(aggregateId)).toList();
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+
+		final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+		while (!condition.getAsBoolean()) {
+
+			assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(exception);
+			}
+		}
+	}
+
+	@TestConfiguration
+	static class FlakySinkConfiguration {
+
+		@Bean
+		@Primary
+		FlakyOutboxEventSink flakyOutboxEventSink() {
+
+			return new FlakyOutboxEventSink();
+		}
+
+	}
+
+	/**
+	 * 지정한 종류의 이벤트를 한 번 실패시킨 뒤 메모리에 보관하는 전달 대상
+	 */
+	static class FlakyOutboxEventSink extends InMemoryOutboxEventSink {
+
+		private final Set<String> failOnce = ConcurrentHashMap.newKeySet();
+
+		private final AtomicInteger failureCount = new AtomicInteger();
+
+		void failOnce(String eventType) {
+
+			failOnce.add(eventType);
+		}
+
+		int getFailureCount() {
+
+			return failureCount.get();
+		}
+
+		@Override
+		public void send(OutboxMessage message) {
+
+			if (failOnce.remove(message.eventType())) {
+				failureCount.incrementAndGet();
+				throw new IllegalStateException("Simulated delivery failure");
+			}
+
+			super.send(message);
+		}
+
+		@Override
+		public void clear() {
+
+			super.clear();
+			failOnce.clear();
+			failureCount.set(0);
+		}
+
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.farukgenc.boilerplate.springboot.repository.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 조회 확장성 테스트 (PostgreSQL 필요)
+ * 
+ * <p>USERS 테이블이 커져도 이메일 중복 확인(existsByEmail, lower(email) 고유 인덱스)과
+ * 사용자명 조회(findByUsername, 사용자명 유일 제약 조건 인덱스)의 지연 시간이 거의 그대로인지 확인합니다.
+ * 인덱스를 쓰지 못하면 전체 테이블을 읽으므로 행 수에 비례하여 느려집니다.
+ * 
+ * <p>함수 인덱스와 실행 계획은 H2에서 확인할 수 없으므로 Flyway로 마이그레이션한 실제 PostgreSQL에서만 실행합니다
+ * (POSTGRES_DB_SERVER_ADDRESS 환경 변수가 있을 때, 예: docker compose up db 후
+ * POSTGRES_DB_SERVER_ADDRESS=localhost gradle test --tests '*UserLookupScalingTest').
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@SpringBootTest(properties = {
+		"startup.warm-up.enabled=false",
+		"outbox.sink.type=MEMORY",
+		"spring.devtools.restart.enabled=false"
+})
+@EnabledIfEnvironmentVariable(named = "POSTGRES_DB_SERVER_ADDRESS", matches = ".+")
+class UserLookupScalingTest {
+
+	/** 테스트 사용자명/이메일 접두사 (테스트 후 삭제) */
+	private static final String PREFIX = "scaling-test-";
+
+	private static final int SMALL_TABLE_ROWS = 1_000;
+
+	private static final int LARGE_TABLE_ROWS = 200_000;
+
+	private static final int WARM_UP_CALLS = 200;
+
+	private static final int MEASURED_CALLS = 500;
+
+	/** 큰 테이블의 중앙값 지연이 작은 테이블의 이 배수를 넘으면 실패 */
+	private static final double MAX_SLOWDOWN = 3.0;
+
+	/** 측정 오차 허용치 (나노초, 매우 빠른 조회의 배수 비교가 흔들리지 않도록) */
+	private static final long NOISE_NANOS = 200_000;
+
+	private static final String INSERT_SQL = """
+			INSERT INTO users (name, username, password, email, user_role)
+			SELECT 'Scaling Test', ? || g, 'password', ? || g || '@example.com', 'USER'
+			FROM generate_series(?, ?) AS g
+			""";
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void deleteTestUsers() {
+
+		jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", PREFIX + "%");
+	}
+
+	@Test
+	void lookupsUseIndexes() {
+
+		insertUsers(1, SMALL_TABLE_ROWS);
+
+		assertThat(plan("SELECT COUNT(*) > 0 FROM users WHERE lower(email) = lower('" + PREFIX + "1@example.com')"))
+				.contains("ux_users_email_lower").doesNotContain("Seq Scan");
+		assertThat(plan("SELECT * FROM users WHERE username = '" + PREFIX + "1'"))
+				.contains("Index").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void lookupLatencyStaysFlatAsTableGrows() {
+
+		insertUsers(1, SMALL_TABLE_ROWS);
+		final long smallExists = medianNanos(i -> userRepository.existsByEmail(PREFIX.toUpperCase(Locale.ROOT) + (i % SMALL_TABLE_ROWS + 1) + "@EXAMPLE.COM"));
+		final long smallFind = medianNanos(i -> userRepository.findByUsername(PREFIX + (i % SMALL_TABLE_ROWS + 1)));
+
+		insertUsers(SMALL_TABLE_ROWS + 1, LARGE_TABLE_ROWS);
+		final long largeExists = medianNanos(i -> userRepository.existsByEmail(PREFIX.toUpperCase(Locale.ROOT) + (i * 397 % LARGE_TABLE_ROWS + 1) + "@EXAMPLE.COM"));
+		final long largeFind = medianNanos(i -> userRepository.findByUsername(PREFIX + (i * 397 % LARGE_TABLE_ROWS + 1)));
+
+		assertThat(largeExists).as("existsByEmail median: %d rows %dns, %d rows %dns", SMALL_TABLE_ROWS, smallExists, LARGE_TABLE_ROWS, largeExists)
+				.isLessThanOrEqualTo((long) (smallExists * MAX_SLOWDOWN) + NOISE_NANOS);
+		assertThat(largeFind).as("findByUsername median: %d rows %dns, %d rows %dns", SMALL_TABLE_ROWS, smallFind, LARGE_TABLE_ROWS, largeFind)
+				.isLessThanOrEqualTo((long) (smallFind * MAX_SLOWDOWN) + NOISE_NANOS);
+	}
+
+	private void insertUsers(int from, int to) {
+
+		jdbcTemplate.update(INSERT_SQL, PREFIX, PREFIX, from, to);
+		jdbcTemplate.execute("ANALYZE users");
+	}
+
+	private String plan(String sql) {
+
+		final List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+
+		return String.join("\n", lines);
+	}
+
+	private static long medianNanos(IntConsumer lookup) {
+
+		for (int i = 0; i < WARM_UP_CALLS; i++) {
+			lookup.accept(i);
+		}
+
+		final long[] samples = new long[MEASURED_CALLS];
+
+		for (int i = 0; i < MEASURED_CALLS; i++) {
+			final long start = System.nanoTime();
+			lookup.accept(i);
+			samples[i] = System.nanoTime() - start;
+		}
+
+		Arrays.sort(samples);
+
+		return samples[MEASURED_CALLS / 2];
+	}
+
+}
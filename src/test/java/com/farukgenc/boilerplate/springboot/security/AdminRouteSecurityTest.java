@@ -0,0 +1,114 @@
+package com.farukgenc.boilerplate.springboot.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.startup.StartupEndpoint;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootContextLoader;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 경로 보안 테스트
+ * 
+ * <p>"/actuator/**" 아래의 ADMIN 경로가 퍼센트 인코딩된 경로("/actuator/%6Afr" 등)로도
+ * 공개 경로 permitAll을 통과하지 못하는지(인증 없이 401) 확인합니다.
+ * URI로 요청을 만들어 인코딩된 RequestURI를 그대로 전달합니다.
+ * 
+ * <p>시작 단계 기록 엔드포인트가 실제로 등록되도록 SpringBootBoilerplateApplication처럼 BufferingApplicationStartup으로 컨텍스트를 시작합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ContextConfiguration(loader = AdminRouteSecurityTest.BufferingStartupContextLoader.class)
+class AdminRouteSecurityTest {
+
+	/** 기록할 시작 단계 수 (SpringBootBoilerplateApplication과 동일) */
+	private static final int STARTUP_STEP_CAPACITY = 4096;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private StartupEndpoint startupEndpoint;
+
+	@Test
+	void jfrEndpointRequiresAuthentication() throws Exception {
+
+		mockMvc.perform(get("/actuator/jfr")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/actuator/jfr/")).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void encodedJfrPathRequiresAuthentication() throws Exception {
+
+		final URI jfr = URI.create("/actuator/%6Afr");
+
+		mockMvc.perform(get(jfr)).andExpect(status().isUnauthorized());
+		mockMvc.perform(post(jfr)).andExpect(status().isUnauthorized());
+		mockMvc.perform(delete(jfr)).andExpect(status().isUnauthorized());
+		mockMvc.perform(get(URI.create("/%61ctuator/jfr"))).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void encodedStartupPathCannotDrainBuffer() throws Exception {
+
+		final int bufferedSteps = bufferedStepCount();
+		assertThat(bufferedSteps).isPositive();
+
+		final URI startup = URI.create("/actuator/%73tartup");
+
+		mockMvc.perform(get(startup)).andExpect(status().isUnauthorized());
+		mockMvc.perform(post(startup)).andExpect(status().isUnauthorized());
+		mockMvc.perform(post("/actuator/startup")).andExpect(status().isUnauthorized());
+		mockMvc.perform(post(URI.create("/actuator/%73tartup/"))).andExpect(status().isUnauthorized());
+
+		// 인증 없는 POST가 기록 버퍼를 비우지 못해야 함
+		assertThat(bufferedStepCount()).isGreaterThanOrEqualTo(bufferedSteps);
+	}
+
+	@Test
+	void encodedAdminApiPathRequiresAuthentication() throws Exception {
+
+		mockMvc.perform(get(URI.create("/%61dmin/users"))).andExpect(status().isUnauthorized());
+	}
+
+	/** 버퍼를 비우지 않는 GET 동작(startupSnapshot)으로 기록된 시작 단계 수 조회 */
+	private int bufferedStepCount() {
+
+		return startupEndpoint.startupSnapshot().getTimeline().getEvents().size();
+	}
+
+	/**
+	 * BufferingApplicationStartup으로 컨텍스트를 시작하는 로더 (StartupEndpoint 등록 조건)
+	 */
+	static class BufferingStartupContextLoader extends SpringBootContextLoader {
+
+		@Override
+		protected SpringApplication getSpringApplication() {
+
+			final SpringApplication application = super.getSpringApplication();
+			application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+
+			return application;
+		}
+
+	}
+
+}
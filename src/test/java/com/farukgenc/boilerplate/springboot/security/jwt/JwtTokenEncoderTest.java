@@ -0,0 +1,130 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import com.farukgenc.boilerplate.token.KeySet;
+import com.farukgenc.boilerplate.token.TokenVerificationResult;
+import com.farukgenc.boilerplate.token.TokenVerifier;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 발급 인코더 테스트
+ * 
+ * <p>직접 작성한 클레임 JSON과 Base64URL 인코딩이 표준 JWT인지 java-jwt와 TokenVerifier 두 검증기로 확인합니다.
+ * JSON 이스케이프가 필요한 사용자명과 Base64 마지막 블록의 세 가지 경우(클레임 길이 % 3 = 0, 1, 2)를 포함합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class JwtTokenEncoderTest {
+
+	private static final String SECRET_KEY = "secret";
+
+	private static final String ISSUER = "www.farukgenc.com";
+
+	/** JSON 이스케이프가 필요하거나 UTF-8로 여러 바이트가 되는 사용자명 */
+	private static final List<String> ESCAPED_USERNAMES = List.of(
+			"quote\"user",
+			"back\\slash",
+			"tab\tnew\nline\rcarriage",
+			"control\u0001\u001f",
+			"사용자",
+			"emoji😀",
+			"slash/and</script>"
+	);
+
+	private final JwtTokenEncoder encoder = new JwtTokenEncoder(jwtProperties());
+
+	private final TokenVerifier tokenVerifier = TokenVerifier.builder()
+			.keySet(KeySet.of(SECRET_KEY))
+			.issuer(ISSUER)
+			.roles(Arrays.stream(UserRole.values()).map(UserRole::name).toList())
+			.cacheSize(0)
+			.build();
+
+	@Test
+	void tokensVerifyWithJavaJwt() {
+
+		for (UserRole userRole : UserRole.values()) {
+
+			final DecodedJWT decodedJwt = JWT.require(Algorithm.HMAC256(SECRET_KEY)).withIssuer(ISSUER).build()
+					.verify(encoder.encode("java-jwt-user", userRole));
+
+			assertThat(decodedJwt.getAlgorithm()).isEqualTo("HS256");
+			assertThat(decodedJwt.getSubject()).isEqualTo("java-jwt-user");
+			assertThat(decodedJwt.getClaim("role").asString()).isEqualTo(userRole.name());
+			assertThat(decodedJwt.getExpiresAt()).isAfter(decodedJwt.getIssuedAt());
+		}
+	}
+
+	@Test
+	void tokensVerifyWithTokenVerifier() {
+
+		final TokenVerificationResult result = tokenVerifier.verify(encoder.encode("verifier-user", UserRole.ADMIN));
+
+		assertThat(result.getStatus()).isEqualTo(TokenVerificationResult.Status.VALID);
+		assertThat(result.getToken().getUsername()).isEqualTo("verifier-user");
+		assertThat(result.getToken().getRole()).isEqualTo(UserRole.ADMIN.name());
+	}
+
+	@Test
+	void escapesUsernames() {
+
+		for (String username : ESCAPED_USERNAMES) {
+
+			final String token = encoder.encode(username, UserRole.USER);
+
+			assertThat(JWT.require(Algorithm.HMAC256(SECRET_KEY)).build().verify(token).getSubject()).as(username).isEqualTo(username);
+
+			final TokenVerificationResult result = tokenVerifier.verify(token);
+			assertThat(result.getStatus()).as(username).isEqualTo(TokenVerificationResult.Status.VALID);
+			assertThat(result.getToken().getUsername()).as(username).isEqualTo(username);
+		}
+	}
+
+	@Test
+	void coversEveryBase64Tail() {
+
+		final Set<Integer> claimsLengthRemainders = new HashSet<>();
+
+		// 사용자명 길이를 한 글자씩 늘려 클레임 길이의 3으로 나눈 나머지 0, 1, 2를 모두 만듦
+		for (String username : List.of("a", "ab", "abc", "abcd", "abcde", "abcdef")) {
+
+			final String token = encoder.encode(username, UserRole.USER);
+			final String claimsSegment = token.split("\\.")[1];
+			final byte[] claims = Base64.getUrlDecoder().decode(claimsSegment);
+
+			claimsLengthRemainders.add(claims.length % 3);
+
+			// JDK 인코더와 같은 결과여야 함
+			assertThat(claimsSegment).isEqualTo(Base64.getUrlEncoder().withoutPadding().encodeToString(claims));
+			assertThat(new String(claims, StandardCharsets.UTF_8)).startsWith("{\"sub\":\"" + username + "\"");
+			assertThat(JWT.require(Algorithm.HMAC256(SECRET_KEY)).build().verify(token).getSubject()).isEqualTo(username);
+			assertThat(tokenVerifier.verify(token).getStatus()).isEqualTo(TokenVerificationResult.Status.VALID);
+		}
+
+		assertThat(claimsLengthRemainders).containsExactlyInAnyOrder(0, 1, 2);
+	}
+
+	private static JwtProperties jwtProperties() {
+
+		final JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecretKey(SECRET_KEY);
+		jwtProperties.setIssuer(ISSUER);
+		jwtProperties.setExpirationMinute(60);
+
+		return jwtProperties;
+	}
+
+}
@@ -0,0 +1,181 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.datasource.DataSourceRoutingProperties;
+import com.farukgenc.boilerplate.springboot.datasource.ReadYourWritesTracker;
+import com.farukgenc.boilerplate.springboot.dto.user.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import com.farukgenc.boilerplate.springboot.service.user.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증 사용자 조회 병합 테스트
+ * 
+ * <p>같은 사용자명으로 동시에 들어온 인증 조회가 DB 조회 한 번으로 처리되는지,
+ * 조회가 실패하면 모든 호출이 실패를 받고 다음 호출은 다시 조회하는지 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class UserDetailsServiceImplTest {
+
+	private static final int CALLERS = 8;
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private final UserService userService = mock(UserService.class);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userService,
+			new ReadYourWritesTracker(new DataSourceRoutingProperties()), new UserLookupResilienceProperties(), meterRegistry);
+
+	/** 호출 스레드 (모두 결과를 기다리는 상태인지 확인용) */
+	private final List<Thread> callerThreads = new CopyOnWriteArrayList<>();
+
+	private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS, runnable -> {
+		final Thread thread = new Thread(runnable);
+		callerThreads.add(thread);
+		return thread;
+	});
+
+	@AfterEach
+	void shutdown() {
+
+		callers.shutdownNow();
+	}
+
+	@Test
+	void concurrentLookupsQueryOnce() throws Exception {
+
+		final AtomicInteger queries = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+
+		when(userService.findAuthenticatedUserByUsername(anyString())).thenAnswer(invocation -> {
+			queries.incrementAndGet();
+			assertThat(release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+			return authenticatedUser(invocation.getArgument(0));
+		});
+
+		final List<Future<UserDetails>> lookups = startLookups();
+
+		// 첫 조회(leader)가 끝나기 전에 나머지 호출이 모두 그 결과를 기다리는 상태가 된 뒤 조회를 끝냄
+		awaitUntil(() -> callerThreads.size() == CALLERS && callerThreads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING));
+		release.countDown();
+
+		for (Future<UserDetails> lookup : lookups) {
+			assertThat(lookup.get().getUsername()).isEqualTo("single-flight-user");
+		}
+
+		assertThat(queries).hasValue(1);
+		assertThat(singleFlight("executed")).isEqualTo(1);
+		assertThat(singleFlight("shared")).isEqualTo(CALLERS - 1);
+
+		// 끝난 조회는 캐시하지 않으므로 다음 호출은 다시 조회
+		userDetailsService.loadUserByUsername("single-flight-user");
+		assertThat(queries).hasValue(2);
+	}
+
+	@Test
+	void failedLookupFailsEveryCallerAndIsNotKept() throws Exception {
+
+		final AtomicInteger queries = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+			// 첫 조회(leader)는 나머지 호출이 기다리는 상태가 될 때까지 붙잡아 둔 뒤 실패
+			if (queries.incrementAndGet() == 1) {
+				assertThat(release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+			}
+			throw new IllegalStateException("database unavailable");
+		}).when(userService).findAuthenticatedUserByUsername(anyString());
+
+		final List<Future<UserDetails>> lookups = startLookups();
+
+		awaitUntil(() -> callerThreads.size() == CALLERS && callerThreads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING));
+		release.countDown();
+
+		for (Future<UserDetails> lookup : lookups) {
+			assertThatThrownBy(lookup::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+		}
+
+		// 기다리던 호출은 leader의 예외를 받지 않고 각자 다시 조회한 뒤 실패
+		assertThat(queries).hasValue(CALLERS);
+		assertThat(singleFlight("executed")).isEqualTo(1);
+		assertThat(singleFlight("retried")).isEqualTo(CALLERS - 1);
+
+		// 실패한 조회는 남지 않으므로 다음 호출은 새로 조회
+		doAnswer(invocation -> authenticatedUser(invocation.getArgument(0))).when(userService).findAuthenticatedUserByUsername(anyString());
+
+		assertThat(userDetailsService.loadUserByUsername("single-flight-user").getUsername()).isEqualTo("single-flight-user");
+		assertThat(singleFlight("executed")).isEqualTo(2);
+	}
+
+	private List<Future<UserDetails>> startLookups() {
+
+		final List<Future<UserDetails>> lookups = new ArrayList<>();
+
+		for (int i = 0; i < CALLERS; i++) {
+			lookups.add(callers.submit(() -> userDetailsService.loadUserByUsername("single-flight-user")));
+		}
+
+		return lookups;
+	}
+
+	private double singleFlight(String result) {
+
+		return meterRegistry.get("user.lookup.single.flight").tag("result", result).functionCounter().count();
+	}
+
+	private static AuthenticatedUserDto authenticatedUser(String username) {
+
+		final AuthenticatedUserDto authenticatedUser = new AuthenticatedUserDto();
+		authenticatedUser.setName("Single Flight User");
+		authenticatedUser.setUsername(username);
+		authenticatedUser.setPassword("encoded-password");
+		authenticatedUser.setUserRole(UserRole.USER);
+
+		return authenticatedUser;
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+
+		final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+		while (!condition.getAsBoolean()) {
+
+			assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+
+			try {
+				Thread.sleep(5);
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(exception);
+			}
+		}
+	}
+
+}
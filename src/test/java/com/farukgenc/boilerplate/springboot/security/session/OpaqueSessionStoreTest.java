@@ -0,0 +1,125 @@
+package com.farukgenc.boilerplate.springboot.security.session;
+
+import com.farukgenc.boilerplate.springboot.model.user.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 불투명 토큰 세션 저장소 테스트
+ * 
+ * <p>발급한 핸들로의 조회와 폐기, 유효 시간 만료(조회 시 제거, 주기 정리),
+ * 스트라이프 용량을 넘었을 때 가장 오래된 세션부터 제거되는지 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class OpaqueSessionStoreTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void findsAndRevokesSession() {
+
+		final OpaqueSessionStore store = store(Duration.ofMinutes(10), 1_000, 4);
+		final String handle = store.create("opaque-user", UserRole.ADMIN);
+
+		final OpaqueSession session = store.find(handle);
+		assertThat(session.getUsername()).isEqualTo("opaque-user");
+		assertThat(session.getUserRole()).isEqualTo(UserRole.ADMIN);
+
+		assertThat(store.revoke(handle)).isTrue();
+		assertThat(store.find(handle)).isNull();
+		assertThat(store.revoke(handle)).isFalse();
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	void rejectsUnknownHandles() {
+
+		final OpaqueSessionStore store = store(Duration.ofMinutes(10), 1_000, 4);
+		final String handle = store.create("opaque-user", UserRole.USER);
+
+		assertThat(store.find(null)).isNull();
+		assertThat(store.find(handle.substring(1))).isNull();
+		assertThat(store.find("Bearer " + handle)).isNull();
+		assertThat(store.revoke("Bearer " + handle)).isFalse();
+
+		// 길이가 같은 다른 핸들
+		final String other = (handle.charAt(0) == 'A' ? 'B' : 'A') + handle.substring(1);
+		assertThat(store.find(other)).isNull();
+		assertThat(store.revoke(other)).isFalse();
+		assertThat(store.find(handle)).isNotNull();
+	}
+
+	@Test
+	void expiresSessions() throws InterruptedException {
+
+		final OpaqueSessionStore store = store(Duration.ofMillis(100), 1_000, 4);
+		final String found = store.create("found-after-expiry", UserRole.USER);
+		store.create("evicted-after-expiry", UserRole.USER);
+
+		assertThat(store.find(found)).isNotNull();
+
+		Thread.sleep(200);
+
+		// 조회 시 만료된 세션은 제거
+		assertThat(store.find(found)).isNull();
+		assertThat(store.size()).isEqualTo(1);
+
+		// 나머지는 주기 정리에서 제거
+		store.evictExpired();
+		assertThat(store.size()).isZero();
+		assertThat(meterRegistry.counter("token.opaque.evicted", "reason", "expired").count()).isEqualTo(2);
+	}
+
+	@Test
+	void evictsOldestSessionWhenStripeIsFull() {
+
+		// 스트라이프 1개, 최대 3개
+		final OpaqueSessionStore store = store(Duration.ofMinutes(10), 3, 1);
+		final List<String> handles = new ArrayList<>();
+
+		for (int i = 0; i < 5; i++) {
+			handles.add(store.create("capacity-user-" + i, UserRole.USER));
+		}
+
+		assertThat(store.size()).isEqualTo(3);
+		assertThat(store.find(handles.get(0))).isNull();
+		assertThat(store.find(handles.get(1))).isNull();
+		assertThat(store.find(handles.get(2)).getUsername()).isEqualTo("capacity-user-2");
+		assertThat(store.find(handles.get(4)).getUsername()).isEqualTo("capacity-user-4");
+		assertThat(meterRegistry.counter("token.opaque.evicted", "reason", "capacity").count()).isEqualTo(2);
+	}
+
+	@Test
+	void boundsEachStripe() {
+
+		// 스트라이프 4개, 스트라이프당 최대 2개 - 어느 스트라이프에 들어가든 전체는 8개를 넘지 않음
+		final OpaqueSessionStore store = store(Duration.ofMinutes(10), 8, 4);
+
+		for (int i = 0; i < 100; i++) {
+			store.create("stripe-user-" + i, UserRole.USER);
+		}
+
+		assertThat(store.size()).isEqualTo(8);
+		assertThat(meterRegistry.counter("token.opaque.evicted", "reason", "capacity").count()).isEqualTo(92);
+	}
+
+	private OpaqueSessionStore store(Duration ttl, int maxSessions, int stripes) {
+
+		final OpaqueTokenProperties properties = new OpaqueTokenProperties();
+		properties.setEnabled(true);
+		properties.setTtl(ttl);
+		properties.setMaxSessions(maxSessions);
+		properties.setStripes(stripes);
+
+		return new OpaqueSessionStore(properties, meterRegistry);
+	}
+
+}
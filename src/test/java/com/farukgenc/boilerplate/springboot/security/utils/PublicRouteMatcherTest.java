@@ -0,0 +1,84 @@
+package com.farukgenc.boilerplate.springboot.security.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 경로 매처 테스트
+ * 
+ * <p>JwtAuthenticationFilter의 필터 건너뛰기와 SecurityConfiguration의 permitAll이 이 매처를 사용하므로,
+ * 인코딩된 경로, 끝의 "/", 컨텍스트 경로가 있어도 MVC가 디스패치하는 경로 기준으로 판단하는지 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class PublicRouteMatcherTest {
+
+	private final PublicRouteMatcher matcher = new PublicRouteMatcher();
+
+	@Test
+	void matchesPublicRoutes() {
+
+		assertThat(matcher.matches(request("", "/login"))).isTrue();
+		assertThat(matcher.matches(request("", "/actuator/health"))).isTrue();
+		assertThat(matcher.matches(request("", "/actuator"))).isTrue();
+		assertThat(matcher.matches(request("", "/swagger-ui/index.html"))).isTrue();
+
+		assertThat(matcher.matches(request("", "/users/me"))).isFalse();
+		assertThat(matcher.matches(request("", "/actuatorX"))).isFalse();
+	}
+
+	@Test
+	void excludesAdminRoutesUnderPublicPattern() {
+
+		assertThat(matcher.matches(request("", "/actuator/jfr"))).isFalse();
+		assertThat(matcher.matches(request("", "/actuator/jfr/recording"))).isFalse();
+		assertThat(matcher.matches(request("", "/actuator/startup"))).isFalse();
+	}
+
+	@Test
+	void decodesPercentEncodedPath() {
+
+		// StrictHttpFirewall은 인코딩된 일반 문자를 디코딩하지 않으므로 매처가 직접 디코딩해야 함
+		assertThat(matcher.matches(request("", "/actuator/%6Afr"))).isFalse();
+		assertThat(matcher.matches(request("", "/actuator/%73tartup"))).isFalse();
+		assertThat(matcher.matches(request("", "/%61ctuator/jfr"))).isFalse();
+		assertThat(matcher.matches(request("", "/%61dmin/users"))).isFalse();
+
+		assertThat(matcher.matches(request("", "/%6Cogin"))).isTrue();
+		assertThat(matcher.matches(request("", "/actuator/%68ealth"))).isTrue();
+	}
+
+	@Test
+	void handlesTrailingSlash() {
+
+		// Actuator는 끝의 "/"가 있어도 같은 엔드포인트로 디스패치하므로 ADMIN 경로로 판단
+		assertThat(matcher.matches(request("", "/actuator/jfr/"))).isFalse();
+		assertThat(matcher.matches(request("", "/actuator/startup/"))).isFalse();
+		assertThat(matcher.matches(request("", "/actuator/health/"))).isTrue();
+
+		// 정확히 일치해야 하는 경로는 끝의 "/"가 붙으면 공개 경로가 아님 (인증 필요 쪽으로 판단)
+		assertThat(matcher.matches(request("", "/login/"))).isFalse();
+	}
+
+	@Test
+	void ignoresContextPath() {
+
+		assertThat(matcher.matches(request("/api", "/api/login"))).isTrue();
+		assertThat(matcher.matches(request("/api", "/api/actuator/health"))).isTrue();
+		assertThat(matcher.matches(request("/api", "/api/actuator/jfr"))).isFalse();
+		assertThat(matcher.matches(request("/api", "/api/actuator/%6Afr"))).isFalse();
+		assertThat(matcher.matches(request("/api", "/api/users/me"))).isFalse();
+	}
+
+	private static MockHttpServletRequest request(String contextPath, String requestUri) {
+
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+		request.setContextPath(contextPath);
+
+		return request;
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.farukgenc.boilerplate.springboot.service.user;
+
+import com.farukgenc.boilerplate.springboot.datasource.ShardRouter;
+import com.farukgenc.boilerplate.springboot.datasource.ShardingProperties;
+import com.farukgenc.boilerplate.springboot.model.user.User;
+import com.farukgenc.boilerplate.springboot.repository.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 존재 여부 필터 처음 구축 테스트
+ * 
+ * <p>애플리케이션 준비 이벤트에서 전체 사용자 읽기를 기다리지 않고 바로 돌아오는지,
+ * 구축이 끝나기 전에는 "있을 수도 있음"으로 답하고 끝난 뒤에는 없는 사용자를 걸러내는지 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class UserExistenceFilterTest {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+
+	/** 첫 페이지 조회를 붙잡아 두는 래치 (느린 전체 테이블 읽기 대신) */
+	private final CountDownLatch loadReleased = new CountDownLatch(1);
+
+	private final UserExistenceFilter userExistenceFilter = new UserExistenceFilter(userRepository, new UserExistenceFilterProperties(),
+			new ShardRouter(new ShardingProperties()), new SimpleMeterRegistry());
+
+	@AfterEach
+	void releaseLoad() {
+
+		loadReleased.countDown();
+	}
+
+	@Test
+	void buildsInBackgroundAndAnswersMaybeUntilReady() {
+
+		final User user = User.builder().id(1L).username("existing-user").email("Existing@Example.com").build();
+
+		when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenAnswer(invocation -> {
+			loadReleased.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+			return List.of(user);
+		});
+		when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Limit.class))).thenReturn(List.of());
+
+		// 읽기가 붙잡혀 있어도 리스너는 바로 돌아와야 함
+		userExistenceFilter.buildInBackground();
+
+		assertThat(userExistenceFilter.mightContainUsername("absent-user")).isTrue();
+		assertThat(userExistenceFilter.mightContainEmail("absent-user@example.com")).isTrue();
+
+		loadReleased.countDown();
+
+		awaitUntil(() -> !userExistenceFilter.mightContainUsername("absent-user"));
+
+		assertThat(userExistenceFilter.mightContainUsername("existing-user")).isTrue();
+		assertThat(userExistenceFilter.mightContainEmail("existing@example.com")).isTrue();
+		assertThat(userExistenceFilter.mightContainEmail("absent-user@example.com")).isFalse();
+	}
+
+	@Test
+	void failedBuildKeepsAnsweringMaybe() throws InterruptedException {
+
+		final CountDownLatch loadAttempted = new CountDownLatch(1);
+
+		when(userRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+			loadAttempted.countDown();
+			throw new IllegalStateException("Simulated database failure");
+		});
+
+		userExistenceFilter.buildInBackground();
+
+		assertThat(loadAttempted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(userExistenceFilter.mightContainUsername("absent-user")).isTrue();
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+
+		final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+		while (!condition.getAsBoolean()) {
+
+			assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(exception);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 블룸 필터 테스트
+ * 
+ * <p>추가한 원소는 항상 "있을 수도 있음"으로 답하는지(거짓 음성 없음),
+ * 추가하지 않은 원소의 거짓 양성 비율이 목표 확률 근처에 머무는지 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class BloomFilterTest {
+
+	private static final int INSERTIONS = 100_000;
+
+	private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+	/** 거짓 양성 비율을 측정할 추가하지 않은 원소 수 */
+	private static final int PROBES = 200_000;
+
+	/** 측정한 거짓 양성 비율이 목표 확률의 이 배수를 넘으면 실패 */
+	private static final double MAX_FALSE_POSITIVE_RATIO = 2.0;
+
+	@Test
+	void hasNoFalseNegatives() {
+
+		final BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+
+		IntStream.range(0, INSERTIONS).forEach(i -> bloomFilter.put("user-" + i));
+
+		assertThat(IntStream.range(0, INSERTIONS).filter(i -> !bloomFilter.mightContain("user-" + i)).count()).isZero();
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+
+		final BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+
+		IntStream.range(0, INSERTIONS).forEach(i -> bloomFilter.put("user-" + i + "@example.com"));
+
+		final long falsePositives = IntStream.range(0, PROBES).filter(i -> bloomFilter.mightContain("absent-" + i + "@example.com")).count();
+		final double falsePositiveRate = (double) falsePositives / PROBES;
+
+		assertThat(falsePositiveRate).as("false positive rate %f (target %f)", falsePositiveRate, FALSE_POSITIVE_PROBABILITY)
+				.isLessThanOrEqualTo(FALSE_POSITIVE_PROBABILITY * MAX_FALSE_POSITIVE_RATIO);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+
+		final BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+
+		assertThat(bloomFilter.mightContain("user-0")).isFalse();
+		assertThat(bloomFilter.mightContain("")).isFalse();
+	}
+
+	@Test
+	void rejectsInvalidArguments() {
+
+		assertThatThrownBy(() -> new BloomFilter(0, FALSE_POSITIVE_PROBABILITY)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new BloomFilter(INSERTIONS, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new BloomFilter(INSERTIONS, 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -0,0 +1,233 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 중복 호출 병합(SingleFlight) 테스트
+ * 
+ * <p>leader의 작업을 래치로 붙잡아 두고 나머지 호출이 모두 결과를 기다리는 상태가 된 뒤 풀어 주어,
+ * 병합, leader 실패 시 재실행, 완료 후 다시 실행, 대기 시간 초과를 순서에 의존하지 않고 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class SingleFlightTest {
+
+	private static final int FOLLOWERS = 7;
+
+	private static final long WAIT_MILLIS = 10_000;
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final List<Thread> followerThreads = new ArrayList<>();
+
+	@AfterEach
+	void shutdown() {
+
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallsShareOneExecution() throws Exception {
+
+		final AtomicInteger loads = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+		final Object loaded = new Object();
+
+		final Future<Object> leader = startLeader(() -> {
+			loads.incrementAndGet();
+			await(release);
+			return loaded;
+		});
+
+		final List<Future<Object>> followers = startFollowers(() -> {
+			loads.incrementAndGet();
+			return new Object();
+		});
+
+		release.countDown();
+
+		assertThat(leader.get()).isSameAs(loaded);
+		for (Future<Object> follower : followers) {
+			assertThat(follower.get()).isSameAs(loaded);
+		}
+
+		assertThat(loads).hasValue(1);
+		assertThat(singleFlight.getExecutedCount()).isEqualTo(1);
+		assertThat(singleFlight.getSharedCount()).isEqualTo(FOLLOWERS);
+		assertThat(singleFlight.getInFlightCount()).isZero();
+	}
+
+	@Test
+	void followersRetryWhenLeaderFails() throws Exception {
+
+		final AtomicInteger loads = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+		final IllegalStateException leaderFailure = new IllegalStateException("leader failed");
+
+		final Future<Object> leader = startLeader(() -> {
+			loads.incrementAndGet();
+			await(release);
+			throw leaderFailure;
+		});
+
+		// 기다리던 호출은 leader의 예외 객체를 받지 않고 각자 다시 실행 (여기서는 다시 실행해도 실패)
+		final List<Future<Object>> followers = startFollowers(() -> {
+			loads.incrementAndGet();
+			throw new IllegalStateException("follower failed");
+		});
+
+		release.countDown();
+
+		assertThatThrownBy(leader::get).isInstanceOf(ExecutionException.class).hasCause(leaderFailure);
+		for (Future<Object> follower : followers) {
+			assertThatThrownBy(follower::get).isInstanceOf(ExecutionException.class).cause()
+					.isInstanceOf(IllegalStateException.class).hasMessage("follower failed");
+		}
+
+		assertThat(loads).hasValue(1 + FOLLOWERS);
+		assertThat(singleFlight.getExecutedCount()).isEqualTo(1);
+		assertThat(singleFlight.getRetriedCount()).isEqualTo(FOLLOWERS);
+		assertThat(singleFlight.getSharedCount()).isZero();
+
+		// 실패한 키는 제거되어 다음 호출이 새로 실행
+		assertThat(singleFlight.getInFlightCount()).isZero();
+		assertThat(singleFlight.execute("key", () -> "recovered", WAIT_MILLIS)).isEqualTo("recovered");
+		assertThat(singleFlight.getExecutedCount()).isEqualTo(2);
+	}
+
+	@Test
+	void completedCallIsNotCached() {
+
+		final AtomicInteger loads = new AtomicInteger();
+
+		assertThat(singleFlight.execute("key", loads::incrementAndGet, WAIT_MILLIS)).isEqualTo(1);
+		assertThat(singleFlight.execute("key", loads::incrementAndGet, WAIT_MILLIS)).isEqualTo(2);
+
+		assertThat(singleFlight.getExecutedCount()).isEqualTo(2);
+		assertThat(singleFlight.getSharedCount()).isZero();
+	}
+
+	@Test
+	void differentKeysDoNotWaitForEachOther() {
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		startLeader(() -> {
+			await(release);
+			return "slow";
+		});
+
+		assertThat(singleFlight.execute("other-key", () -> "fast", WAIT_MILLIS)).isEqualTo("fast");
+		release.countDown();
+	}
+
+	@Test
+	void followerStopsWaitingAfterTimeout() {
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		startLeader(() -> {
+			await(release);
+			return "slow";
+		});
+
+		assertThatThrownBy(() -> singleFlight.execute("key", () -> "follower", 50)).isInstanceOf(SingleFlight.WaitTimeoutException.class);
+		assertThat(singleFlight.getTimeoutCount()).isEqualTo(1);
+		release.countDown();
+	}
+
+	/**
+	 * leader 호출 시작 (작업이 실행되어 키가 등록될 때까지 기다림)
+	 */
+	private Future<Object> startLeader(Supplier<Object> action) {
+
+		final CountDownLatch started = new CountDownLatch(1);
+
+		final Future<Object> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+			started.countDown();
+			return action.get();
+		}, WAIT_MILLIS));
+
+		await(started);
+
+		return leader;
+	}
+
+	/**
+	 * 같은 키로 호출 시작 (모두 leader의 결과를 기다리는 상태가 될 때까지 기다림)
+	 */
+	private List<Future<Object>> startFollowers(Supplier<Object> action) {
+
+		final List<Future<Object>> followers = new ArrayList<>();
+
+		for (int i = 0; i < FOLLOWERS; i++) {
+			followers.add(executor.submit(() -> {
+				synchronized (followerThreads) {
+					followerThreads.add(Thread.currentThread());
+				}
+				return singleFlight.execute("key", action, WAIT_MILLIS);
+			}));
+		}
+
+		awaitUntil(() -> {
+			synchronized (followerThreads) {
+				return followerThreads.size() == FOLLOWERS
+						&& followerThreads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING);
+			}
+		});
+
+		return followers;
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			assertThat(latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+
+		final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+		while (!condition.getAsBoolean()) {
+
+			assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+
+			try {
+				Thread.sleep(5);
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(exception);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+-- ========== 테스트용 H2 스키마 ==========
+-- db/migration과 같은 테이블을 H2(PostgreSQL 호환 모드)에서 만들 수 있는 문법으로 정의
+-- H2는 함수 인덱스/부분 인덱스를 지원하지 않으므로 lower(email) 고유성은 계산 컬럼의 고유 인덱스로 대신함
+-- 연결마다 실행되므로(INIT=RUNSCRIPT) 모두 IF NOT EXISTS 사용
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255),
+    username    VARCHAR(255),
+    password    VARCHAR(255),
+    email       VARCHAR(255),
+    user_role   VARCHAR(255),
+    email_lower VARCHAR(255) GENERATED ALWAYS AS (lower(email)),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (email_lower);
+
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type  VARCHAR(64)  NOT NULL,
+    aggregate_id    VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(128) NOT NULL,
+    payload         VARCHAR(65536) NOT NULL,
+    created_at      TIMESTAMP    NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    lease_until     TIMESTAMP,
+    last_error      VARCHAR(1024),
+    dead_at         TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS ix_outbox_events_aggregate ON outbox_events (aggregate_type, aggregate_id, id);
+
+CREATE TABLE IF NOT EXISTS user_email_directory
+(
+    email      VARCHAR(255) PRIMARY KEY,
+    username   VARCHAR(255) NOT NULL,
+    shard      INTEGER      NOT NULL,
+    created_at TIMESTAMP    NOT NULL
+);
@@ -0,0 +1,148 @@
+package com.farukgenc.boilerplate.token;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * JWKS 엔드포인트 키 세트 원본 (로컬 파일 캐시 사용)
+ * 
+ * <p>동작 방식:
+ * <ul>
+ *   <li>엔드포인트에서 JWKS 문서를 받아 캐시 파일에 저장 (임시 파일에 쓴 뒤 교체)</li>
+ *   <li>이후 요청에는 If-None-Match(ETag)를 보내 변경이 없으면(304) 이전 키 세트를 그대로 사용</li>
+ *   <li>엔드포인트에 연결할 수 없으면 마지막으로 받은 키 세트를, 프로세스 시작 직후라면 캐시 파일을 사용</li>
+ * </ul>
+ * 인증 서버가 내려가 있어도 재시작한 서비스가 마지막으로 알던 키로 토큰을 검증할 수 있습니다.
+ * 
+ * <p>HS256 키 세트는 서명 비밀 값(kty=oct의 k)을 그대로 담고 있으므로 JWKS 엔드포인트는 비밀 정보를 내려주는 곳입니다.
+ * 따라서 https URI만 허용하고, 리다이렉트는 따라가지 않습니다 (다른 호스트나 http로 넘어가 비밀 값이 노출되는 것을 방지).
+ * 엔드포인트 자체도 내부망/클라이언트 인증 등으로 접근을 제한해야 하며, 캐시 파일도 같은 수준으로 보호해야 합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class CachedJwksKeySetSource implements KeySetSource {
+
+	private final URI uri;
+
+	private final Path cacheFile;
+
+	private final Duration timeout;
+
+	private final HttpClient httpClient;
+
+	private KeySet lastKeySet;
+
+	private String lastETag;
+
+	public CachedJwksKeySetSource(URI uri, Path cacheFile, Duration timeout) {
+
+		if (!"https".equalsIgnoreCase(Objects.requireNonNull(uri).getScheme())) {
+			throw new IllegalArgumentException("JWKS URI must use https: " + uri);
+		}
+
+		this.uri = uri;
+		this.cacheFile = cacheFile;
+		this.timeout = Objects.requireNonNull(timeout);
+		this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).followRedirects(HttpClient.Redirect.NEVER).build();
+	}
+
+	@Override
+	public synchronized KeySet load() throws IOException {
+
+		try {
+			return fetch();
+		}
+		catch (IOException exception) {
+
+			if (Objects.nonNull(lastKeySet)) {
+				return lastKeySet;
+			}
+
+			if (Objects.nonNull(cacheFile) && Files.exists(cacheFile)) {
+				lastKeySet = JwksParser.parse(Files.readString(cacheFile, StandardCharsets.UTF_8));
+				return lastKeySet;
+			}
+
+			throw exception;
+		}
+	}
+
+	private KeySet fetch() throws IOException {
+
+		final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(timeout).header("Accept", "application/json").GET();
+
+		if (Objects.nonNull(lastETag) && Objects.nonNull(lastKeySet)) {
+			requestBuilder.header("If-None-Match", lastETag);
+		}
+
+		final HttpResponse<String> response;
+
+		try {
+			response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while fetching JWKS", exception);
+		}
+
+		if (response.statusCode() == 304 && Objects.nonNull(lastKeySet)) {
+			return lastKeySet;
+		}
+
+		if (response.statusCode() != 200) {
+			throw new IOException("JWKS endpoint returned " + response.statusCode());
+		}
+
+		final KeySet keySet = JwksParser.parse(response.body());
+
+		lastKeySet = keySet;
+		lastETag = response.headers().firstValue("ETag").orElse(null);
+		writeCacheFile(response.body());
+
+		return keySet;
+	}
+
+	private void writeCacheFile(String document) throws IOException {
+
+		if (Objects.isNull(cacheFile)) {
+			return;
+		}
+
+		final Path directory = Objects.requireNonNullElse(cacheFile.toAbsolutePath().getParent(), Path.of("."));
+		Files.createDirectories(directory);
+
+		final Path temporaryFile = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+
+		try {
+			Files.writeString(temporaryFile, document, StandardCharsets.UTF_8);
+
+			try {
+				Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException exception) {
+				Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	@Override
+	public String toString() {
+
+		return "jwks:" + uri;
+	}
+
+}
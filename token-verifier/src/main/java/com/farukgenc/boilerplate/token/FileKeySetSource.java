@@ -0,0 +1,39 @@
+package com.farukgenc.boilerplate.token;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * 로컬 파일 키 세트 원본
+ * 
+ * <p>JWKS 형식의 파일(시크릿 볼륨 마운트 등)을 읽습니다.
+ * 파일이 교체되면 다음 갱신 주기에 새 키 세트가 반영됩니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class FileKeySetSource implements KeySetSource {
+
+	private final Path path;
+
+	public FileKeySetSource(Path path) {
+
+		this.path = Objects.requireNonNull(path);
+	}
+
+	@Override
+	public KeySet load() throws IOException {
+
+		return JwksParser.parse(Files.readString(path, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public String toString() {
+
+		return "file:" + path;
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.farukgenc.boilerplate.token;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * HS256 서명 키
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class HmacKey {
+
+	/** 키 ID (토큰 헤더의 kid, 없으면 null) */
+	private final String keyId;
+
+	/** 키 ID의 UTF-8 바이트 (헤더 비교용) */
+	private final byte[] keyIdBytes;
+
+	private final SecretKeySpec secretKey;
+
+	public HmacKey(String keyId, byte[] secret) {
+
+		if (Objects.isNull(secret) || secret.length == 0) {
+			throw new IllegalArgumentException("HMAC key must not be empty");
+		}
+
+		this.keyId = keyId;
+		this.keyIdBytes = Objects.isNull(keyId) ? null : TokenFormat.escapeJson(keyId).getBytes(StandardCharsets.UTF_8);
+		this.secretKey = new SecretKeySpec(secret, TokenFormat.MAC_ALGORITHM);
+	}
+
+	public String getKeyId() {
+
+		return keyId;
+	}
+
+	byte[] getKeyIdBytes() {
+
+		return keyIdBytes;
+	}
+
+	SecretKeySpec getSecretKey() {
+
+		return secretKey;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+
+		if (this == other) {
+			return true;
+		}
+
+		if (!(other instanceof HmacKey hmacKey)) {
+			return false;
+		}
+
+		return Objects.equals(keyId, hmacKey.keyId) && MessageDigest.isEqual(secretKey.getEncoded(), hmacKey.secretKey.getEncoded());
+	}
+
+	@Override
+	public int hashCode() {
+
+		return Objects.hashCode(keyId) * 31 + Arrays.hashCode(secretKey.getEncoded());
+	}
+
+	@Override
+	public String toString() {
+
+		return "HmacKey[" + keyId + "]";
+	}
+
+}
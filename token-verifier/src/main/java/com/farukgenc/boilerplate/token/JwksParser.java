@@ -0,0 +1,257 @@
+package com.farukgenc.boilerplate.token;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JWKS(JSON Web Key Set) 문서 파서
+ * 
+ * <p>{"keys":[{"kty":"oct","kid":"...","k":"..."}]} 형식에서 HS256에 사용할 수 있는 대칭 키만 읽습니다.
+ * kty가 oct가 아니거나, alg가 HS256이 아니거나, use가 sig가 아닌 키는 건너뜁니다.
+ * 키 세트 갱신 때만 호출되므로 검증 경로와 달리 단순한 재귀 파서를 사용합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+final class JwksParser {
+
+	/** 문서 최대 중첩 깊이 */
+	private static final int MAX_DEPTH = 16;
+
+	private final String json;
+
+	private int position;
+
+	private JwksParser(String json) {
+
+		this.json = json;
+	}
+
+	/**
+	 * JWKS 문서에서 키 세트 읽기
+	 * 
+	 * @param document JWKS 문서
+	 * @return 키 세트 (사용할 수 있는 키가 없으면 빈 키 세트)
+	 * @throws IOException 문서 형식이 잘못된 경우
+	 */
+	static KeySet parse(String document) throws IOException {
+
+		final JwksParser parser = new JwksParser(document);
+		final Object root = parser.readValue(0);
+
+		parser.skipWhitespace();
+
+		if (parser.position != document.length() || !(root instanceof Map<?, ?> rootObject) || !(rootObject.get("keys") instanceof List<?> keyObjects)) {
+			throw new IOException("Invalid JWKS document");
+		}
+
+		final List<HmacKey> keys = new ArrayList<>(keyObjects.size());
+
+		for (Object keyObject : keyObjects) {
+
+			if (!(keyObject instanceof Map<?, ?> key) || !"oct".equals(key.get("kty"))) {
+				continue;
+			}
+
+			final Object algorithm = key.get("alg");
+			final Object use = key.get("use");
+
+			if (Objects.nonNull(algorithm) && !TokenFormat.ALGORITHM.equals(algorithm) || Objects.nonNull(use) && !"sig".equals(use)) {
+				continue;
+			}
+
+			if (!(key.get("k") instanceof String secret)) {
+				throw new IOException("JWKS key has no value");
+			}
+
+			final Object keyId = key.get("kid");
+
+			try {
+				keys.add(new HmacKey(keyId instanceof String ? (String) keyId : null, Base64.getUrlDecoder().decode(secret)));
+			}
+			catch (IllegalArgumentException exception) {
+				throw new IOException("Invalid JWKS key : " + keyId, exception);
+			}
+		}
+
+		return new KeySet(keys);
+	}
+
+	private Object readValue(int depth) throws IOException {
+
+		if (depth > MAX_DEPTH) {
+			throw error("nesting too deep");
+		}
+
+		skipWhitespace();
+
+		if (position >= json.length()) {
+			throw error("unexpected end");
+		}
+
+		final char c = json.charAt(position);
+
+		if (c == '{') {
+			return readObject(depth);
+		}
+
+		if (c == '[') {
+			return readArray(depth);
+		}
+
+		if (c == '"') {
+			return readString();
+		}
+
+		// 숫자, true, false, null (키 세트에는 필요 없으므로 문자열 그대로 보관)
+		final int start = position;
+
+		while (position < json.length() && (Character.isLetterOrDigit(json.charAt(position)) || "+-.".indexOf(json.charAt(position)) >= 0)) {
+			position++;
+		}
+
+		if (position == start) {
+			throw error("unexpected character");
+		}
+
+		final String literal = json.substring(start, position);
+		return "null".equals(literal) ? null : literal;
+	}
+
+	private Map<String, Object> readObject(int depth) throws IOException {
+
+		final Map<String, Object> object = new LinkedHashMap<>();
+		position++;
+		skipWhitespace();
+
+		if (consume('}')) {
+			return object;
+		}
+
+		do {
+			skipWhitespace();
+
+			if (position >= json.length() || json.charAt(position) != '"') {
+				throw error("expected key");
+			}
+
+			final String key = readString();
+			skipWhitespace();
+
+			if (!consume(':')) {
+				throw error("expected ':'");
+			}
+
+			object.put(key, readValue(depth + 1));
+			skipWhitespace();
+		}
+		while (consume(','));
+
+		if (!consume('}')) {
+			throw error("expected '}'");
+		}
+
+		return object;
+	}
+
+	private List<Object> readArray(int depth) throws IOException {
+
+		final List<Object> array = new ArrayList<>();
+		position++;
+		skipWhitespace();
+
+		if (consume(']')) {
+			return array;
+		}
+
+		do {
+			array.add(readValue(depth + 1));
+			skipWhitespace();
+		}
+		while (consume(','));
+
+		if (!consume(']')) {
+			throw error("expected ']'");
+		}
+
+		return array;
+	}
+
+	private String readString() throws IOException {
+
+		final StringBuilder builder = new StringBuilder();
+		position++;
+
+		while (position < json.length()) {
+
+			final char c = json.charAt(position++);
+
+			if (c == '"') {
+				return builder.toString();
+			}
+
+			if (c != '\\') {
+				builder.append(c);
+				continue;
+			}
+
+			if (position >= json.length()) {
+				break;
+			}
+
+			final char escaped = json.charAt(position++);
+
+			switch (escaped) {
+				case 'b' -> builder.append('\b');
+				case 'f' -> builder.append('\f');
+				case 'n' -> builder.append('\n');
+				case 'r' -> builder.append('\r');
+				case 't' -> builder.append('\t');
+				case '"', '\\', '/' -> builder.append(escaped);
+				case 'u' -> {
+					if (position + 4 > json.length()) {
+						throw error("invalid escape");
+					}
+					try {
+						builder.append((char) Integer.parseInt(json, position, position + 4, 16));
+					}
+					catch (NumberFormatException exception) {
+						throw error("invalid escape");
+					}
+					position += 4;
+				}
+				default -> throw error("invalid escape");
+			}
+		}
+
+		throw error("unterminated string");
+	}
+
+	private boolean consume(char expected) {
+
+		if (position < json.length() && json.charAt(position) == expected) {
+			position++;
+			return true;
+		}
+
+		return false;
+	}
+
+	private void skipWhitespace() {
+
+		while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+			position++;
+		}
+	}
+
+	private IOException error(String message) {
+
+		return new IOException("Invalid JWKS document : " + message + " at " + position);
+	}
+
+}
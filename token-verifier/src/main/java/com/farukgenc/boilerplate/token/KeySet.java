@@ -0,0 +1,72 @@
+package com.farukgenc.boilerplate.token;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 검증 키 세트
+ * 
+ * <p>키 교체 중에는 이전 키와 새 키를 함께 담아 두 키로 서명된 토큰을 모두 받아들입니다.
+ * 토큰 헤더에 kid가 있으면 같은 ID의 키로만, 없으면 등록된 순서대로 모든 키로 서명을 확인합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class KeySet {
+
+	private final List<HmacKey> keys;
+
+	private final HmacKey[] keyArray;
+
+	public KeySet(List<HmacKey> keys) {
+
+		this.keys = List.copyOf(keys);
+		this.keyArray = this.keys.toArray(new HmacKey[0]);
+	}
+
+	/**
+	 * 키 ID 없는 단일 키 세트 생성
+	 * 
+	 * @param secret 비밀 키 문자열 (UTF-8)
+	 * @return 키 세트
+	 */
+	public static KeySet of(String secret) {
+
+		return new KeySet(List.of(new HmacKey(null, secret.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	public List<HmacKey> getKeys() {
+
+		return keys;
+	}
+
+	public boolean isEmpty() {
+
+		return keyArray.length == 0;
+	}
+
+	HmacKey[] keyArray() {
+
+		return keyArray;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+
+		return this == other || other instanceof KeySet keySet && keys.equals(keySet.keys);
+	}
+
+	@Override
+	public int hashCode() {
+
+		return Objects.hashCode(keys);
+	}
+
+	@Override
+	public String toString() {
+
+		return "KeySet" + keys;
+	}
+
+}
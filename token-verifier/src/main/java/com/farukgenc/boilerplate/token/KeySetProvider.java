@@ -0,0 +1,38 @@
+package com.farukgenc.boilerplate.token;
+
+/**
+ * 현재 검증 키 세트 제공자
+ * 
+ * <p>토큰마다 호출되므로 구현은 미리 적재해 둔 키 세트를 바로 반환해야 합니다 (I/O 금지).
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@FunctionalInterface
+public interface KeySetProvider {
+
+	/**
+	 * 현재 키 세트
+	 * 
+	 * @return 키 세트
+	 */
+	KeySet current();
+
+	/**
+	 * 토큰 헤더의 kid가 현재 키 세트에 없을 때 호출 (갱신이 가능한 구현은 비동기 갱신을 요청)
+	 */
+	default void onUnknownKey() {
+	}
+
+	/**
+	 * 고정 키 세트 제공자
+	 * 
+	 * @param keySet 키 세트
+	 * @return 항상 같은 키 세트를 반환하는 제공자
+	 */
+	static KeySetProvider of(KeySet keySet) {
+
+		return () -> keySet;
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.farukgenc.boilerplate.token;
+
+import java.io.IOException;
+
+/**
+ * 키 세트 원본 (파일, JWKS 엔드포인트 등)
+ * 
+ * <p>RefreshingKeySetProvider가 주기적으로 호출하며, 토큰 검증 경로에서는 호출하지 않습니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+@FunctionalInterface
+public interface KeySetSource {
+
+	/**
+	 * 키 세트 읽기
+	 * 
+	 * @return 키 세트
+	 * @throws IOException 원본을 읽을 수 없거나 형식이 잘못된 경우
+	 */
+	KeySet load() throws IOException;
+
+}
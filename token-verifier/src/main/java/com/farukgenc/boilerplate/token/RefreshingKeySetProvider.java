@@ -0,0 +1,130 @@
+package com.farukgenc.boilerplate.token;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 주기적으로 갱신되는 키 세트 제공자
+ * 
+ * <p>생성 시 원본에서 키 세트를 한 번 읽고(실패하면 예외), 이후에는 데몬 스레드에서 refreshInterval마다 다시 읽습니다.
+ * 검증 경로는 마지막으로 읽은 키 세트를 바로 사용하므로 원본 I/O를 기다리지 않습니다.
+ * 
+ * <p>갱신 규칙:
+ * <ul>
+ *   <li>갱신에 실패하거나 빈 키 세트를 받으면 기존 키 세트를 유지 (원본 장애가 검증 장애로 번지지 않도록)</li>
+ *   <li>내용이 같은 키 세트는 교체하지 않음 (검증 결과 캐시가 불필요하게 비워지지 않도록)</li>
+ *   <li>토큰의 kid를 모르는 경우 minRefreshInterval 간격 이내에서 한 번만 즉시 갱신 (키 교체 직후 대응)</li>
+ * </ul>
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class RefreshingKeySetProvider implements KeySetProvider, AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger(RefreshingKeySetProvider.class.getName());
+
+	private final KeySetSource source;
+
+	private final long minRefreshIntervalNanos;
+
+	private final AtomicReference<KeySet> keySet = new AtomicReference<>();
+
+	private final AtomicLong lastRefreshNanos = new AtomicLong();
+
+	private final ScheduledExecutorService scheduler;
+
+	public RefreshingKeySetProvider(KeySetSource source, Duration refreshInterval, Duration minRefreshInterval) {
+
+		this.source = Objects.requireNonNull(source);
+		this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+
+		try {
+			final KeySet initialKeySet = source.load();
+
+			if (initialKeySet.isEmpty()) {
+				throw new IllegalStateException("Key set is empty : " + source);
+			}
+
+			keySet.set(initialKeySet);
+			lastRefreshNanos.set(System.nanoTime());
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException("Could not load key set : " + source, exception);
+		}
+
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "key-set-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		final long intervalMillis = refreshInterval.toMillis();
+		scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public KeySet current() {
+
+		return keySet.get();
+	}
+
+	@Override
+	public void onUnknownKey() {
+
+		final long last = lastRefreshNanos.get();
+		final long now = System.nanoTime();
+
+		if (now - last >= minRefreshIntervalNanos && lastRefreshNanos.compareAndSet(last, now)) {
+			scheduler.execute(this::refresh);
+		}
+	}
+
+	/**
+	 * 원본에서 키 세트를 다시 읽기
+	 * 
+	 * @return 키 세트가 바뀌었으면 true
+	 */
+	public boolean refresh() {
+
+		lastRefreshNanos.set(System.nanoTime());
+
+		try {
+			final KeySet loaded = source.load();
+
+			if (loaded.isEmpty()) {
+				LOGGER.warning(() -> "Ignoring empty key set from " + source);
+				return false;
+			}
+
+			final KeySet previous = keySet.get();
+
+			if (loaded.equals(previous)) {
+				return false;
+			}
+
+			keySet.set(loaded);
+			LOGGER.info(() -> "Key set refreshed from " + source + " : " + loaded.getKeys().size() + " key(s)");
+			return true;
+		}
+		catch (IOException | RuntimeException exception) {
+			LOGGER.log(Level.WARNING, exception, () -> "Key set refresh failed, keeping previous key set : " + source);
+			return false;
+		}
+	}
+
+	@Override
+	public void close() {
+
+		scheduler.shutdownNow();
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.farukgenc.boilerplate.token;
+
+/**
+ * 토큰 형식 및 클레임 규약
+ * 
+ * <p>발급 측(인증 서버)과 검증 측(이 라이브러리를 사용하는 서비스)이 공유하는 규약입니다:
+ * <ul>
+ *   <li>형식: JWS Compact Serialization (헤더.클레임.서명, 패딩 없는 Base64URL)</li>
+ *   <li>서명: HS256 (HMAC-SHA256), 헤더에 kid가 있으면 해당 키로만 검증</li>
+ *   <li>필수 클레임: sub(사용자명), role(역할), iss(발급자), exp(만료 시각, epoch 초)</li>
+ *   <li>선택 클레임: iat(발급 시각), 그 밖의 클레임은 무시</li>
+ * </ul>
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class TokenFormat {
+
+	/** 서명 알고리즘 (헤더 alg) */
+	public static final String ALGORITHM = "HS256";
+
+	/** 서명 알고리즘의 JCA 이름 */
+	public static final String MAC_ALGORITHM = "HmacSHA256";
+
+	/** 헤더: 서명 알고리즘 */
+	public static final String HEADER_ALGORITHM = "alg";
+
+	/** 헤더: 서명 키 ID */
+	public static final String HEADER_KEY_ID = "kid";
+
+	/** 클레임: 사용자명 */
+	public static final String CLAIM_SUBJECT = "sub";
+
+	/** 클레임: 사용자 역할 */
+	public static final String CLAIM_ROLE = "role";
+
+	/** 클레임: 발급자 */
+	public static final String CLAIM_ISSUER = "iss";
+
+	/** 클레임: 발급 시각 (epoch 초) */
+	public static final String CLAIM_ISSUED_AT = "iat";
+
+	/** 클레임: 만료 시각 (epoch 초) */
+	public static final String CLAIM_EXPIRES_AT = "exp";
+
+	/** Authorization 헤더의 토큰 접두사 */
+	public static final String BEARER_PREFIX = "Bearer ";
+
+	/** 허용하는 최대 토큰 길이 (이보다 긴 입력은 파싱하지 않고 거절) */
+	public static final int MAX_TOKEN_LENGTH = 4096;
+
+	/** HMAC-SHA256 서명 길이 (바이트) */
+	public static final int SIGNATURE_LENGTH = 32;
+
+	/** 패딩 없는 Base64URL로 인코딩된 서명 길이 */
+	public static final int ENCODED_SIGNATURE_LENGTH = 43;
+
+	private TokenFormat() {
+
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * JSON 문자열 이스케이프 (이스케이프가 필요 없는 일반적인 경우 원본 반환)
+	 * 
+	 * <p>발급 측은 sub, iss 값을 이 규칙으로 이스케이프하고, 검증 측은 발급자를 같은 규칙으로 비교합니다.
+	 * 
+	 * @param value 문자열
+	 * @return JSON 문자열 값으로 사용할 수 있는 문자열 (따옴표 제외)
+	 */
+	public static String escapeJson(String value) {
+
+		int firstEscape = -1;
+
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c == '"' || c == '\\' || c < 0x20) {
+				firstEscape = i;
+				break;
+			}
+		}
+
+		if (firstEscape < 0) {
+			return value;
+		}
+
+		final StringBuilder builder = new StringBuilder(value.length() + 8).append(value, 0, firstEscape);
+
+		for (int i = firstEscape; i < value.length(); i++) {
+
+			final char c = value.charAt(i);
+
+			switch (c) {
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						builder.append(String.format("\\u%04x", (int) c));
+					}
+					else {
+						builder.append(c);
+					}
+				}
+			}
+		}
+
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.farukgenc.boilerplate.token;
+
+import java.util.Objects;
+
+/**
+ * 토큰 검증 결과
+ * 
+ * <p>검증 실패를 예외 대신 상태 값으로 전달하여, 잘못된 토큰이 반복해서 들어와도
+ * 예외 생성과 스택 트레이스 수집 비용이 들지 않도록 합니다.
+ * 실패 결과는 상태별로 미리 만들어 둔 인스턴스를 재사용합니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class TokenVerificationResult {
+
+	private static final Status[] STATUSES = Status.values();
+
+	private static final TokenVerificationResult[] FAILURES = new TokenVerificationResult[STATUSES.length];
+
+	private static final TokenVerificationResult[] CACHED_FAILURES = new TokenVerificationResult[STATUSES.length];
+
+	static {
+		for (Status status : STATUSES) {
+			FAILURES[status.ordinal()] = new TokenVerificationResult(status, null, false);
+			CACHED_FAILURES[status.ordinal()] = new TokenVerificationResult(status, null, true);
+		}
+	}
+
+	/** 검증 상태 */
+	private final Status status;
+
+	/** 검증된 토큰 (검증 성공 시에만 존재) */
+	private final VerifiedToken token;
+
+	/** 캐시에서 찾은 결과인지 여부 (이미 한 번 검증된 토큰) */
+	private final boolean cached;
+
+	private TokenVerificationResult(Status status, VerifiedToken token, boolean cached) {
+
+		this.status = status;
+		this.token = token;
+		this.cached = cached;
+	}
+
+	/**
+	 * 검증 성공 결과 생성
+	 * 
+	 * @param token 검증된 토큰
+	 * @return 검증 결과
+	 */
+	static TokenVerificationResult valid(VerifiedToken token) {
+
+		return new TokenVerificationResult(Status.VALID, Objects.requireNonNull(token), false);
+	}
+
+	/**
+	 * 캐시된 검증 성공 결과 생성
+	 * 
+	 * @param token 검증된 토큰
+	 * @return 검증 결과
+	 */
+	static TokenVerificationResult cachedValid(VerifiedToken token) {
+
+		return new TokenVerificationResult(Status.VALID, Objects.requireNonNull(token), true);
+	}
+
+	/**
+	 * 검증 실패 결과 조회
+	 * 
+	 * @param status 실패 상태
+	 * @return 검증 결과 (공유 인스턴스)
+	 */
+	public static TokenVerificationResult failure(Status status) {
+
+		return FAILURES[status.ordinal()];
+	}
+
+	/**
+	 * 캐시된 검증 실패 결과 조회 (검증기 밖에서 거절된 토큰을 캐시하는 경우 사용)
+	 * 
+	 * @param status 실패 상태
+	 * @return 검증 결과 (공유 인스턴스)
+	 */
+	public static TokenVerificationResult cachedFailure(Status status) {
+
+		return CACHED_FAILURES[status.ordinal()];
+	}
+
+	public Status getStatus() {
+
+		return status;
+	}
+
+	public VerifiedToken getToken() {
+
+		return token;
+	}
+
+	public boolean isCached() {
+
+		return cached;
+	}
+
+	/**
+	 * 검증 성공 여부
+	 * 
+	 * @return 검증에 성공했으면 true
+	 */
+	public boolean isValid() {
+
+		return status == Status.VALID;
+	}
+
+	/**
+	 * 검증 상태
+	 */
+	public enum Status {
+
+		/** 유효한 토큰 */
+		VALID,
+
+		/** 형식 오류 (구분자, Base64URL, JSON) */
+		MALFORMED,
+
+		/** 지원하지 않는 서명 알고리즘 (HS256 외) */
+		UNSUPPORTED_ALGORITHM,
+
+		/** 헤더의 kid에 해당하는 키가 현재 키 세트에 없음 (키 세트 갱신 후 유효해질 수 있음) */
+		UNKNOWN_KEY,
+
+		/** 서명 불일치 */
+		INVALID_SIGNATURE,
+
+		/** 필수 클레임 누락 또는 발급자/역할 불일치 */
+		INVALID_CLAIMS,
+
+		/** 만료된 토큰 */
+		EXPIRED
+
+	}
+
+}
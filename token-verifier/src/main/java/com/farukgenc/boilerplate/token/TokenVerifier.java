@@ -0,0 +1,984 @@
+package com.farukgenc.boilerplate.token;
+
+import com.farukgenc.boilerplate.token.TokenVerificationResult.Status;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 검증기 (HS256)
+ * 
+ * <p>요청마다 호출되는 토큰 검증 경로에서 할당을 최소화한 검증기입니다:
+ * <ul>
+ *   <li>Authorization 헤더를 잘라내지 않고 접두사 다음 위치부터 바로 읽음</li>
+ *   <li>이미 검증한 토큰은 검증 결과 캐시(VerifiedTokenCache)에서 바로 반환</li>
+ *   <li>토큰 문자를 스레드별 버퍼에 한 번 옮기면서 Base64URL 문자/점 위치/길이를 검사하여 잘못된 입력은 일찍 거절</li>
+ *   <li>HMAC은 원본 바이트(헤더.클레임)에 대해 계산하고 서명은 상수 시간 비교</li>
+ *   <li>서명이 맞는 경우에만 클레임을 디코딩하며, 최소 파서로 sub, role, exp, iss만 추출 (그 밖의 클레임은 건너뜀)</li>
+ *   <li>Mac 인스턴스와 버퍼는 스레드별로 재사용하고, Mac은 키가 바뀔 때만 다시 초기화</li>
+ * </ul>
+ * 검증 실패는 예외 없이 미리 만들어 둔 실패 결과(TokenVerificationResult)로 반환합니다.
+ * 
+ * <p>헤더는 alg가 HS256인 경우만 허용합니다 (alg=none 등 알고리즘 혼동 방지).
+ * 헤더에 kid가 있으면 키 세트에서 같은 ID의 키로만 검증하고, 없으면 키 세트의 모든 키를 순서대로 시도합니다.
+ * 
+ * <p>사용 예:
+ * <pre>{@code
+ * TokenVerifier verifier = TokenVerifier.builder()
+ *         .keySetProvider(new RefreshingKeySetProvider(new FileKeySetSource(path), Duration.ofMinutes(5), Duration.ofSeconds(30)))
+ *         .issuer("www.farukgenc.com")
+ *         .roles(List.of("USER", "ADMIN"))
+ *         .build();
+ *
+ * TokenVerificationResult result = verifier.verifyBearer(request.getHeader("Authorization"));
+ * }</pre>
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class TokenVerifier {
+
+	/** 허용하는 최대 토큰 길이 */
+	private static final int MAX_TOKEN_LENGTH = TokenFormat.MAX_TOKEN_LENGTH;
+
+	/** HMAC-SHA256 서명 길이 (바이트) */
+	private static final int SIGNATURE_LENGTH = TokenFormat.SIGNATURE_LENGTH;
+
+	/** 클레임 JSON 최대 중첩 깊이 */
+	private static final int MAX_JSON_DEPTH = 16;
+
+	private static final byte[] BASE64_URL_DECODE_TABLE = new byte[128];
+
+	private static final byte[] ALG = bytes(TokenFormat.HEADER_ALGORITHM);
+
+	private static final byte[] KID = bytes(TokenFormat.HEADER_KEY_ID);
+
+	private static final byte[] HS256 = bytes(TokenFormat.ALGORITHM);
+
+	private static final byte[] SUB = bytes(TokenFormat.CLAIM_SUBJECT);
+
+	private static final byte[] ROLE = bytes(TokenFormat.CLAIM_ROLE);
+
+	private static final byte[] EXP = bytes(TokenFormat.CLAIM_EXPIRES_AT);
+
+	private static final byte[] ISS = bytes(TokenFormat.CLAIM_ISSUER);
+
+	static {
+		Arrays.fill(BASE64_URL_DECODE_TABLE, (byte) -1);
+
+		final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for (int i = 0; i < alphabet.length(); i++) {
+			BASE64_URL_DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+		}
+	}
+
+	private final KeySetProvider keySetProvider;
+
+	/** 발급자 (JSON 문자열 값 형태의 UTF-8 바이트) */
+	private final byte[] issuer;
+
+	/** 허용 역할 이름 (검증 결과에 그대로 사용하여 역할 문자열을 새로 만들지 않음) */
+	private final String[] roles;
+
+	private final byte[][] roleBytes;
+
+	/** 검증 결과 캐시 (비활성화 시 null) */
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	private final LongSupplier clock;
+
+	private final ThreadLocal<DecoderState> decoderState = ThreadLocal.withInitial(DecoderState::new);
+
+	private TokenVerifier(Builder builder) {
+
+		this.keySetProvider = Objects.requireNonNull(builder.keySetProvider, "keySetProvider");
+		this.issuer = bytes(TokenFormat.escapeJson(Objects.requireNonNull(builder.issuer, "issuer")));
+		this.roles = builder.roles.toArray(new String[0]);
+		this.roleBytes = Arrays.stream(roles).map(role -> bytes(TokenFormat.escapeJson(role))).toArray(byte[][]::new);
+		this.verifiedTokenCache = builder.cacheSize > 0 ? new VerifiedTokenCache(builder.cacheSize, builder.cacheMaxAge.toMillis()) : null;
+		this.clock = builder.clock;
+
+		if (roles.length == 0) {
+			throw new IllegalArgumentException("At least one role must be allowed");
+		}
+	}
+
+	public static Builder builder() {
+
+		return new Builder();
+	}
+
+	/**
+	 * Authorization 헤더 값의 Bearer 토큰 검증
+	 * 
+	 * @param header Authorization 헤더 값 ("Bearer " 접두사 포함)
+	 * @return 검증 결과 (접두사가 없으면 MALFORMED)
+	 */
+	public TokenVerificationResult verifyBearer(String header) {
+
+		if (Objects.isNull(header) || !header.startsWith(TokenFormat.BEARER_PREFIX)) {
+			return TokenVerificationResult.failure(Status.MALFORMED);
+		}
+
+		return verify(header, TokenFormat.BEARER_PREFIX.length());
+	}
+
+	/**
+	 * 토큰 검증
+	 * 
+	 * @param token 토큰
+	 * @return 검증 결과
+	 */
+	public TokenVerificationResult verify(String token) {
+
+		return Objects.isNull(token) ? TokenVerificationResult.failure(Status.MALFORMED) : verify(token, 0);
+	}
+
+	/**
+	 * 문자열의 지정 위치부터 끝까지를 토큰으로 보고 검증 (헤더 문자열을 잘라내지 않고 검증할 때 사용)
+	 * 
+	 * @param source 토큰을 포함한 문자열
+	 * @param offset 토큰 시작 위치
+	 * @return 검증 결과
+	 */
+	public TokenVerificationResult verify(String source, int offset) {
+
+		final int length = source.length() - offset;
+
+		if (length <= 0 || length > MAX_TOKEN_LENGTH) {
+			return TokenVerificationResult.failure(Status.MALFORMED);
+		}
+
+		final KeySet keySet = keySetProvider.current();
+		final long nowMillis = clock.getAsLong();
+
+		if (Objects.isNull(verifiedTokenCache)) {
+			return decode(source, offset, length, keySet, nowMillis);
+		}
+
+		final long hash = VerifiedTokenCache.hash(source, offset);
+		final TokenVerificationResult cachedResult = verifiedTokenCache.find(source, offset, hash, keySet, nowMillis);
+
+		if (Objects.nonNull(cachedResult)) {
+			return cachedResult;
+		}
+
+		final TokenVerificationResult result = decode(source, offset, length, keySet, nowMillis);
+
+		if (result.isValid()) {
+			verifiedTokenCache.put(source, offset, hash, keySet, result.getToken(), nowMillis);
+		}
+
+		return result;
+	}
+
+	private TokenVerificationResult decode(String source, int offset, int length, KeySet keySet, long nowMillis) {
+
+		final DecoderState state = decoderState.get();
+		final byte[] token = state.token;
+
+		// 문자 검사, 점 위치 확인, 바이트 버퍼로 복사
+		int firstDot = -1;
+		int secondDot = -1;
+
+		for (int i = 0; i < length; i++) {
+
+			final char c = source.charAt(offset + i);
+
+			if (c == '.') {
+				if (firstDot < 0) {
+					firstDot = i;
+				}
+				else if (secondDot < 0) {
+					secondDot = i;
+				}
+				else {
+					return TokenVerificationResult.failure(Status.MALFORMED);
+				}
+			}
+			else if (c >= BASE64_URL_DECODE_TABLE.length || BASE64_URL_DECODE_TABLE[c] < 0) {
+				return TokenVerificationResult.failure(Status.MALFORMED);
+			}
+
+			token[i] = (byte) c;
+		}
+
+		if (firstDot <= 0 || secondDot <= firstDot + 1 || length - secondDot - 1 != TokenFormat.ENCODED_SIGNATURE_LENGTH) {
+			return TokenVerificationResult.failure(Status.MALFORMED);
+		}
+
+		// 헤더 확인 (alg, kid)
+		final byte[] json = state.json;
+		final int headerLength = decodeBase64Url(token, 0, firstDot, json);
+
+		if (headerLength < 0) {
+			return TokenVerificationResult.failure(Status.MALFORMED);
+		}
+
+		final Status headerStatus = checkHeader(state, headerLength, keySet);
+
+		if (headerStatus != Status.VALID) {
+			if (headerStatus == Status.UNKNOWN_KEY) {
+				keySetProvider.onUnknownKey();
+			}
+			return TokenVerificationResult.failure(headerStatus);
+		}
+
+		// 서명 확인 (kid로 정한 키, 없으면 모든 키)
+		decodeBase64Url(token, secondDot + 1, length, state.signature);
+
+		final boolean signatureMatched = Objects.nonNull(state.headerKey)
+				? signatureMatches(state, state.headerKey, secondDot)
+				: anySignatureMatches(state, keySet, secondDot);
+
+		if (!signatureMatched) {
+			return TokenVerificationResult.failure(Status.INVALID_SIGNATURE);
+		}
+
+		// 클레임 확인
+		final int claimsLength = decodeBase64Url(token, firstDot + 1, secondDot, json);
+
+		return claimsLength < 0 ? TokenVerificationResult.failure(Status.MALFORMED) : parseClaims(state, claimsLength, nowMillis);
+	}
+
+	private boolean anySignatureMatches(DecoderState state, KeySet keySet, int signedLength) {
+
+		for (HmacKey key : keySet.keyArray()) {
+			if (signatureMatches(state, key, signedLength)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean signatureMatches(DecoderState state, HmacKey key, int signedLength) {
+
+		final Mac mac = state.mac(key.getSecretKey());
+		mac.update(state.token, 0, signedLength);
+
+		try {
+			mac.doFinal(state.expectedSignature, 0);
+		}
+		catch (ShortBufferException exception) {
+			throw new IllegalStateException(exception);
+		}
+
+		return MessageDigest.isEqual(state.expectedSignature, state.signature);
+	}
+
+	/**
+	 * 헤더 확인
+	 * 
+	 * @param state 디코딩 상태 (json 버퍼에 헤더가 디코딩된 상태, kid에 해당하는 키를 headerKey에 기록)
+	 * @param length 헤더 길이
+	 * @param keySet 현재 키 세트
+	 * @return alg가 HS256이고 kid가 없거나 키 세트에 있으면 VALID
+	 */
+	private Status checkHeader(DecoderState state, int length, KeySet keySet) {
+
+		final JsonReader reader = state.reader.reset(state.json, length);
+		boolean hs256 = false;
+		boolean keyIdFound = false;
+		state.headerKey = null;
+
+		if (!reader.beginObject()) {
+			return Status.MALFORMED;
+		}
+
+		while (reader.nextKey()) {
+
+			if (reader.valueKeyEquals(ALG)) {
+				if (!reader.readString()) {
+					return Status.MALFORMED;
+				}
+				if (!reader.stringEquals(HS256)) {
+					return Status.UNSUPPORTED_ALGORITHM;
+				}
+				hs256 = true;
+			}
+			else if (reader.valueKeyEquals(KID)) {
+				if (keyIdFound || !reader.readString()) {
+					return Status.MALFORMED;
+				}
+				keyIdFound = true;
+				state.headerKey = reader.matchKey(keySet);
+			}
+			else if (!reader.skipValue(0)) {
+				return Status.MALFORMED;
+			}
+		}
+
+		if (!reader.isComplete()) {
+			return Status.MALFORMED;
+		}
+
+		if (!hs256) {
+			return Status.UNSUPPORTED_ALGORITHM;
+		}
+
+		return keyIdFound && Objects.isNull(state.headerKey) ? Status.UNKNOWN_KEY : Status.VALID;
+	}
+
+	private TokenVerificationResult parseClaims(DecoderState state, int length, long nowMillis) {
+
+		final JsonReader reader = state.reader.reset(state.json, length);
+
+		int subjectStart = -1;
+		int subjectEnd = -1;
+		boolean subjectEscaped = false;
+		int roleIndex = -1;
+		long expiresAtSeconds = -1;
+		boolean issuerMatched = false;
+
+		if (!reader.beginObject()) {
+			return TokenVerificationResult.failure(Status.MALFORMED);
+		}
+
+		while (reader.nextKey()) {
+
+			if (reader.valueKeyEquals(SUB)) {
+				if (subjectStart >= 0 || !reader.readString()) {
+					return TokenVerificationResult.failure(Status.MALFORMED);
+				}
+				subjectStart = reader.stringStart;
+				subjectEnd = reader.stringEnd;
+				subjectEscaped = reader.stringEscaped;
+			}
+			else if (reader.valueKeyEquals(ROLE)) {
+				if (roleIndex >= 0 || !reader.readString()) {
+					return TokenVerificationResult.failure(Status.MALFORMED);
+				}
+				if ((roleIndex = reader.matchRole(roleBytes)) < 0) {
+					return TokenVerificationResult.failure(Status.INVALID_CLAIMS);
+				}
+			}
+			else if (reader.valueKeyEquals(EXP)) {
+				if (expiresAtSeconds >= 0 || (expiresAtSeconds = reader.readLong()) < 0) {
+					return TokenVerificationResult.failure(Status.MALFORMED);
+				}
+			}
+			else if (reader.valueKeyEquals(ISS)) {
+				if (issuerMatched || !reader.readString()) {
+					return TokenVerificationResult.failure(Status.MALFORMED);
+				}
+				if (!reader.stringEquals(issuer)) {
+					return TokenVerificationResult.failure(Status.INVALID_CLAIMS);
+				}
+				issuerMatched = true;
+			}
+			else if (!reader.skipValue(0)) {
+				return TokenVerificationResult.failure(Status.MALFORMED);
+			}
+		}
+
+		if (!reader.isComplete()) {
+			return TokenVerificationResult.failure(Status.MALFORMED);
+		}
+
+		if (subjectStart < 0 || roleIndex < 0 || !issuerMatched || expiresAtSeconds < 0) {
+			return TokenVerificationResult.failure(Status.INVALID_CLAIMS);
+		}
+
+		if (nowMillis >= expiresAtSeconds * 1000) {
+			return TokenVerificationResult.failure(Status.EXPIRED);
+		}
+
+		final byte[] json = state.json;
+		final String username = subjectEscaped
+				? unescapeJson(json, subjectStart, subjectEnd)
+				: new String(json, subjectStart, subjectEnd - subjectStart, StandardCharsets.UTF_8);
+
+		if (username.isEmpty()) {
+			return TokenVerificationResult.failure(Status.INVALID_CLAIMS);
+		}
+
+		return TokenVerificationResult.valid(new VerifiedToken(username, roles[roleIndex], expiresAtSeconds));
+	}
+
+	/**
+	 * 패딩 없는 Base64URL 디코딩 (문자 유효성은 호출 전에 확인된 상태)
+	 * 
+	 * @param source 인코딩된 바이트 배열
+	 * @param from 시작 위치
+	 * @param to 끝 위치 (제외)
+	 * @param target 대상 배열 (0부터 기록)
+	 * @return 디코딩된 길이 (길이가 올바르지 않으면 -1)
+	 */
+	private static int decodeBase64Url(byte[] source, int from, int to, byte[] target) {
+
+		final int length = to - from;
+
+		if (length % 4 == 1) {
+			return -1;
+		}
+
+		int offset = 0;
+		int i = from;
+
+		for (; i + 4 <= to; i += 4) {
+			final int bits = BASE64_URL_DECODE_TABLE[source[i]] << 18 | BASE64_URL_DECODE_TABLE[source[i + 1]] << 12
+					| BASE64_URL_DECODE_TABLE[source[i + 2]] << 6 | BASE64_URL_DECODE_TABLE[source[i + 3]];
+			target[offset++] = (byte) (bits >>> 16);
+			target[offset++] = (byte) (bits >>> 8);
+			target[offset++] = (byte) bits;
+		}
+
+		final int remaining = to - i;
+
+		if (remaining == 2) {
+			final int bits = BASE64_URL_DECODE_TABLE[source[i]] << 18 | BASE64_URL_DECODE_TABLE[source[i + 1]] << 12;
+			target[offset++] = (byte) (bits >>> 16);
+		}
+		else if (remaining == 3) {
+			final int bits = BASE64_URL_DECODE_TABLE[source[i]] << 18 | BASE64_URL_DECODE_TABLE[source[i + 1]] << 12
+					| BASE64_URL_DECODE_TABLE[source[i + 2]] << 6;
+			target[offset++] = (byte) (bits >>> 16);
+			target[offset++] = (byte) (bits >>> 8);
+		}
+
+		return offset;
+	}
+
+	/**
+	 * 이스케이프가 포함된 JSON 문자열 값 디코딩 (드문 경우이므로 단순하게 처리)
+	 * 
+	 * @param json JSON 바이트 배열
+	 * @param start 문자열 시작 위치 (따옴표 다음)
+	 * @param end 문자열 끝 위치 (닫는 따옴표)
+	 * @return 디코딩된 문자열
+	 */
+	private static String unescapeJson(byte[] json, int start, int end) {
+
+		final StringBuilder builder = new StringBuilder(end - start);
+		int runStart = start;
+		int i = start;
+
+		while (i < end) {
+
+			if (json[i] != '\\') {
+				i++;
+				continue;
+			}
+
+			builder.append(new String(json, runStart, i - runStart, StandardCharsets.UTF_8));
+
+			final byte escaped = json[i + 1];
+			switch (escaped) {
+				case 'b' -> builder.append('\b');
+				case 'f' -> builder.append('\f');
+				case 'n' -> builder.append('\n');
+				case 'r' -> builder.append('\r');
+				case 't' -> builder.append('\t');
+				case 'u' -> builder.append((char) Integer.parseInt(new String(json, i + 2, 4, StandardCharsets.US_ASCII), 16));
+				default -> builder.append((char) escaped);
+			}
+
+			i += escaped == 'u' ? 6 : 2;
+			runStart = i;
+		}
+
+		return builder.append(new String(json, runStart, end - runStart, StandardCharsets.UTF_8)).toString();
+	}
+
+	private static byte[] bytes(String value) {
+
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 스레드별 디코딩 상태 (Mac 인스턴스, 재사용 버퍼, JSON 리더)
+	 */
+	private static final class DecoderState {
+
+		private final Mac mac;
+
+		/** Mac을 마지막으로 초기화한 키 (같은 키면 다시 초기화하지 않음) */
+		private SecretKeySpec macKey;
+
+		/** 헤더의 kid에 해당하는 키 (kid가 없으면 null) */
+		private HmacKey headerKey;
+
+		private final byte[] token = new byte[MAX_TOKEN_LENGTH];
+
+		private final byte[] json = new byte[MAX_TOKEN_LENGTH];
+
+		private final byte[] signature = new byte[SIGNATURE_LENGTH];
+
+		private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+
+		private final JsonReader reader = new JsonReader();
+
+		private DecoderState() {
+
+			try {
+				this.mac = Mac.getInstance(TokenFormat.MAC_ALGORITHM);
+			}
+			catch (NoSuchAlgorithmException exception) {
+				throw new IllegalStateException("Could not initialize " + TokenFormat.MAC_ALGORITHM, exception);
+			}
+		}
+
+		/**
+		 * 지정한 키로 초기화된 Mac
+		 * 
+		 * @param key 서명 키
+		 * @return Mac 인스턴스
+		 */
+		private Mac mac(SecretKeySpec key) {
+
+			if (macKey != key) {
+				try {
+					mac.init(key);
+				}
+				catch (InvalidKeyException exception) {
+					throw new IllegalStateException("Could not initialize " + TokenFormat.MAC_ALGORITHM, exception);
+				}
+				macKey = key;
+			}
+
+			return mac;
+		}
+
+	}
+
+	/**
+	 * 최소 JSON 리더
+	 * 
+	 * <p>최상위 객체의 키를 순서대로 읽고, 필요한 값만 문자열/정수로 읽으며 나머지 값은 구조만 확인하고 건너뜁니다.
+	 * 읽은 문자열은 새 객체를 만들지 않고 버퍼 안의 위치(stringStart, stringEnd)로만 가리킵니다.
+	 */
+	private static final class JsonReader {
+
+		private byte[] json;
+
+		private int limit;
+
+		private int position;
+
+		private int keyStart;
+
+		private int keyEnd;
+
+		private int stringStart;
+
+		private int stringEnd;
+
+		private boolean stringEscaped;
+
+		private boolean first;
+
+		private JsonReader reset(byte[] json, int limit) {
+
+			this.json = json;
+			this.limit = limit;
+			this.position = 0;
+			return this;
+		}
+
+		private boolean beginObject() {
+
+			skipWhitespace();
+
+			if (position >= limit || json[position] != '{') {
+				return false;
+			}
+
+			position++;
+			first = true;
+			return true;
+		}
+
+		/**
+		 * 다음 키와 콜론까지 읽기
+		 * 
+		 * @return 키를 읽었으면 true, 객체가 끝났거나 형식이 잘못되었으면 false (isComplete로 구분)
+		 */
+		private boolean nextKey() {
+
+			skipWhitespace();
+
+			if (position >= limit || json[position] == '}') {
+				return false;
+			}
+
+			if (!first) {
+				if (json[position] != ',') {
+					position = -1;
+					return false;
+				}
+				position++;
+				skipWhitespace();
+			}
+
+			first = false;
+
+			if (!readString()) {
+				position = -1;
+				return false;
+			}
+
+			keyStart = stringStart;
+			keyEnd = stringEnd;
+
+			skipWhitespace();
+
+			if (position >= limit || json[position] != ':') {
+				position = -1;
+				return false;
+			}
+
+			position++;
+			skipWhitespace();
+			return true;
+		}
+
+		/**
+		 * 객체가 닫는 괄호로 끝났고 뒤에 공백 외 내용이 없는지 확인
+		 * 
+		 * @return 올바르게 끝났으면 true
+		 */
+		private boolean isComplete() {
+
+			if (position < 0 || position >= limit || json[position] != '}') {
+				return false;
+			}
+
+			position++;
+			skipWhitespace();
+			return position == limit;
+		}
+
+		private boolean valueKeyEquals(byte[] expected) {
+
+			return Arrays.equals(json, keyStart, keyEnd, expected, 0, expected.length);
+		}
+
+		private boolean stringEquals(byte[] expected) {
+
+			return !stringEscaped && Arrays.equals(json, stringStart, stringEnd, expected, 0, expected.length);
+		}
+
+		/**
+		 * 읽은 문자열과 같은 역할 찾기
+		 * 
+		 * @param roles 허용 역할 이름 (UTF-8 바이트)
+		 * @return 역할 위치 (없으면 -1)
+		 */
+		private int matchRole(byte[][] roles) {
+
+			for (int i = 0; i < roles.length; i++) {
+				if (stringEquals(roles[i])) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * 읽은 문자열과 키 ID가 같은 키 찾기 (이스케이프된 형태 그대로 비교)
+		 * 
+		 * @param keySet 키 세트
+		 * @return 키 (없으면 null)
+		 */
+		private HmacKey matchKey(KeySet keySet) {
+
+			for (HmacKey key : keySet.keyArray()) {
+
+				final byte[] keyId = key.getKeyIdBytes();
+
+				if (Objects.nonNull(keyId) && Arrays.equals(json, stringStart, stringEnd, keyId, 0, keyId.length)) {
+					return key;
+				}
+			}
+
+			return null;
+		}
+
+		private boolean readString() {
+
+			if (position >= limit || json[position] != '"') {
+				return false;
+			}
+
+			stringStart = ++position;
+			stringEscaped = false;
+
+			while (position < limit) {
+
+				final byte b = json[position];
+
+				if (b == '"') {
+					stringEnd = position++;
+					return true;
+				}
+
+				if (b == '\\') {
+					if (position + 1 >= limit) {
+						return false;
+					}
+
+					final byte escaped = json[position + 1];
+
+					if (escaped == 'u') {
+						if (position + 6 > limit || !isHex(position + 2, 4)) {
+							return false;
+						}
+						position += 6;
+					}
+					else if (escaped == '"' || escaped == '\\' || escaped == '/' || escaped == 'b' || escaped == 'f' || escaped == 'n' || escaped == 'r' || escaped == 't') {
+						position += 2;
+					}
+					else {
+						return false;
+					}
+
+					stringEscaped = true;
+					continue;
+				}
+
+				if ((b & 0xff) < 0x20) {
+					return false;
+				}
+
+				position++;
+			}
+
+			return false;
+		}
+
+		/**
+		 * 음이 아닌 정수 읽기 (소수, 지수 표기는 허용하지 않음)
+		 * 
+		 * @return 읽은 값 (형식이 잘못되었거나 범위를 넘으면 -1)
+		 */
+		private long readLong() {
+
+			final int start = position;
+			long value = 0;
+
+			while (position < limit && json[position] >= '0' && json[position] <= '9') {
+
+				if (value > (Long.MAX_VALUE - 9) / 10) {
+					return -1;
+				}
+
+				value = value * 10 + (json[position++] - '0');
+			}
+
+			return position == start ? -1 : value;
+		}
+
+		private boolean skipValue(int depth) {
+
+			if (depth > MAX_JSON_DEPTH || position >= limit) {
+				return false;
+			}
+
+			final byte b = json[position];
+
+			if (b == '"') {
+				return readString();
+			}
+
+			if (b == '{' || b == '[') {
+
+				final byte close = b == '{' ? (byte) '}' : (byte) ']';
+				position++;
+				skipWhitespace();
+
+				if (position < limit && json[position] == close) {
+					position++;
+					return true;
+				}
+
+				while (true) {
+
+					if (b == '{') {
+						if (!readString()) {
+							return false;
+						}
+						skipWhitespace();
+						if (position >= limit || json[position++] != ':') {
+							return false;
+						}
+						skipWhitespace();
+					}
+
+					if (!skipValue(depth + 1)) {
+						return false;
+					}
+
+					skipWhitespace();
+
+					if (position >= limit) {
+						return false;
+					}
+
+					if (json[position] == close) {
+						position++;
+						return true;
+					}
+
+					if (json[position++] != ',') {
+						return false;
+					}
+
+					skipWhitespace();
+				}
+			}
+
+			// 숫자, true, false, null
+			final int start = position;
+
+			while (position < limit && (Character.isLetterOrDigit(json[position]) || json[position] == '-' || json[position] == '+' || json[position] == '.')) {
+				position++;
+			}
+
+			return position > start;
+		}
+
+		private boolean isHex(int from, int count) {
+
+			for (int i = from; i < from + count; i++) {
+				if (Character.digit(json[i], 16) < 0) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private void skipWhitespace() {
+
+			while (position >= 0 && position < limit && (json[position] == ' ' || json[position] == '\t' || json[position] == '\n' || json[position] == '\r')) {
+				position++;
+			}
+		}
+
+	}
+
+	/**
+	 * 검증기 빌더
+	 */
+	public static final class Builder {
+
+		private KeySetProvider keySetProvider;
+
+		private String issuer;
+
+		private List<String> roles = List.of();
+
+		private int cacheSize = 4096;
+
+		private Duration cacheMaxAge = Duration.ofMinutes(1);
+
+		private LongSupplier clock = System::currentTimeMillis;
+
+		private Builder() {
+		}
+
+		/**
+		 * 키 세트 제공자 (필수)
+		 * 
+		 * @param keySetProvider 키 세트 제공자
+		 * @return 빌더
+		 */
+		public Builder keySetProvider(KeySetProvider keySetProvider) {
+
+			this.keySetProvider = keySetProvider;
+			return this;
+		}
+
+		/**
+		 * 고정 키 세트
+		 * 
+		 * @param keySet 키 세트
+		 * @return 빌더
+		 */
+		public Builder keySet(KeySet keySet) {
+
+			return keySetProvider(KeySetProvider.of(keySet));
+		}
+
+		/**
+		 * 허용 발급자 (필수, iss 클레임과 정확히 일치해야 함)
+		 * 
+		 * @param issuer 발급자
+		 * @return 빌더
+		 */
+		public Builder issuer(String issuer) {
+
+			this.issuer = issuer;
+			return this;
+		}
+
+		/**
+		 * 허용 역할 이름 (필수, role 클레임이 이 중 하나여야 함)
+		 * 
+		 * @param roles 역할 이름
+		 * @return 빌더
+		 */
+		public Builder roles(Collection<String> roles) {
+
+			this.roles = new ArrayList<>(roles);
+			return this;
+		}
+
+		/**
+		 * 검증 결과 캐시 크기 (0이면 캐시 사용 안 함, 2의 거듭제곱으로 올림)
+		 * 
+		 * @param cacheSize 최대 항목 수
+		 * @return 빌더
+		 */
+		public Builder cacheSize(int cacheSize) {
+
+			this.cacheSize = cacheSize;
+			return this;
+		}
+
+		/**
+		 * 검증 결과 캐시 항목 최대 유지 시간 (토큰 만료 시각이 더 이르면 만료 시각까지)
+		 * 
+		 * @param cacheMaxAge 최대 유지 시간
+		 * @return 빌더
+		 */
+		public Builder cacheMaxAge(Duration cacheMaxAge) {
+
+			this.cacheMaxAge = Objects.requireNonNull(cacheMaxAge);
+			return this;
+		}
+
+		/**
+		 * 현재 시각 (epoch 밀리초) 제공 함수
+		 * 
+		 * @param clock 시각 제공 함수
+		 * @return 빌더
+		 */
+		public Builder clock(LongSupplier clock) {
+
+			this.clock = Objects.requireNonNull(clock);
+			return this;
+		}
+
+		public TokenVerifier build() {
+
+			return new TokenVerifier(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.farukgenc.boilerplate.token;
+
+/**
+ * 검증된 토큰
+ * 
+ * <p>서명, 발급자, 역할, 만료 검증을 통과한 토큰에서 인증에 필요한 클레임만 담은 불변 객체입니다.
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+public final class VerifiedToken {
+
+	/** 사용자명 (sub 클레임) */
+	private final String username;
+
+	/** 사용자 역할 (role 클레임, 검증기에 등록한 역할 이름 중 하나) */
+	private final String role;
+
+	/** 만료 시각 (exp 클레임, epoch 초) */
+	private final long expiresAtSeconds;
+
+	public VerifiedToken(String username, String role, long expiresAtSeconds) {
+
+		this.username = username;
+		this.role = role;
+		this.expiresAtSeconds = expiresAtSeconds;
+	}
+
+	public String getUsername() {
+
+		return username;
+	}
+
+	public String getRole() {
+
+		return role;
+	}
+
+	public long getExpiresAtSeconds() {
+
+		return expiresAtSeconds;
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.farukgenc.boilerplate.token;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 검증된 토큰 캐시
+ * 
+ * <p>같은 토큰이 만료 전까지 여러 번 들어오는 일반적인 경우, 두 번째부터는 Base64 디코딩, HMAC 계산,
+ * 클레임 파싱 없이 해시 한 번과 문자열 비교만으로 이전 검증 결과를 반환합니다.
+ * 
+ * <p>구조:
+ * <ul>
+ *   <li>고정 크기 배열에 토큰 문자열의 64비트 해시로 슬롯을 정하는 직접 매핑 방식 (락 없음, 크기 고정)</li>
+ *   <li>슬롯 충돌 시 새 항목이 기존 항목을 덮어씀 (별도 제거 작업 불필요)</li>
+ *   <li>항목에 토큰 원문을 함께 보관하여 해시가 같아도 원문이 다르면 캐시를 사용하지 않음 (오탐 없음)</li>
+ *   <li>항목은 토큰 만료 시각과 maxAge 중 이른 시각까지만 유효</li>
+ *   <li>항목은 검증에 사용한 키 세트에 묶이므로 키 세트가 바뀌면 다시 검증 (제거된 키로 서명된 토큰 거절)</li>
+ * </ul>
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+final class VerifiedTokenCache {
+
+	private final AtomicReferenceArray<Entry> entries;
+
+	private final int mask;
+
+	private final long maxAgeMillis;
+
+	VerifiedTokenCache(int maxEntries, long maxAgeMillis) {
+
+		final int capacity = Integer.highestOneBit(Math.max(1, maxEntries - 1)) << 1;
+		this.entries = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+		this.maxAgeMillis = maxAgeMillis;
+	}
+
+	/**
+	 * 이미 검증된 토큰인지 조회
+	 * 
+	 * @param source 토큰을 포함한 문자열
+	 * @param offset 토큰 시작 위치
+	 * @param hash 토큰 해시
+	 * @param keySet 현재 키 세트
+	 * @param nowMillis 현재 시각
+	 * @return 캐시된 검증 결과 (없으면 null)
+	 */
+	TokenVerificationResult find(String source, int offset, long hash, KeySet keySet, long nowMillis) {
+
+		final Entry entry = entries.get(slot(hash));
+
+		if (Objects.isNull(entry) || entry.hash != hash || entry.keySet != keySet || entry.expiresAtMillis <= nowMillis) {
+			return null;
+		}
+
+		final int length = source.length() - offset;
+
+		if (entry.token.length() != length || !source.regionMatches(offset, entry.token, 0, length)) {
+			return null;
+		}
+
+		return entry.result;
+	}
+
+	/**
+	 * 검증 성공 결과 기록
+	 * 
+	 * @param source 토큰을 포함한 문자열
+	 * @param offset 토큰 시작 위치
+	 * @param hash 토큰 해시
+	 * @param keySet 검증에 사용한 키 세트
+	 * @param token 검증된 토큰
+	 * @param nowMillis 현재 시각
+	 */
+	void put(String source, int offset, long hash, KeySet keySet, VerifiedToken token, long nowMillis) {
+
+		final long expiresAtMillis = Math.min(token.getExpiresAtSeconds() * 1000, nowMillis + maxAgeMillis);
+		final Entry entry = new Entry(hash, source.substring(offset), keySet, TokenVerificationResult.cachedValid(token), expiresAtMillis);
+
+		entries.set(slot(hash), entry);
+	}
+
+	private int slot(long hash) {
+
+		return (int) (hash ^ hash >>> 32) & mask;
+	}
+
+	/**
+	 * 토큰 문자열의 64비트 해시 (FNV-1a)
+	 * 
+	 * @param source 토큰을 포함한 문자열
+	 * @param offset 토큰 시작 위치
+	 * @return 해시 값
+	 */
+	static long hash(String source, int offset) {
+
+		long hash = 0xcbf29ce484222325L;
+
+		for (int i = offset; i < source.length(); i++) {
+			hash ^= source.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+
+		return hash;
+	}
+
+	/**
+	 * 캐시 항목 (캐시 적중 시 새 객체를 만들지 않도록 결과 객체를 그대로 보관)
+	 */
+	private record Entry(long hash, String token, KeySet keySet, TokenVerificationResult result, long expiresAtMillis) {
+	}
+
+}
@@ -0,0 +1,163 @@
+package com.farukgenc.boilerplate.token;
+
+import com.farukgenc.boilerplate.token.TokenVerificationResult.Status;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TokenVerifier 검증 결과 테스트
+ * 
+ * @author Faruk
+ * @since 2026년 10월
+ */
+class TokenVerifierTest {
+
+	private static final String ISSUER = "www.farukgenc.com";
+
+	private static final String SECRET = "test-secret-key-for-token-verifier-0123456789";
+
+	/** 테스트 기준 시각 (epoch 초) */
+	private static final long NOW_SECONDS = 1_800_000_000L;
+
+	@Test
+	void acceptsValidToken() {
+
+		final TokenVerifier verifier = verifier(KeySet.of(SECRET));
+		final String token = sign(header(null), claims("faruk", "USER", NOW_SECONDS + 60), SECRET);
+
+		final TokenVerificationResult result = verifier.verify(token);
+
+		assertTrue(result.isValid());
+		assertEquals("faruk", result.getToken().getUsername());
+		assertEquals("USER", result.getToken().getRole());
+		assertEquals(NOW_SECONDS + 60, result.getToken().getExpiresAtSeconds());
+		assertTrue(verifier.verifyBearer(TokenFormat.BEARER_PREFIX + token).isValid());
+	}
+
+	@Test
+	void rejectsExpiredToken() {
+
+		final TokenVerifier verifier = verifier(KeySet.of(SECRET));
+		final String token = sign(header(null), claims("faruk", "USER", NOW_SECONDS - 1), SECRET);
+
+		assertEquals(Status.EXPIRED, verifier.verify(token).getStatus());
+	}
+
+	@Test
+	void rejectsTokenSignedWithAnotherKey() {
+
+		final TokenVerifier verifier = verifier(KeySet.of(SECRET));
+		final String token = sign(header(null), claims("faruk", "USER", NOW_SECONDS + 60), "another-secret-key-0123456789");
+
+		assertEquals(Status.INVALID_SIGNATURE, verifier.verify(token).getStatus());
+	}
+
+	@Test
+	void rejectsTamperedClaims() {
+
+		final TokenVerifier verifier = verifier(KeySet.of(SECRET));
+		final String token = sign(header(null), claims("faruk", "USER", NOW_SECONDS + 60), SECRET);
+		final String signature = token.substring(token.lastIndexOf('.'));
+		final String tampered = encode(header(null)) + "." + encode(claims("faruk", "ADMIN", NOW_SECONDS + 60)) + signature;
+
+		assertEquals(Status.INVALID_SIGNATURE, verifier.verify(tampered).getStatus());
+	}
+
+	@Test
+	void rejectsUnknownKeyId() {
+
+		final KeySet keySet = new KeySet(List.of(new HmacKey("key-1", SECRET.getBytes(StandardCharsets.UTF_8))));
+		final TokenVerifier verifier = verifier(keySet);
+
+		final String known = sign(header("key-1"), claims("faruk", "USER", NOW_SECONDS + 60), SECRET);
+		final String unknown = sign(header("key-2"), claims("faruk", "USER", NOW_SECONDS + 60), SECRET);
+
+		assertTrue(verifier.verify(known).isValid());
+		assertEquals(Status.UNKNOWN_KEY, verifier.verify(unknown).getStatus());
+	}
+
+	@Test
+	void expiresCachedToken() {
+
+		final long[] nowMillis = {NOW_SECONDS * 1000};
+		final TokenVerifier verifier = TokenVerifier.builder()
+				.keySet(KeySet.of(SECRET))
+				.issuer(ISSUER)
+				.roles(List.of("USER", "ADMIN"))
+				.clock(() -> nowMillis[0])
+				.build();
+
+		final String token = sign(header(null), claims("faruk", "USER", NOW_SECONDS + 60), SECRET);
+
+		assertTrue(verifier.verify(token).isValid());
+		assertTrue(verifier.verify(token).isCached());
+
+		// 캐시된 토큰도 만료 시각이 지나면 거절
+		nowMillis[0] = (NOW_SECONDS + 60) * 1000;
+		assertFalse(verifier.verify(token).isValid());
+	}
+
+	@Test
+	void jwksSourceRequiresHttps() {
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new CachedJwksKeySetSource(URI.create("http://auth.example.com/jwks"), null, Duration.ofSeconds(1)));
+	}
+
+	private static TokenVerifier verifier(KeySet keySet) {
+
+		return TokenVerifier.builder()
+				.keySet(keySet)
+				.issuer(ISSUER)
+				.roles(List.of("USER", "ADMIN"))
+				.cacheSize(0)
+				.clock(() -> NOW_SECONDS * 1000)
+				.build();
+	}
+
+	private static String header(String keyId) {
+
+		return keyId == null
+				? "{\"alg\":\"HS256\",\"typ\":\"JWT\"}"
+				: "{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + keyId + "\"}";
+	}
+
+	private static String claims(String username, String role, long expiresAtSeconds) {
+
+		return "{\"sub\":\"" + username + "\",\"iss\":\"" + ISSUER + "\",\"role\":\"" + role + "\",\"iat\":" + (NOW_SECONDS - 60)
+				+ ",\"exp\":" + expiresAtSeconds + "}";
+	}
+
+	private static String sign(String header, String claims, String secret) {
+
+		final String signingInput = encode(header) + "." + encode(claims);
+
+		try {
+			final Mac mac = Mac.getInstance(TokenFormat.MAC_ALGORITHM);
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), TokenFormat.MAC_ALGORITHM));
+			return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+		}
+		catch (GeneralSecurityException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	private static String encode(String json) {
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+}